@@ -0,0 +1,153 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.entry.types.StandardEntryType;
+
+/**
+ * Generates libraries which resemble real ones: entries of the common types with several authors out of a limited set
+ * of names, titles made of common words, recurring journals and keywords, and a few near duplicates. The same size
+ * always results in the same library, so that runs can be compared.
+ */
+class BenchmarkLibrary {
+
+    private static final String[] FIRST_NAMES = {
+            "Anna", "Ben", "Carla", "David", "Elena", "Felix", "Grace", "Hiroshi", "Ines", "Jan", "Katarzyna", "Liam",
+            "Maria", "Noah", "Olga", "Pedro", "Qiang", "Rosa", "Stefan", "Tomasz", "Ulrike", "Victor", "Wei", "Yara"
+    };
+    private static final String[] LAST_NAMES = {
+            "Müller", "Smith", "Nakamura", "García", "Kowalski", "Rossi", "Johansson", "Dubois", "Novak", "Chen",
+            "Okafor", "Petrov", "Silva", "Schmidt", "Nguyen", "Van der Berg", "O'Brien", "Fischer", "Ivanova", "Kim",
+            "Martínez", "Andersson", "Weber", "Tanaka", "Costa", "Becker", "Horváth", "Yilmaz", "Larsen", "Singh"
+    };
+    private static final String[] TITLE_WORDS = {
+            "analysis", "approach", "learning", "networks", "distributed", "systems", "efficient", "model", "data",
+            "optimization", "framework", "evaluation", "semantic", "graph", "parallel", "scalable", "robust", "deep",
+            "survey", "algorithms", "adaptive", "bibliographic", "retrieval", "towards", "a", "for", "of", "on", "the",
+            "with", "{B}ayesian", "{M}onte {C}arlo", "$\\alpha$-stable", "Schr\\\"{o}dinger", "quantum", "software"
+    };
+    private static final String[] JOURNALS = {
+            "Journal of Machine Learning Research", "IEEE Transactions on Software Engineering", "Nature",
+            "Communications of the ACM", "Physical Review Letters", "Information Processing Letters",
+            "Journal of Documentation", "Scientometrics", "Bioinformatics", "ACM Computing Surveys"
+    };
+    private static final String[] BOOKTITLES = {
+            "Proceedings of the International Conference on Software Engineering",
+            "Proceedings of the Joint Conference on Digital Libraries",
+            "Advances in Neural Information Processing Systems",
+            "Theory and Practice of Digital Libraries"
+    };
+    private static final String[] PUBLISHERS = {"Springer", "Elsevier", "ACM", "IEEE", "Wiley", "MIT Press"};
+    private static final String[] KEYWORDS = {
+            "testkeyword", "machine learning", "citation analysis", "digital libraries", "software engineering",
+            "information retrieval", "metadata", "open access", "reproducibility", "visualization"
+    };
+    private static final double DUPLICATE_RATE = 0.02;
+
+    private BenchmarkLibrary() {
+    }
+
+    static BibDatabase create(int numberOfEntries) {
+        Random random = new Random(numberOfEntries);
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            if ((i > 0) && (random.nextDouble() < DUPLICATE_RATE)) {
+                entries.add(createNearDuplicate(entries.get(random.nextInt(i)), i));
+            } else {
+                entries.add(createEntry(random, i));
+            }
+        }
+        return new BibDatabase(entries);
+    }
+
+    private static BibEntry createEntry(Random random, int number) {
+        double kind = random.nextDouble();
+        EntryType type = kind < 0.6 ? StandardEntryType.Article : (kind < 0.9 ? StandardEntryType.InProceedings : StandardEntryType.Book);
+        String year = String.valueOf(1950 + random.nextInt(74));
+        BibEntry entry = new BibEntry(type)
+                .withCitationKey("key" + number)
+                .withField(StandardField.AUTHOR, createAuthors(random))
+                .withField(StandardField.TITLE, createTitle(random))
+                .withField(StandardField.YEAR, year)
+                .withField(StandardField.KEYWORDS, createKeywords(random));
+
+        if (type == StandardEntryType.Article) {
+            entry.setField(StandardField.JOURNAL, pick(random, JOURNALS));
+            entry.setField(StandardField.VOLUME, String.valueOf(1 + random.nextInt(60)));
+            entry.setField(StandardField.NUMBER, String.valueOf(1 + random.nextInt(12)));
+        } else if (type == StandardEntryType.InProceedings) {
+            entry.setField(StandardField.BOOKTITLE, pick(random, BOOKTITLES) + " " + year);
+        } else {
+            entry.setField(StandardField.PUBLISHER, pick(random, PUBLISHERS));
+            entry.setField(StandardField.ADDRESS, "Berlin");
+        }
+        if (type != StandardEntryType.Book) {
+            int firstPage = 1 + random.nextInt(900);
+            entry.setField(StandardField.PAGES, firstPage + "--" + (firstPage + 5 + random.nextInt(30)));
+        }
+        if (random.nextDouble() < 0.7) {
+            entry.setField(StandardField.DOI, "10." + (1000 + random.nextInt(9000)) + "/bench." + number);
+        }
+        if (random.nextDouble() < 0.3) {
+            entry.setField(StandardField.ABSTRACT, createTitle(random) + ". " + createTitle(random) + ". " + createTitle(random) + ".");
+        }
+        return entry;
+    }
+
+    /**
+     * Copies the entry with a differently cased title and without DOI, as happens when an entry is imported twice.
+     */
+    private static BibEntry createNearDuplicate(BibEntry original, int number) {
+        BibEntry duplicate = (BibEntry) original.clone();
+        duplicate.setCitationKey("key" + number);
+        original.getField(StandardField.TITLE).ifPresent(title -> duplicate.setField(StandardField.TITLE, title.toUpperCase()));
+        duplicate.clearField(StandardField.DOI);
+        return duplicate;
+    }
+
+    private static String createAuthors(Random random) {
+        int numberOfAuthors = 1 + random.nextInt(random.nextDouble() < 0.9 ? 4 : 12);
+        List<String> authors = new ArrayList<>(numberOfAuthors);
+        for (int i = 0; i < numberOfAuthors; i++) {
+            String lastName = pick(random, LAST_NAMES);
+            String firstName = pick(random, FIRST_NAMES);
+            authors.add(random.nextBoolean() ? lastName + ", " + firstName : firstName + " " + lastName);
+        }
+        return String.join(" and ", authors);
+    }
+
+    private static String createTitle(Random random) {
+        int numberOfWords = 6 + random.nextInt(9);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < numberOfWords; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            String word = pick(random, TITLE_WORDS);
+            title.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+        }
+        return title.toString();
+    }
+
+    private static String createKeywords(Random random) {
+        int numberOfKeywords = 1 + random.nextInt(4);
+        List<String> keywords = new ArrayList<>(numberOfKeywords);
+        for (int i = 0; i < numberOfKeywords; i++) {
+            String keyword = pick(random, KEYWORDS);
+            if (!keywords.contains(keyword)) {
+                keywords.add(keyword);
+            }
+        }
+        return String.join(", ", keywords);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -5,10 +5,12 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.jabref.gui.Globals;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
@@ -26,9 +28,9 @@ import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.field.StandardField;
-import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.KeywordGroup;
+import org.jabref.model.groups.SearchGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
@@ -38,6 +40,7 @@ import org.jabref.preferences.JabRefPreferences;
 
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -48,8 +51,11 @@ import static org.mockito.Mockito.mock;
 @State(Scope.Thread)
 public class Benchmarks {
 
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
     private String bibtexString;
-    private final BibDatabase database = new BibDatabase();
+    private BibDatabase database;
     private String latexConversionString;
     private String htmlConversionString;
 
@@ -57,18 +63,7 @@ public class Benchmarks {
     public void init() throws Exception {
         Globals.prefs = JabRefPreferences.getInstance();
 
-        Random randomizer = new Random();
-        for (int i = 0; i < 1000; i++) {
-            BibEntry entry = new BibEntry();
-            entry.setCitationKey("id" + i);
-            entry.setField(StandardField.TITLE, "This is my title " + i);
-            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
-            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
-            entry.setField(StandardField.KEYWORDS, "testkeyword");
-            entry.setField(StandardField.YEAR, "1" + i);
-            entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
-            database.insertEntry(entry);
-        }
+        database = BenchmarkLibrary.create(numberOfEntries);
 
         bibtexString = getOutputWriter().toString();
 
@@ -96,20 +91,31 @@ public class Benchmarks {
         return getOutputWriter().toString();
     }
 
+    // The searches filter the entries the same way as the main table does
     @Benchmark
     public List<BibEntry> search() {
-        // FIXME: Reuse SearchWorker here
-        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
+        SearchQuery searchQuery = new SearchQuery("Communications of the ACM", EnumSet.noneOf(SearchFlags.class));
         return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
     @Benchmark
     public List<BibEntry> parallelSearch() {
-        // FIXME: Reuse SearchWorker here
-        SearchQuery searchQuery = new SearchQuery("Journal Title 500", EnumSet.noneOf(SearchFlags.class));
+        SearchQuery searchQuery = new SearchQuery("Communications of the ACM", EnumSet.noneOf(SearchFlags.class));
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> regularExpressionSearch() {
+        SearchQuery searchQuery = new SearchQuery("Schmidt|Nakamura.*20[01][0-9]", EnumSet.of(SearchFlags.REGULAR_EXPRESSION));
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> grammarBasedSearch() {
+        SearchQuery searchQuery = new SearchQuery("author = Smith and (year > 1990 or keywords = \"open access\")", EnumSet.noneOf(SearchFlags.class));
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -139,6 +145,29 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public boolean searchGroupContains() {
+        SearchGroup group = new SearchGroup("testGroup", GroupHierarchyType.INDEPENDENT, "journal = Nature or booktitle = Advances", EnumSet.noneOf(SearchFlags.class));
+        return group.containsAll(database.getEntries());
+    }
+
+    @Benchmark
+    public List<String> generateCitationKeys() {
+        GlobalCitationKeyPattern keyPattern = GlobalCitationKeyPattern.fromPattern("[auth][year][shorttitle]");
+        CitationKeyPatternPreferences preferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                keyPattern,
+                ',');
+        CitationKeyGenerator keyGenerator = new CitationKeyGenerator(keyPattern, database, preferences);
+        return database.getEntries().stream().map(keyGenerator::generateKey).collect(Collectors.toList());
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
@@ -0,0 +1,130 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.gui.Globals;
+import org.jabref.gui.autocompleter.PersonNameSuggestionProvider;
+import org.jabref.gui.autocompleter.WordSuggestionProvider;
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the operations which work on the entries of a library after it was loaded.
+ */
+@State(Scope.Thread)
+public class EntryProcessingBenchmarks {
+
+    // Rendering citations is slow, so a fixed number of entries is rendered independent of the library size
+    private static final int NUMBER_OF_CITATIONS = 50;
+
+    private static final String LAYOUT = "<b>\\format[Authors(LastFirst,Initials)]{\\author}</b>: \\format[HTMLChars]{\\title}. "
+            + "\\begin{journal}<i>\\journal</i>\\end{journal}\\begin{booktitle}In: \\booktitle\\end{booktitle}, \\year.";
+
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
+    private BibDatabase database;
+    private BibDatabaseContext databaseContext;
+    private BibEntryTypesManager entryTypesManager;
+    private JournalAbbreviationRepository abbreviationRepository;
+    private Layout layout;
+    private String citationStyle;
+
+    @Setup
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        database = BenchmarkLibrary.create(numberOfEntries);
+        databaseContext = new BibDatabaseContext(database, new MetaData());
+        entryTypesManager = new BibEntryTypesManager();
+        abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        layout = new LayoutHelper(new StringReader(LAYOUT), Globals.prefs.getLayoutFormatterPreferences(abbreviationRepository))
+                .getLayoutFromText();
+        citationStyle = CitationStyle.getDefault().getSource();
+    }
+
+    @Benchmark
+    public List<BibEntry> findDuplicatesOfEntry() {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        BibEntry entry = database.getEntries().get(0);
+        return database.getEntries().stream()
+                       .filter(other -> (other != entry) && duplicateCheck.isDuplicate(entry, other, BibDatabaseMode.BIBTEX))
+                       .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkIntegrity() {
+        IntegrityCheck integrityCheck = new IntegrityCheck(
+                databaseContext,
+                Globals.prefs.getFilePreferences(),
+                Globals.prefs.getCitationKeyPatternPreferences(),
+                abbreviationRepository,
+                false);
+        return integrityCheck.checkDatabase(database);
+    }
+
+    @Benchmark
+    public List<String> renderLayout() {
+        return database.getEntries().stream()
+                       .map(entry -> layout.doLayout(entry, database))
+                       .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> renderCitationStyle() {
+        List<BibEntry> entries = database.getEntries().subList(0, Math.min(NUMBER_OF_CITATIONS, database.getEntryCount()));
+        return CitationStyleGenerator.generateCitations(entries, citationStyle, CitationStyleOutputFormat.HTML, databaseContext, entryTypesManager);
+    }
+
+    @Benchmark
+    public Collection<String> autoCompleteKeywords() {
+        return new WordSuggestionProvider(StandardField.KEYWORDS, database).provideSuggestions(createRequest("mach"));
+    }
+
+    @Benchmark
+    public Collection<Author> autoCompleteAuthors() {
+        return new PersonNameSuggestionProvider(List.of(StandardField.AUTHOR, StandardField.EDITOR), database).provideSuggestions(createRequest("Sch"));
+    }
+
+    private static ISuggestionRequest createRequest(String text) {
+        return new ISuggestionRequest() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public String getUserText() {
+                return text;
+            }
+        };
+    }
+}
@@ -5,6 +5,9 @@ open module org.jabref {
     // SQL
     requires java.sql;
 
+    // Java Flight Recorder events
+    requires jdk.jfr;
+
     // JavaFX
     requires javafx.base;
     requires javafx.graphics;
@@ -6,17 +6,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Vector;
+import java.util.function.BiConsumer;
 import java.util.prefs.BackingStoreException;
 
 import org.jabref.gui.Globals;
 import org.jabref.gui.externalfiles.AutoSetFileLinksUtil;
 import org.jabref.gui.undo.NamedCompound;
 import org.jabref.logic.JabRefException;
+import org.jabref.logic.batch.BatchPipeline;
 import org.jabref.logic.bibtex.FieldWriterPreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.exporter.AtomicFileWriter;
@@ -26,6 +29,7 @@ import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.EmbeddedBibFilePdfExporter;
 import org.jabref.logic.exporter.Exporter;
 import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.exporter.PdfMetadataBatchWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.exporter.TemplateExporter;
 import org.jabref.logic.exporter.XmpPdfExporter;
@@ -42,10 +46,12 @@ import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.metrics.FlightRecording;
 import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
+import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.xmp.XmpPreferences;
 import org.jabref.model.database.BibDatabase;
@@ -62,6 +68,7 @@ import org.jabref.preferences.PreferencesService;
 import org.jabref.preferences.SearchPreferences;
 
 import com.google.common.base.Throwables;
+import net.harawata.appdirs.AppDirsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -192,6 +199,10 @@ public class ArgumentProcessor {
             return Collections.emptyList();
         }
 
+        if ((startupMode == Mode.INITIAL_START) && cli.isFlightRecording()) {
+            FlightRecording.start(Path.of(cli.getFlightRecording()));
+        }
+
         // Check if we should reset all preferences to default values:
         if (cli.isPreferencesReset()) {
             resetPreferences(cli.getPreferencesReset());
@@ -202,6 +213,13 @@ public class ArgumentProcessor {
             importPreferences();
         }
 
+        if (cli.isBatchProcess()) {
+            // The library is streamed instead of being loaded completely
+            batchProcess(cli.getBatchProcess());
+            noGUINeeded = true;
+            return Collections.emptyList();
+        }
+
         // List to put imported/loaded database(s) in.
         List<ParserResult> loaded = importAndOpenFiles();
 
@@ -232,7 +250,18 @@ public class ArgumentProcessor {
         }
 
         if (cli.isWriteMetadatatoPdf() || cli.isWriteXMPtoPdf() || cli.isEmbeddBibfileInPdf()) {
-            if (!loaded.isEmpty()) {
+            if (!loaded.isEmpty() && cli.isParallelPdfWrite()) {
+                writeMetadatatoPdfInParallel(loaded,
+                        cli.getWriteMetadatatoPdf(),
+                        cli.getParallelPdfWriteThreads(),
+                        preferencesService.getXmpPreferences(),
+                        preferencesService.getFilePreferences(),
+                        preferencesService.getGeneralPreferences().getDefaultBibDatabaseMode(),
+                        Globals.entryTypesManager,
+                        preferencesService.getFieldWriterPreferences(),
+                        cli.isWriteXMPtoPdf() || cli.isWriteMetadatatoPdf(),
+                        cli.isEmbeddBibfileInPdf() || cli.isWriteMetadatatoPdf());
+            } else if (!loaded.isEmpty()) {
                 writeMetadatatoPdf(loaded,
                         cli.getWriteMetadatatoPdf(),
                         preferencesService.getXmpPreferences(),
@@ -302,6 +331,95 @@ public class ArgumentProcessor {
         writeMetadatatoPdfByFileNames(databaseContext, dataBase, pdfs, filePreferences, xmpPdfExporter, embeddedBibFilePdfExporter, writeXMP, embeddBibfile);
     }
 
+    private void writeMetadatatoPdfInParallel(List<ParserResult> loaded, String filesAndCitekeys, int numberOfThreads, XmpPreferences xmpPreferences, FilePreferences filePreferences, BibDatabaseMode databaseMode, BibEntryTypesManager entryTypesManager, FieldWriterPreferences fieldWriterPreferences, boolean writeXMP, boolean embeddBibfile) {
+        ParserResult pr = loaded.get(loaded.size() - 1);
+        BibDatabaseContext databaseContext = pr.getDatabaseContext();
+        BibDatabase dataBase = pr.getDatabase();
+
+        List<Exporter> exporters = new ArrayList<>();
+        if (writeXMP) {
+            exporters.add(new XmpPdfExporter(xmpPreferences));
+        }
+        if (embeddBibfile) {
+            exporters.add(new EmbeddedBibFilePdfExporter(databaseMode, entryTypesManager, fieldWriterPreferences));
+        }
+        Path stateFile = Path.of(AppDirsFactory.getInstance().getUserDataDir(
+                                     OS.APP_DIR_APP_NAME,
+                                     new BuildInfo().version.toString(),
+                                     OS.APP_DIR_APP_AUTHOR))
+                             .resolve("pdf-metadata-state.properties");
+        PdfMetadataBatchWriter batchWriter = new PdfMetadataBatchWriter(databaseContext, filePreferences, exporters, numberOfThreads, stateFile);
+
+        List<BibEntry> entries = new ArrayList<>();
+        List<Path> pdfs = new ArrayList<>();
+        if ("all".equals(filesAndCitekeys)) {
+            entries.addAll(dataBase.getEntries());
+        } else {
+            for (String fileOrCiteKey : filesAndCitekeys.split(",")) {
+                if (fileOrCiteKey.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+                    Path filePath = Path.of(fileOrCiteKey);
+                    if (!filePath.isAbsolute()) {
+                        filePath = FileHelper.find(fileOrCiteKey, databaseContext.getFileDirectories(filePreferences)).orElse(FileHelper.find(fileOrCiteKey, List.of(Path.of("").toAbsolutePath())).orElse(filePath));
+                    }
+                    pdfs.add(filePath);
+                } else {
+                    List<BibEntry> bibEntryList = dataBase.getEntriesByCitationKey(fileOrCiteKey);
+                    if (bibEntryList.isEmpty()) {
+                        System.err.printf("Skipped - Cannot find %s in library.%n", fileOrCiteKey);
+                    }
+                    entries.addAll(bibEntryList);
+                }
+            }
+        }
+
+        BiConsumer<Integer, Integer> progress = (processed, total) -> {
+            // Report about every percent, but not more often than every ten files
+            int step = Math.max(10, total / 100);
+            if ((processed % step == 0) || processed.equals(total)) {
+                System.out.printf("Processed %d of %d PDFs%n", processed, total);
+            }
+        };
+        PdfMetadataBatchWriter.Result result = batchWriter.writeToFilesOfEntries(entries, progress);
+        if (!pdfs.isEmpty()) {
+            PdfMetadataBatchWriter.Result filesResult = batchWriter.writeToFiles(pdfs, progress);
+            result = new PdfMetadataBatchWriter.Result(
+                    result.written() + filesResult.written(),
+                    result.skipped() + filesResult.skipped(),
+                    result.failed() + filesResult.failed());
+        }
+        System.out.printf("Written metadata to %d PDFs, skipped %d up-to-date PDFs, failed on %d PDFs%n", result.written(), result.skipped(), result.failed());
+    }
+
+    private void batchProcess(String output) {
+        Optional<String> input = cli.isFileImport()
+                ? Optional.of(cli.getFileImport().split(",")[0])
+                : cli.getLeftOver().stream().findFirst();
+        if (input.isEmpty()) {
+            System.err.println(Localization.lang("The output option depends on a valid import option."));
+            return;
+        }
+
+        Set<BatchPipeline.Step> steps = EnumSet.of(BatchPipeline.Step.CLEANUP, BatchPipeline.Step.CHECK_INTEGRITY);
+        if (cli.isGenerateCitationKeys()) {
+            steps.add(BatchPipeline.Step.GENERATE_KEYS);
+        }
+        BatchPipeline pipeline = new BatchPipeline(
+                preferencesService,
+                Globals.entryTypesManager,
+                Globals.journalAbbreviationRepository,
+                preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex(),
+                Runtime.getRuntime().availableProcessors(),
+                1000);
+
+        System.out.println(Localization.lang("Saving") + ": " + output);
+        try {
+            BatchPipeline.Result result = pipeline.process(Path.of(input.get()), Path.of(output), steps, System.out::println);
+            System.out.printf("Processed %d entries, found %d integrity problems%n", result.entries(), result.messages());
+        } catch (IOException ex) {
+            System.err.println(Localization.lang("Could not save file.") + "\n" + ex.getLocalizedMessage());
+        }
+    }
+
     private void writeMetadatatoPDFsOfEntry(BibDatabaseContext databaseContext, String citeKey, BibEntry entry, FilePreferences filePreferences, XmpPdfExporter xmpPdfExporter, EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter, boolean writeXMP, boolean embeddBibfile) {
         try {
             if (writeXMP) {
@@ -655,9 +773,7 @@ public class ArgumentProcessor {
             CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
                     parserResult.getDatabaseContext(),
                     preferencesService.getCitationKeyPatternPreferences());
-            for (BibEntry entry : database.getEntries()) {
-                keyGenerator.generateAndSetKey(entry);
-            }
+            keyGenerator.generateAndSetKeys(database.getEntries());
         }
     }
 
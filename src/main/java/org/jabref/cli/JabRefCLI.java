@@ -165,6 +165,36 @@ public class JabRefCLI {
                 cl.hasOption("embeddBibfileInPdf") ? cl.getOptionValue("embeddBibfileInPdf") : null;
     }
 
+    public boolean isParallelPdfWrite() {
+        return cl.hasOption("parallelPdfWrite");
+    }
+
+    public int getParallelPdfWriteThreads() {
+        String threads = cl.getOptionValue("parallelPdfWrite");
+        try {
+            return Math.max(1, Integer.parseInt(threads));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid number of threads '{}'. Using the number of available processors.", threads);
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    public boolean isBatchProcess() {
+        return cl.hasOption("batchProcess");
+    }
+
+    public String getBatchProcess() {
+        return cl.getOptionValue("batchProcess");
+    }
+
+    public boolean isFlightRecording() {
+        return cl.hasOption("flightRecording");
+    }
+
+    public String getFlightRecording() {
+        return cl.getOptionValue("flightRecording");
+    }
+
     private static Options getOptions() {
         Options options = new Options();
 
@@ -284,6 +314,30 @@ public class JabRefCLI {
                 .argName("CITEKEY1[,CITEKEY2][,CITEKEYn] | PDF1[,PDF2][,PDFn] | all")
                 .build());
 
+        options.addOption(Option
+                .builder()
+                .longOpt("parallelPdfWrite")
+                .desc(String.format("%s: '%s'", Localization.lang("Write metadata to PDFs in parallel and skip PDFs which are up to date"), "-w all --parallelPdfWrite 8"))
+                .hasArg()
+                .argName("THREADS")
+                .build());
+
+        options.addOption(Option
+                .builder()
+                .longOpt("batchProcess")
+                .desc(String.format("%s: '%s'", Localization.lang("Clean up, check and write a large BibTeX library in batches"), "-i huge.bib -g --batchProcess cleaned.bib"))
+                .hasArg()
+                .argName("FILE")
+                .build());
+
+        options.addOption(Option
+                .builder()
+                .longOpt("flightRecording")
+                .desc(String.format("%s: '%s'", Localization.lang("Record loading, saving, searching and other long running operations to a Java Flight Recorder file"), "--flightRecording jabref.jfr"))
+                .hasArg()
+                .argName("FILE")
+                .build());
+
         return options;
     }
 
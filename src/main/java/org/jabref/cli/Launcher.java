@@ -6,6 +6,7 @@ import java.net.Authenticator;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Comparator;
 import java.util.Map;
 
@@ -15,15 +16,18 @@ import org.jabref.gui.remote.JabRefMessageHandler;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.OS;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -44,6 +48,9 @@ import org.tinylog.configuration.Configuration;
  * - Start the JavaFX application (if not in cli mode)
  */
 public class Launcher {
+    private static final Duration HTTP_RESPONSE_CACHE_TIME_TO_LIVE = Duration.ofDays(1);
+    private static final long HTTP_RESPONSE_CACHE_MAXIMUM_SIZE = 100L * 1024 * 1024;
+
     private static Logger LOGGER;
 
     public static void main(String[] args) {
@@ -62,6 +69,7 @@ public class Launcher {
             // Init rest of preferences
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
+            configureHttpResponseCache();
             applyPreferences(preferences);
             clearOldSearchIndices();
 
@@ -179,6 +187,15 @@ public class Launcher {
         System.setProperty("javax.net.ssl.trustStorePassword", "changeit");
     }
 
+    private static void configureHttpResponseCache() {
+        Path directory = Path.of(AppDirsFactory.getInstance().getUserCacheDir(
+                OS.APP_DIR_APP_NAME,
+                new BuildInfo().version.toString(),
+                OS.APP_DIR_APP_AUTHOR))
+                             .resolve("http");
+        URLDownload.setResponseCache(new HttpResponseCache(directory, HTTP_RESPONSE_CACHE_TIME_TO_LIVE, HTTP_RESPONSE_CACHE_MAXIMUM_SIZE));
+    }
+
     private static void clearOldSearchIndices() {
         Path currentIndexPath = BibDatabaseContext.getFulltextIndexBasePath();
         Path appData = currentIndexPath.getParent();
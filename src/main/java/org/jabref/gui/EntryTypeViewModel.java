@@ -24,6 +24,7 @@ import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.importer.fetcher.DoiFetcher;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.metrics.FetcherEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.StringUtil;
@@ -134,7 +135,21 @@ public class EntryTypeViewModel {
             if (searchID.isEmpty()) {
                 return Optional.empty();
             }
-            return fetcher.performSearchById(searchID);
+            FetcherEvent event = new FetcherEvent();
+            event.begin();
+            try {
+                Optional<BibEntry> result = fetcher.performSearchById(searchID);
+                event.results = result.isPresent() ? 1 : 0;
+                event.success = true;
+                return result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.fetcher = fetcher.getName();
+                    event.query = searchID;
+                    event.commit();
+                }
+            }
         }
     }
 
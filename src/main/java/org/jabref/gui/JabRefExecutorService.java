@@ -4,8 +4,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -13,11 +11,18 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Responsible for managing of all threads (except GUI threads) in JabRef
+ * <p>
+ * Short tasks are run by the {@link TaskScheduler}. Tasks which run as long as JabRef, such as the file monitor, or which
+ * wait for an external resource, such as another process or a web server, get their own thread, so that they do not
+ * occupy a worker of the scheduler.
  */
 public class JabRefExecutorService {
 
@@ -25,13 +30,6 @@ public class JabRefExecutorService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JabRefExecutorService.class);
 
-    private final ExecutorService executorService = Executors.newCachedThreadPool(r -> {
-        Thread thread = new Thread(r);
-        thread.setName("JabRef CachedThreadPool");
-        thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
-        return thread;
-    });
-
     private final ExecutorService lowPriorityExecutorService = Executors.newCachedThreadPool(r -> {
         Thread thread = new Thread(r);
         thread.setName("JabRef LowPriorityCachedThreadPool");
@@ -39,28 +37,26 @@ public class JabRefExecutorService {
         return thread;
     });
 
-    private final Timer timer = new Timer("timer", true);
-
     private Thread remoteThread;
 
     private JabRefExecutorService() {
    }
 
     public void execute(Runnable command) {
+        execute(command, TaskPriority.BACKGROUND);
+    }
+
+    public void execute(Runnable command, TaskPriority priority) {
         Objects.requireNonNull(command);
-        executorService.execute(command);
+        TaskScheduler.INSTANCE.execute(command, priority, null);
     }
 
+    /**
+     * Runs the given command in its own thread and waits until it is done. The command may block, e.g., waiting for an
+     * external process.
+     */
     public void executeAndWait(Runnable command) {
-        Objects.requireNonNull(command);
-        Future<?> future = executorService.submit(command);
-        try {
-            future.get();
-        } catch (InterruptedException ignored) {
-            // Ignored
-        } catch (ExecutionException e) {
-            LOGGER.error("Problem executing command", e);
-        }
+        executeInterruptableTaskAndWait(command);
     }
 
     /**
@@ -71,7 +67,7 @@ public class JabRefExecutorService {
      */
     public <T> Future<T> execute(Callable<T> command) {
         Objects.requireNonNull(command);
-        return executorService.submit(command);
+        return TaskScheduler.INSTANCE.submit(command, TaskPriority.BACKGROUND, null);
     }
 
     /**
@@ -82,24 +78,28 @@ public class JabRefExecutorService {
      */
     public <T> List<Future<T>> executeAll(Collection<Callable<T>> tasks) {
         Objects.requireNonNull(tasks);
-        try {
-            return executorService.invokeAll(tasks);
-        } catch (InterruptedException exception) {
-            // Ignored
-            return Collections.emptyList();
-        }
+        return TaskScheduler.INSTANCE.invokeAll(tasks, TaskPriority.BACKGROUND, null);
     }
 
+    /**
+     * Executes a collection of callable tasks, each in its own thread, and waits until they are done or the timeout is
+     * over. Thus, the tasks may wait for an external resource, e.g., a web server.
+     *
+     * @return A List of Future objects that provide the returning values. Tasks which did not finish in time are canceled.
+     */
     public <T> List<Future<T>> executeAll(Collection<Callable<T>> tasks, int timeout, TimeUnit timeUnit) {
         Objects.requireNonNull(tasks);
         try {
-            return executorService.invokeAll(tasks, timeout, timeUnit);
+            return lowPriorityExecutorService.invokeAll(tasks, timeout, timeUnit);
         } catch (InterruptedException exception) {
-            // Ignored
+            Thread.currentThread().interrupt();
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Runs a task which runs as long as JabRef, or waits for an external resource, in its own thread.
+     */
     public void executeInterruptableTask(final Runnable runnable, String taskName) {
         this.lowPriorityExecutorService.execute(new NamedRunnable(taskName, runnable));
     }
@@ -133,8 +133,8 @@ public class JabRefExecutorService {
         }
     }
 
-    public void submit(TimerTask timerTask, long millisecondsDelay) {
-        timer.schedule(timerTask, millisecondsDelay);
+    public void submit(Runnable task, long millisecondsDelay) {
+        TaskScheduler.INSTANCE.schedule(task, millisecondsDelay, TimeUnit.MILLISECONDS, TaskPriority.INTERACTIVE, null);
     }
 
     /**
@@ -144,10 +144,8 @@ public class JabRefExecutorService {
         // kill the remote thread
         stopRemoteThread();
 
-        gracefullyShutdown(this.executorService);
+        TaskScheduler.INSTANCE.shutdown();
         gracefullyShutdown(this.lowPriorityExecutorService);
-
-        timer.cancel();
     }
 
     private static class NamedRunnable implements Runnable {
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TimerTask;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -83,6 +82,7 @@ import org.jabref.gui.externalfiles.FindUnlinkedFilesAction;
 import org.jabref.gui.help.AboutAction;
 import org.jabref.gui.help.ErrorConsoleAction;
 import org.jabref.gui.help.HelpAction;
+import org.jabref.gui.help.MetricsAction;
 import org.jabref.gui.help.SearchForUpdateAction;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.importer.GenerateEntryFromIdDialog;
@@ -349,12 +349,7 @@ public class JabRefFrame extends BorderPane {
 
     private void initShowTrackingNotification() {
         if (prefs.getTelemetryPreferences().shouldAskToCollectTelemetry()) {
-            JabRefExecutorService.INSTANCE.submit(new TimerTask() {
-                @Override
-                public void run() {
-                    DefaultTaskExecutor.runInJavaFXThread(JabRefFrame.this::showTrackingNotification);
-                }
-            }, 60000); // run in one minute
+            JabRefExecutorService.INSTANCE.submit(() -> DefaultTaskExecutor.runInJavaFXThread(this::showTrackingNotification), 60000); // run in one minute
         }
     }
 
@@ -918,6 +913,7 @@ public class JabRefFrame extends BorderPane {
                 new SeparatorMenuItem(),
 
                 factory.createMenuItem(StandardActions.ERROR_CONSOLE, new ErrorConsoleAction()),
+                factory.createMenuItem(StandardActions.SHOW_METRICS, new MetricsAction(dialogService, prefs)),
 
                 new SeparatorMenuItem(),
 
@@ -46,12 +46,15 @@ import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.FileFieldParser;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheckService;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
 import org.jabref.logic.pdf.search.indexing.IndexingTaskManager;
 import org.jabref.logic.pdf.search.indexing.PdfIndexer;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.DatabaseLocation;
+import org.jabref.logic.util.TaskScheduler;
 import org.jabref.logic.util.UpdateField;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.FieldChange;
@@ -94,6 +97,7 @@ public class LibraryTab extends Tab {
     private MainTableDataModel tableModel;
     private CitationStyleCache citationStyleCache;
     private FileAnnotationCache annotationCache;
+    private IntegrityCheckService integrityCheckService;
     private EntryEditor entryEditor;
     private MainTable mainTable;
     private BasePanelMode mode = BasePanelMode.SHOWING_NOTHING;
@@ -708,8 +712,19 @@ public class LibraryTab extends Tab {
      */
     public void cleanUp() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
+        if (integrityCheckService != null) {
+            integrityCheckService.shutdown();
+            integrityCheckService = null;
+        }
+        if (entryEditor != null) {
+            entryEditor.shutdown();
+        }
         AutosaveManager.shutdown(bibDatabaseContext);
         BackupManager.shutdown(bibDatabaseContext);
+        if (bibDatabaseContext != null) {
+            // Tasks of the closed library, e.g., group count refreshes, are of no use anymore
+            TaskScheduler.INSTANCE.cancelAll(bibDatabaseContext);
+        }
     }
 
     /**
@@ -768,6 +783,29 @@ public class LibraryTab extends Tab {
         return annotationCache;
     }
 
+    /**
+     * The library is checked in the background only after the integrity check has been used once.
+     */
+    public IntegrityCheckService getIntegrityCheckService() {
+        if (integrityCheckService == null) {
+            integrityCheckService = new IntegrityCheckService(bibDatabaseContext, () -> new IntegrityCheck(bibDatabaseContext,
+                    preferencesService.getFilePreferences(),
+                    preferencesService.getCitationKeyPatternPreferences(),
+                    Globals.journalAbbreviationRepository,
+                    preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex()));
+        }
+        return integrityCheckService;
+    }
+
+    /**
+     * Checks the library again in the background, e.g., after the preferences changed.
+     */
+    public void resetIntegrityCheckService() {
+        if (integrityCheckService != null) {
+            integrityCheckService.recheckAll();
+        }
+    }
+
     public void resetChangeMonitor() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         changeMonitor = Optional.of(new DatabaseChangeMonitor(bibDatabaseContext,
@@ -7,6 +7,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
@@ -22,4 +23,9 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
     }
+
+    @Override
+    protected Stream<String> getSource(AutoCompletionBinding.ISuggestionRequest request) {
+        return Streams.concat(super.getSource(), repository.getFullNamesContaining(request.getUserText()));
+    }
 }
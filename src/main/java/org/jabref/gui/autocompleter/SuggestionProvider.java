@@ -46,7 +46,7 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
+            return getSource(request).filter(candidate -> isMatch(candidate, request))
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
                               .limit(10)
@@ -60,6 +60,14 @@ public abstract class SuggestionProvider<T> {
 
     protected abstract Equivalence<T> getEquivalence();
 
+    /**
+     * Get the candidates for the given request. Providers with an index can narrow the candidates down here, all of
+     * them are still checked by {@link #isMatch}.
+     */
+    protected Stream<T> getSource(ISuggestionRequest request) {
+        return getSource();
+    }
+
     public Collection<T> getPossibleSuggestions() {
         Comparator<T> comparator = getComparator().reversed();
         Equivalence<T> equivalence = getEquivalence();
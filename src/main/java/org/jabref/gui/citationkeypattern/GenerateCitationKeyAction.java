@@ -15,11 +15,15 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.PreferencesService;
 
 public class GenerateCitationKeyAction extends SimpleCommand {
 
+    // the progress is shown every so many entries to not flood the JavaFX thread
+    private static final int PROGRESS_UPDATE_INTERVAL = 100;
+
     private final JabRefFrame frame;
     private final DialogService dialogService;
     private final StateManager stateManager;
@@ -112,16 +116,16 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
-                        int entriesDone = 0;
-                        for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-                            entriesDone++;
-                            int finalEntriesDone = entriesDone;
-                            DefaultTaskExecutor.runInJavaFXThread(() -> {
-                                updateProgress(finalEntriesDone, entries.size());
-                                messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
-                            });
+                        List<FieldChange> fieldChanges = keyGenerator.generateAndSetKeys(entries, entriesDone -> {
+                            if ((entriesDone % PROGRESS_UPDATE_INTERVAL == 0) || (entriesDone == entries.size())) {
+                                DefaultTaskExecutor.runInJavaFXThread(() -> {
+                                    updateProgress(entriesDone, entries.size());
+                                    messageProperty().set(Localization.lang("%0/%1 entries", entriesDone, entries.size()));
+                                });
+                            }
+                        });
+                        for (FieldChange fieldChange : fieldChanges) {
+                            compound.addEdit(new UndoableKeyChange(fieldChange));
                         }
                         compound.end();
                     });
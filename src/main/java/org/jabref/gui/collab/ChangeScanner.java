@@ -21,12 +21,9 @@ import org.jabref.gui.theme.ThemeManager;
 import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
 import org.jabref.logic.bibtex.comparator.BibEntryDiff;
 import org.jabref.logic.bibtex.comparator.BibStringDiff;
-import org.jabref.logic.importer.ImportFormatPreferences;
-import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.IncrementalDatabaseLoader;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.util.DummyFileUpdateMonitor;
-import org.jabref.preferences.GeneralPreferences;
 import org.jabref.preferences.PreferencesService;
 
 import org.slf4j.Logger;
@@ -40,6 +37,7 @@ public class ChangeScanner {
     private final PreferencesService preferencesService;
     private final StateManager stateManager;
     private final ThemeManager themeManager;
+    private final IncrementalDatabaseLoader databaseLoader;
 
     private final ExternalChangeResolverFactory externalChangeResolverFactory;
 
@@ -47,12 +45,14 @@ public class ChangeScanner {
                          DialogService dialogService,
                          PreferencesService preferencesService,
                          StateManager stateManager,
-                         ThemeManager themeManager) {
+                         ThemeManager themeManager,
+                         IncrementalDatabaseLoader databaseLoader) {
         this.database = database;
         this.dialogService = dialogService;
         this.preferencesService = preferencesService;
         this.stateManager = stateManager;
         this.themeManager = themeManager;
+        this.databaseLoader = databaseLoader;
         this.externalChangeResolverFactory = new ExternalChangeResolverFactory(dialogService, database);
     }
 
@@ -64,11 +64,9 @@ public class ChangeScanner {
         try {
             List<ExternalChange> changes = new ArrayList<>();
 
-            // Parse the modified file
+            // Parse the modified file with the encoding found on disk, reusing the entries which did not change since the last scan
             // Important: apply all post-load actions
-            ImportFormatPreferences importFormatPreferences = preferencesService.getImportFormatPreferences();
-            GeneralPreferences generalPreferences = preferencesService.getGeneralPreferences();
-            ParserResult result = OpenDatabase.loadDatabase(database.getDatabasePath().get(), importFormatPreferences, new DummyFileUpdateMonitor());
+            ParserResult result = databaseLoader.load(database.getDatabasePath().get());
             BibDatabaseContext databaseOnDisk = result.getDatabaseContext();
 
             // Start looking at changes.
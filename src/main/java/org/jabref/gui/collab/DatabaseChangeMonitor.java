@@ -13,6 +13,7 @@ import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.theme.ThemeManager;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.importer.IncrementalDatabaseLoader;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.util.FileUpdateListener;
@@ -35,6 +36,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     private final PreferencesService preferencesService;
     private final StateManager stateManager;
     private final ThemeManager themeManager;
+    private final IncrementalDatabaseLoader databaseLoader;
 
     public DatabaseChangeMonitor(BibDatabaseContext database,
                                  FileUpdateMonitor fileMonitor,
@@ -51,6 +53,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
         this.preferencesService = preferencesService;
         this.stateManager = stateManager;
         this.themeManager = themeManager;
+        this.databaseLoader = new IncrementalDatabaseLoader(preferencesService.getImportFormatPreferences());
 
         this.listeners = new ArrayList<>();
 
@@ -77,7 +80,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     public void fileUpdated() {
         synchronized (database) {
             // File on disk has changed, thus look for notable changes and notify listeners in case there are such changes
-            ChangeScanner scanner = new ChangeScanner(database, dialogService, preferencesService, stateManager, themeManager);
+            ChangeScanner scanner = new ChangeScanner(database, dialogService, preferencesService, stateManager, themeManager, databaseLoader);
             BackgroundTask.wrap(scanner::scanForChanges)
                           .onSuccess(changes -> {
                               if (!changes.isEmpty()) {
@@ -59,8 +59,8 @@ public class Linux implements NativeDesktop {
             StreamGobbler streamGobblerInput = new StreamGobbler(process.getInputStream(), LOGGER::debug);
             StreamGobbler streamGobblerError = new StreamGobbler(process.getErrorStream(), LOGGER::debug);
 
-            JabRefExecutorService.INSTANCE.execute(streamGobblerInput);
-            JabRefExecutorService.INSTANCE.execute(streamGobblerError);
+            JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerInput, "StreamGobbler");
+            JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerError, "StreamGobbler");
         } else {
             nativeOpenFile(filePath);
         }
@@ -82,8 +82,8 @@ public class Linux implements NativeDesktop {
             StreamGobbler streamGobblerInput = new StreamGobbler(process.getInputStream(), LOGGER::debug);
             StreamGobbler streamGobblerError = new StreamGobbler(process.getErrorStream(), LOGGER::debug);
 
-            JabRefExecutorService.INSTANCE.execute(streamGobblerInput);
-            JabRefExecutorService.INSTANCE.execute(streamGobblerError);
+            JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerInput, "StreamGobbler");
+            JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerError, "StreamGobbler");
         } else {
             nativeOpenFile(filePath);
         }
@@ -114,8 +114,8 @@ public class Linux implements NativeDesktop {
         StreamGobbler streamGobblerInput = new StreamGobbler(process.getInputStream(), LOGGER::debug);
         StreamGobbler streamGobblerError = new StreamGobbler(process.getErrorStream(), LOGGER::debug);
 
-        JabRefExecutorService.INSTANCE.execute(streamGobblerInput);
-        JabRefExecutorService.INSTANCE.execute(streamGobblerError);
+        JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerInput, "StreamGobbler");
+        JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerError, "StreamGobbler");
     }
 
     @Override
@@ -152,8 +152,8 @@ public class Linux implements NativeDesktop {
                 StreamGobbler streamGobblerInput = new StreamGobbler(processTerminal.getInputStream(), LOGGER::debug);
                 StreamGobbler streamGobblerError = new StreamGobbler(processTerminal.getErrorStream(), LOGGER::debug);
 
-                JabRefExecutorService.INSTANCE.execute(streamGobblerInput);
-                JabRefExecutorService.INSTANCE.execute(streamGobblerError);
+                JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerInput, "StreamGobbler");
+                JabRefExecutorService.INSTANCE.executeInterruptableTask(streamGobblerError, "StreamGobbler");
             }
         }
     }
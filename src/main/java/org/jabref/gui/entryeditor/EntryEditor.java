@@ -89,6 +89,7 @@ public class EntryEditor extends BorderPane {
     * */
     private BibEntry entry;
     private SourceTab sourceTab;
+    private LatexCitationsTab latexCitationsTab;
 
     /*
     * tabs to be showed in GUI
@@ -215,6 +216,13 @@ public class EntryEditor extends BorderPane {
         libraryTab.entryEditorClosing();
     }
 
+    /**
+     * Releases the resources of the tabs, e.g., the watched LaTeX files, when the library is closed.
+     */
+    public void shutdown() {
+        latexCitationsTab.shutdown();
+    }
+
     @FXML
     private void deleteEntry() {
         libraryTab.delete(entry);
@@ -275,7 +283,8 @@ public class EntryEditor extends BorderPane {
         entryEditorTabs.add(sourceTab);
 
         // LaTeX citations tab
-        entryEditorTabs.add(new LatexCitationsTab(databaseContext, preferencesService, taskExecutor, dialogService));
+        latexCitationsTab = new LatexCitationsTab(databaseContext, preferencesService, taskExecutor, dialogService, fileMonitor);
+        entryEditorTabs.add(latexCitationsTab);
 
         entryEditorTabs.add(new FulltextSearchResultsTab(stateManager, preferencesService, dialogService));
 
@@ -16,6 +16,7 @@ import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectoryIndex;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -70,11 +71,23 @@ public class AutoSetFileLinksUtil {
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, NamedCompound ce) {
         LinkFilesResult result = new LinkFilesResult();
 
+        // The directories are read once for all entries
+        DirectoryIndex directoryIndex;
+        try {
+            directoryIndex = DirectoryIndex.of(directories);
+        } catch (IOException e) {
+            result.addFileException(e);
+            LOGGER.error("Problem reading file directories", e);
+            return result;
+        }
+        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
+        List<String> extensions = getExtensions();
+
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = findAssociatedNotLinkedFiles(entry, fileFinder.findAssociatedFiles(entry, directoryIndex, extensions));
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -105,13 +118,18 @@ public class AutoSetFileLinksUtil {
     }
 
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
-        List<LinkedFile> linkedFiles = new ArrayList<>();
-
-        List<String> extensions = filePreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
-
         // Run the search operation
         FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
-        List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
+        List<Path> result = fileFinder.findAssociatedFiles(entry, directories, getExtensions());
+        return findAssociatedNotLinkedFiles(entry, result);
+    }
+
+    private List<String> getExtensions() {
+        return filePreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
+    }
+
+    private List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry, List<Path> result) {
+        List<LinkedFile> linkedFiles = new ArrayList<>();
 
         // Collect the found files that are not yet linked
         for (Path foundFile : result) {
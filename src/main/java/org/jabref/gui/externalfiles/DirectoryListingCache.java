@@ -0,0 +1,181 @@
+package org.jabref.gui.externalfiles;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers the content of directories together with their modification time, so that a directory does not have to
+ * be read again as long as it has not been changed. A directory's modification time changes whenever an entry is
+ * added, removed or renamed in it, but not when the content of a file changes; therefore, only the names and kinds
+ * of the entries are kept.
+ * <p>
+ * The listings are kept in a file between scans. Listings of directories which do not exist anymore are dropped when
+ * the file is written.
+ */
+class DirectoryListingCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryListingCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    // Coarse file systems (e.g., FAT) store modification times in steps of two seconds. A directory changed again
+    // within that time after being listed would look unchanged, so such recent listings are not kept.
+    private static final long MODIFICATION_TIME_RESOLUTION = 2_000;
+
+    private final Path cacheFile;
+    private final Map<String, Listing> listings = new ConcurrentHashMap<>();
+    private final AtomicInteger numberOfHits = new AtomicInteger();
+
+    private DirectoryListingCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * Loads the cache from the given file. If the file does not exist or cannot be read, the cache starts empty.
+     */
+    static DirectoryListingCache load(Path cacheFile) {
+        DirectoryListingCache cache = new DirectoryListingCache(cacheFile);
+        if (!Files.exists(cacheFile)) {
+            return cache;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return cache;
+            }
+            int numberOfDirectories = input.readInt();
+            for (int i = 0; i < numberOfDirectories; i++) {
+                String directory = input.readUTF();
+                long lastModified = input.readLong();
+                List<String> subdirectories = readNames(input);
+                List<String> files = readNames(input);
+                cache.listings.put(directory, new Listing(lastModified, subdirectories, files));
+            }
+        } catch (IOException e) {
+            LOGGER.info("Could not read directory listings from {}, starting from scratch", cacheFile, e);
+            cache.listings.clear();
+        }
+        return cache;
+    }
+
+    private static List<String> readNames(DataInputStream input) throws IOException {
+        int numberOfNames = input.readInt();
+        List<String> names = new ArrayList<>(numberOfNames);
+        for (int i = 0; i < numberOfNames; i++) {
+            names.add(input.readUTF());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the content of the directory, read from the cache if the directory has not been modified since.
+     */
+    Listing list(Path directory) throws IOException {
+        long lastModified = Files.getLastModifiedTime(directory).toMillis();
+        String key = directory.toAbsolutePath().toString();
+        Listing cached = listings.get(key);
+        if ((cached != null) && (cached.lastModified() == lastModified)) {
+            numberOfHits.incrementAndGet();
+            return cached;
+        }
+
+        List<String> subdirectories = new ArrayList<>();
+        List<String> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                if (Files.isDirectory(path)) {
+                    subdirectories.add(path.getFileName().toString());
+                } else {
+                    files.add(path.getFileName().toString());
+                }
+            }
+        }
+        Listing listing = new Listing(lastModified, List.copyOf(subdirectories), List.copyOf(files));
+        if ((System.currentTimeMillis() - lastModified) > MODIFICATION_TIME_RESOLUTION) {
+            listings.put(key, listing);
+        } else {
+            listings.remove(key);
+        }
+        return listing;
+    }
+
+    /**
+     * @return how many listings have been read from the cache instead of the file system
+     */
+    int getNumberOfHits() {
+        return numberOfHits.get();
+    }
+
+    /**
+     * Writes the listings to the cache file. Each save writes to a temporary file of its own, which then replaces the
+     * cache file, so that concurrent saves never write to the same file.
+     */
+    void save() {
+        listings.keySet().removeIf(directory -> !Files.isDirectory(Path.of(directory)));
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            temporaryFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                Map<String, Listing> snapshot = Map.copyOf(listings);
+                output.writeInt(FORMAT_VERSION);
+                output.writeInt(snapshot.size());
+                for (Map.Entry<String, Listing> entry : snapshot.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeLong(entry.getValue().lastModified());
+                    writeNames(output, entry.getValue().subdirectories());
+                    writeNames(output, entry.getValue().files());
+                }
+            }
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.info("Could not store directory listings in {}", cacheFile, e);
+            deleteTemporaryFile(temporaryFile);
+        }
+    }
+
+    private static void deleteTemporaryFile(Path temporaryFile) {
+        if (temporaryFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete {}", temporaryFile, e);
+        }
+    }
+
+    private static void writeNames(DataOutputStream output, List<String> names) throws IOException {
+        output.writeInt(names.size());
+        for (String name : names) {
+            output.writeUTF(name);
+        }
+    }
+
+    /**
+     * @param lastModified   modification time of the directory in milliseconds
+     * @param subdirectories names of the directories in the directory
+     * @param files          names of the other entries in the directory
+     */
+    record Listing(long lastModified, List<String> subdirectories, List<String> files) {
+    }
+}
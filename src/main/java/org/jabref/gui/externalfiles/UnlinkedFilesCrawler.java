@@ -7,19 +7,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javafx.scene.control.CheckBoxTreeItem;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.FileNodeViewModel;
+import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.preferences.FilePreferences;
 
+import net.harawata.appdirs.AppDirsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,20 +31,30 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnlinkedFilesCrawler.class);
 
+    private static final int NUMBER_OF_THREADS = 8;
+
     private final Path directory;
     private final Filter<Path> fileFilter;
     private final DateRange dateFilter;
     private final ExternalFileSorter sorter;
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private final Path listingCacheFile;
 
     public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        this(directory, fileFilter, dateFilter, sorter, databaseContext, filePreferences,
+                Path.of(AppDirsFactory.getInstance().getUserCacheDir(OS.APP_DIR_APP_NAME, "unlinked-files", OS.APP_DIR_APP_AUTHOR))
+                    .resolve("directory-listings.bin"));
+    }
+
+    UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences, Path listingCacheFile) {
         this.directory = directory;
         this.fileFilter = fileFilter;
         this.dateFilter = dateFilter;
         this.sorter = sorter;
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.listingCacheFile = listingCacheFile;
     }
 
     @Override
@@ -62,9 +73,9 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
      * The user objects that are attached to the nodes is the {@link FileNodeViewModel}, which wraps the {@link
      * File}-Object. <br>
      * <br>
-     * For ensuring the capability to cancel the work of this recursive method, the first position in the integer array
-     * 'state' must be set to 1, to keep the recursion running. When the states value changes, the method will resolve
-     * its recursion and return what it has saved so far.
+     * Subdirectories are searched in parallel. The listings of directories which did not change since the last search
+     * are taken from a {@link DirectoryListingCache}. When the task is canceled, the search returns what it has found so
+     * far.
      * <br>
      * The files are filtered according to the {@link DateRange} filter value
      * and then sorted according to the {@link ExternalFileSorter} value.
@@ -80,62 +91,113 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
             throw new IOException(String.format("Invalid directory for searching: %s", directory));
         }
 
-        FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
-
-        // Map from isDirectory (true/false) to full path
-        // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
-        // Filters:
-        //   1. UnlinkedPDFFileFilter
-        //   2. GitIgnoreFilter
-        ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory));
-        Map<Boolean, List<Path>> directoryAndFilePartition;
-        try (Stream<Path> filesStream = StreamSupport.stream(Files.newDirectoryStream(directory, filters).spliterator(), false)) {
-            directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
-        } catch (IOException e) {
-            LOGGER.error("Error while searching files", e);
-            return fileNodeViewModelForCurrentDirectory;
+        DirectoryListingCache listingCache = DirectoryListingCache.load(listingCacheFile);
+        // Reading directories mostly waits for the disk, so more threads than processors are used
+        ForkJoinPool pool = new ForkJoinPool(Math.max(NUMBER_OF_THREADS, Runtime.getRuntime().availableProcessors()));
+        try {
+            return pool.invoke(new DirectorySearch(directory, unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory), listingCache));
+        } finally {
+            pool.shutdown();
+            listingCache.save();
         }
-        List<Path> subDirectories = directoryAndFilePartition.get(true);
-        List<Path> files = directoryAndFilePartition.get(false);
+    }
 
-        // at this point, only unlinked PDFs AND unignored files are contained
+    /**
+     * Searches one directory and, in parallel, its subdirectories.
+     */
+    private class DirectorySearch extends RecursiveTask<FileNodeViewModel> {
+
+        private final Path directory;
+        private final UnlinkedPDFFileFilter unlinkedPDFFileFilter;
+        private final GitIgnoreFileFilter gitIgnoreFilterOfParent;
+        private final DirectoryListingCache listingCache;
+
+        DirectorySearch(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter, GitIgnoreFileFilter gitIgnoreFilterOfParent, DirectoryListingCache listingCache) {
+            this.directory = directory;
+            this.unlinkedPDFFileFilter = unlinkedPDFFileFilter;
+            this.gitIgnoreFilterOfParent = gitIgnoreFilterOfParent;
+            this.listingCache = listingCache;
+        }
 
-        // initially, we find no files at all
-        int fileCountOfSubdirectories = 0;
+        @Override
+        protected FileNodeViewModel compute() {
+            FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
+            if (isCanceled()) {
+                return fileNodeViewModelForCurrentDirectory;
+            }
 
-        // now we crawl into the found subdirectories first (!)
-        for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
-            if (!subRoot.getChildren().isEmpty()) {
-                fileCountOfSubdirectories += subRoot.getFileCount();
-                fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
+            List<DirectorySearch> subDirectorySearches = new ArrayList<>();
+            List<Path> files = new ArrayList<>();
+            try {
+                DirectoryListingCache.Listing listing = listingCache.list(directory);
+
+                // The nearest .gitignore is the one of the parent directory, unless this directory has its own
+                GitIgnoreFileFilter gitIgnoreFilter = gitIgnoreFilterOfParent;
+                if (listing.files().contains(".gitignore") || listing.subdirectories().contains(".gitignore")) {
+                    gitIgnoreFilter = new GitIgnoreFileFilter(directory);
+                }
+
+                // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
+                // Filters:
+                //   1. UnlinkedPDFFileFilter
+                //   2. GitIgnoreFilter
+                ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, gitIgnoreFilter);
+                for (String name : listing.subdirectories()) {
+                    Path subDirectory = directory.resolve(name);
+                    if (filters.accept(subDirectory)) {
+                        subDirectorySearches.add(new DirectorySearch(subDirectory, unlinkedPDFFileFilter, gitIgnoreFilter, listingCache));
+                    }
+                }
+                for (String name : listing.files()) {
+                    Path file = directory.resolve(name);
+                    if (filters.accept(file)) {
+                        files.add(file);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.error("Error while searching files", e);
+                return fileNodeViewModelForCurrentDirectory;
             }
-        }
-        // now we have the data of all subdirectories
-        // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
 
-        // now we handle the files in the current directory
+            // at this point, only unlinked PDFs AND unignored files are contained
+
+            // now we crawl into the found subdirectories first (!)
+            invokeAll(subDirectorySearches);
 
-        // filter files according to last edited date.
-        // Note that we do not use the "StreamSupport.stream" filtering functionality, because refactoring the code to that would lead to more code
-        List<Path> resultingFiles = new ArrayList<>();
-        for (Path path : files) {
-            if (FileFilterUtils.filterByDate(path, dateFilter)) {
-                resultingFiles.add(path);
+            // initially, we find no files at all
+            int fileCountOfSubdirectories = 0;
+            for (DirectorySearch subDirectorySearch : subDirectorySearches) {
+                FileNodeViewModel subRoot = subDirectorySearch.join();
+                if (!subRoot.getChildren().isEmpty()) {
+                    fileCountOfSubdirectories += subRoot.getFileCount();
+                    fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
+                }
             }
-        }
+            // now we have the data of all subdirectories
+            // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
+
+            // now we handle the files in the current directory
 
-        // sort files according to last edited date.
-        resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+            // filter files according to last edited date.
+            List<Path> resultingFiles = new ArrayList<>();
+            for (Path path : files) {
+                if (FileFilterUtils.filterByDate(path, dateFilter)) {
+                    resultingFiles.add(path);
+                }
+            }
+
+            // sort files according to last edited date.
+            resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
 
-        // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
-        fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
+            // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
+            fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
 
-        // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
-        fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
-                .map(FileNodeViewModel::new)
-                .collect(Collectors.toList()));
+            // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
+            fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
+                    .map(FileNodeViewModel::new)
+                    .collect(Collectors.toList()));
 
-        return fileNodeViewModelForCurrentDirectory;
+            return fileNodeViewModelForCurrentDirectory;
+        }
     }
 }
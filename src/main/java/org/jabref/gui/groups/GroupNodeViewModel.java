@@ -28,6 +28,10 @@ import org.jabref.gui.util.DroppingMouseLocation;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.groups.DefaultGroupsFactory;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.metrics.GroupRefreshEvent;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.metrics.Timer;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -44,6 +48,8 @@ import com.tobiasdiez.easybind.EasyObservableList;
 
 public class GroupNodeViewModel {
 
+    private static final Timer FIND_MATCHES_TIMER = MetricsRegistry.INSTANCE.timer("groups.findMatches");
+
     private final String displayName;
     private final boolean isRoot;
     private final ObservableList<GroupNodeViewModel> children;
@@ -267,11 +273,29 @@ public class GroupNodeViewModel {
         // for example, a previously matched entry gets removed -> hits = hits - 1
         if (preferencesService.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
+                    .wrap(() -> {
+                        GroupRefreshEvent event = new GroupRefreshEvent();
+                        event.begin();
+                        List<BibEntry> entries;
+                        try (Timer.Stopwatch stopwatch = FIND_MATCHES_TIMER.start()) {
+                            entries = groupNode.findMatches(databaseContext.getDatabase());
+                        }
+
+                        event.end();
+                        if (event.shouldCommit()) {
+                            event.group = groupNode.getName();
+                            event.entries = databaseContext.getDatabase().getEntryCount();
+                            event.matches = entries.size();
+                            event.commit();
+                        }
+                        return entries;
+                    })
                     .onSuccess(entries -> {
                         matchedEntries.clear();
                         matchedEntries.addAll(entries);
                     })
+                    .withPriority(TaskPriority.BACKGROUND)
+                    .withOwner(databaseContext)
                     .executeWith(taskExecutor);
         }
     }
@@ -0,0 +1,25 @@
+package org.jabref.gui.help;
+
+import org.jabref.gui.DialogService;
+import org.jabref.gui.actions.SimpleCommand;
+import org.jabref.gui.metrics.MetricsDialog;
+import org.jabref.preferences.PreferencesService;
+
+/**
+ * Shows where time goes when working with JabRef, e.g., when opening, searching or saving a large library.
+ */
+public class MetricsAction extends SimpleCommand {
+
+    private final DialogService dialogService;
+    private final PreferencesService preferencesService;
+
+    public MetricsAction(DialogService dialogService, PreferencesService preferencesService) {
+        this.dialogService = dialogService;
+        this.preferencesService = preferencesService;
+    }
+
+    @Override
+    public void execute() {
+        dialogService.showCustomDialog(new MetricsDialog(dialogService, preferencesService.getFilePreferences().getWorkingDirectory()));
+    }
+}
@@ -1,22 +1,22 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.Globals;
 import org.jabref.gui.JabRefFrame;
+import org.jabref.gui.LibraryTab;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheckService;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
@@ -39,6 +39,17 @@ public class IntegrityCheckAction extends SimpleCommand {
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
+
+        // From the first use on, the library is checked in the background. Its messages are used if all changes have been checked.
+        LibraryTab libraryTab = frame.getCurrentLibraryTab();
+        if (libraryTab.getBibDatabaseContext() == database) {
+            IntegrityCheckService checkService = libraryTab.getIntegrityCheckService();
+            if (checkService.isUpToDate()) {
+                showMessages(checkService.getAllMessages());
+                return;
+            }
+        }
+
         IntegrityCheck check = new IntegrityCheck(database,
                 Globals.prefs.getFilePreferences(),
                 Globals.prefs.getCitationKeyPatternPreferences(),
@@ -48,31 +59,20 @@ public class IntegrityCheckAction extends SimpleCommand {
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                List<IntegrityMessage> result = new ArrayList<>();
+                int numberOfEntries = database.getDatabase().getEntries().size();
+                AtomicInteger checkedEntries = new AtomicInteger();
+                AtomicInteger foundProblems = new AtomicInteger();
 
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                result.addAll(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
+                // The check reports the messages of each entry as soon as the entry is checked
+                return check.check(messages -> {
+                    updateProgress(checkedEntries.incrementAndGet(), numberOfEntries);
+                    if (!messages.isEmpty()) {
+                        updateMessage(Localization.lang("Problems found so far: %0", String.valueOf(foundProblems.addAndGet(messages.size()))));
                     }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
-                return result;
+                }, this::isCancelled);
             }
         };
-        task.setOnSucceeded(value -> {
-            List<IntegrityMessage> messages = task.getValue();
-            if (messages.isEmpty()) {
-                dialogService.notify(Localization.lang("No problems found."));
-            } else {
-                dialogService.showCustomDialogAndWait(new IntegrityCheckDialog(messages, frame.getCurrentLibraryTab()));
-            }
-        });
+        task.setOnSucceeded(value -> showMessages(task.getValue()));
         task.setOnFailed(event -> dialogService.showErrorDialogAndWait("Integrity check failed.", task.getException()));
 
         dialogService.showProgressDialog(
@@ -81,4 +81,12 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    private void showMessages(List<IntegrityMessage> messages) {
+        if (messages.isEmpty()) {
+            dialogService.notify(Localization.lang("No problems found."));
+        } else {
+            dialogService.showCustomDialogAndWait(new IntegrityCheckDialog(messages, frame.getCurrentLibraryTab()));
+        }
+    }
 }
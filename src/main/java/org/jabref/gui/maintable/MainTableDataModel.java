@@ -2,12 +2,14 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -16,6 +18,9 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.groups.GroupsPreferences;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.metrics.SearchEvent;
+import org.jabref.logic.metrics.Timer;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -27,7 +32,10 @@ import org.jabref.preferences.PreferencesService;
 import com.tobiasdiez.easybind.EasyBind;
 
 public class MainTableDataModel {
+    private static final Timer FILTER_TIMER = MetricsRegistry.INSTANCE.timer("maintable.filter");
+
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
+    private final ObservableValue<Predicate<BibEntryTableViewModel>> filter;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final PreferencesService preferencesService;
@@ -46,12 +54,27 @@ public class MainTableDataModel {
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
-        entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(),
-                        stateManager.activeSearchQueryProperty(),
-                        groupsPreferences.groupViewModeProperty(),
-                        (groups, query, groupViewMode) -> entry -> isMatched(groups, query, entry))
-        );
+        filter = EasyBind.combine(stateManager.activeGroupProperty(),
+                stateManager.activeSearchQueryProperty(),
+                groupsPreferences.groupViewModeProperty(),
+                (groups, query, groupViewMode) -> entry -> isMatched(groups, query, entry));
+        // Setting the predicate filters all entries, which is the latency of a search or group selection
+        EasyBind.subscribe(filter, predicate -> {
+            SearchEvent event = new SearchEvent();
+            event.begin();
+            try (Timer.Stopwatch stopwatch = FILTER_TIMER.start()) {
+                entriesFiltered.setPredicate(predicate);
+            }
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.query = stateManager.activeSearchQueryProperty().get().map(SearchQuery::getQuery).orElse("");
+                event.selectedGroups = stateManager.activeGroupProperty().size();
+                event.entries = entriesViewModel.size();
+                event.matches = entriesFiltered.size();
+                event.commit();
+            }
+        });
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
@@ -0,0 +1,103 @@
+package org.jabref.gui.metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.stage.Modality;
+
+import org.jabref.gui.DialogService;
+import org.jabref.gui.util.BaseDialog;
+import org.jabref.gui.util.ControlHelper;
+import org.jabref.gui.util.FileDialogConfiguration;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.metrics.MetricSnapshot;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.util.StandardFileType;
+
+/**
+ * Shows the metrics collected in the {@link MetricsRegistry}, e.g., how long parsing, saving and searching took.
+ */
+public class MetricsDialog extends BaseDialog<Void> {
+
+    private final DialogService dialogService;
+    private final Path workingDirectory;
+    private final TableView<MetricSnapshot> table = new TableView<>();
+
+    public MetricsDialog(DialogService dialogService, Path workingDirectory) {
+        this.dialogService = dialogService;
+        this.workingDirectory = workingDirectory;
+
+        setTitle(Localization.lang("Performance metrics"));
+        initModality(Modality.NONE);
+
+        table.getColumns().add(createColumn(Localization.lang("Name"), MetricSnapshot::name));
+        table.getColumns().add(createColumn(Localization.lang("Kind"), snapshot -> snapshot.kind().toString().toLowerCase(Locale.ROOT)));
+        table.getColumns().add(createColumn(Localization.lang("Count"), snapshot -> String.valueOf(snapshot.count())));
+        table.getColumns().add(createColumn(Localization.lang("Mean"), snapshot -> format(snapshot, snapshot.mean())));
+        table.getColumns().add(createColumn(Localization.lang("Median"), snapshot -> format(snapshot, snapshot.median())));
+        table.getColumns().add(createColumn(Localization.lang("95th percentile"), snapshot -> format(snapshot, snapshot.percentile95())));
+        table.getColumns().add(createColumn(Localization.lang("Maximum"), snapshot -> format(snapshot, snapshot.max())));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        table.setPrefSize(900, 500);
+
+        getDialogPane().setHeaderText(Localization.lang("Durations are given in milliseconds."));
+        getDialogPane().setContent(table);
+
+        ButtonType refreshButton = new ButtonType(Localization.lang("Refresh"), ButtonBar.ButtonData.LEFT);
+        ButtonType resetButton = new ButtonType(Localization.lang("Reset"), ButtonBar.ButtonData.LEFT);
+        ButtonType exportButton = new ButtonType(Localization.lang("Export"), ButtonBar.ButtonData.LEFT);
+        getDialogPane().getButtonTypes().setAll(refreshButton, resetButton, exportButton, ButtonType.CLOSE);
+        ControlHelper.setAction(refreshButton, getDialogPane(), event -> refresh());
+        ControlHelper.setAction(resetButton, getDialogPane(), event -> {
+            MetricsRegistry.INSTANCE.reset();
+            refresh();
+        });
+        ControlHelper.setAction(exportButton, getDialogPane(), event -> export());
+
+        refresh();
+    }
+
+    private static TableColumn<MetricSnapshot, String> createColumn(String title, Function<MetricSnapshot, String> value) {
+        TableColumn<MetricSnapshot, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(data -> new ReadOnlyStringWrapper(value.apply(data.getValue())));
+        return column;
+    }
+
+    private static String format(MetricSnapshot snapshot, double value) {
+        return switch (snapshot.kind()) {
+            case COUNTER, GAUGE -> "";
+            case HISTOGRAM, TIMER -> String.format(Locale.ROOT, "%.2f", value);
+        };
+    }
+
+    private void refresh() {
+        table.setItems(FXCollections.observableArrayList(MetricsRegistry.INSTANCE.getSnapshots()));
+    }
+
+    private void export() {
+        FileDialogConfiguration fileDialogConfiguration = new FileDialogConfiguration.Builder()
+                .withInitialDirectory(workingDirectory)
+                .addExtensionFilter(StandardFileType.TXT)
+                .withDefaultExtension(StandardFileType.TXT)
+                .build();
+        Optional<Path> exportPath = dialogService.showFileSaveDialog(fileDialogConfiguration);
+        if (exportPath.isEmpty()) {
+            return;
+        }
+
+        try {
+            MetricsRegistry.INSTANCE.exportTo(exportPath.get());
+        } catch (IOException e) {
+            dialogService.showErrorDialogAndWait(Localization.lang("Could not export file"), e);
+        }
+    }
+}
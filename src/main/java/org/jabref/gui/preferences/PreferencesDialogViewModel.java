@@ -12,6 +12,7 @@ import org.jabref.gui.AbstractViewModel;
 import org.jabref.gui.DialogService;
 import org.jabref.gui.Globals;
 import org.jabref.gui.JabRefFrame;
+import org.jabref.gui.LibraryTab;
 import org.jabref.gui.preferences.appearance.AppearanceTab;
 import org.jabref.gui.preferences.citationkeypattern.CitationKeyPatternTab;
 import org.jabref.gui.preferences.customexporter.CustomExporterTab;
@@ -175,6 +176,7 @@ public class PreferencesDialogViewModel extends AbstractViewModel {
                 xmpPreferences, preferences.getGeneralPreferences().getDefaultBibDatabaseMode(), Globals.entryTypesManager);
 
         frame.getLibraryTabs().forEach(panel -> panel.getMainTable().getTableModel().refresh());
+        frame.getLibraryTabs().forEach(LibraryTab::resetIntegrityCheckService);
     }
 
     /**
@@ -19,6 +19,8 @@ import javafx.scene.Node;
 
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
 
 import com.google.common.collect.ImmutableMap;
 import com.tobiasdiez.easybind.EasyBind;
@@ -48,6 +50,8 @@ public abstract class BackgroundTask<V> {
     private final DoubleProperty workDonePercentage = new SimpleDoubleProperty(0);
     private final BooleanProperty showToUser = new SimpleBooleanProperty(false);
     private final BooleanProperty willBeRecoveredAutomatically = new SimpleBooleanProperty(false);
+    private TaskPriority priority = TaskPriority.INTERACTIVE;
+    private Object owner;
 
     public BackgroundTask() {
         workDonePercentage.bind(EasyBind.map(progress, BackgroundTask.BackgroundProgress::getWorkDonePercentage));
@@ -139,6 +143,31 @@ public abstract class BackgroundTask<V> {
         this.willBeRecoveredAutomatically.set(willBeRecoveredAutomatically);
     }
 
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority with which the {@link TaskScheduler} runs this task. By default, a task is interactive.
+     */
+    public BackgroundTask<V> withPriority(TaskPriority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public Object getOwner() {
+        return owner;
+    }
+
+    /**
+     * Sets the owner of this task, e.g., the library it works on. The {@link TaskScheduler} lets tasks of different
+     * owners take turns.
+     */
+    public BackgroundTask<V> withOwner(Object owner) {
+        this.owner = owner;
+        return this;
+    }
+
     /**
      * Sets the {@link Runnable} that is invoked after the task is started.
      */
@@ -3,28 +3,60 @@ package org.jabref.gui.util;
 import java.io.IOException;
 import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.WatchServiceUnavailableException;
+import org.jabref.logic.metrics.MetricsRegistry;
 import org.jabref.model.util.FileUpdateListener;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This class monitors a set of files for changes. Upon detecting a change it notifies the registered {@link
- * FileUpdateListener}s.
+ * This class monitors a set of files and directory trees for changes. Upon detecting a change it notifies the
+ * registered {@link FileUpdateListener}s.
+ * <p>
+ * Changes to the same file (or below the same directory) are coalesced: the listeners are notified once the file did
+ * not change for a short time, so that a file saved in several writes causes a single notification. The listeners of a
+ * directory are told all paths changed below it meanwhile. Listeners are called on a separate thread with a bounded
+ * queue, so that a slow listener does not stop the watching. If the operating system drops events (overflow), all
+ * watched files in the affected directory, and the directory itself, are reported as changed.
+ * <p>
+ * The {@link Statistics} of the monitor are published as gauges named <code>fileMonitor.*</code> in the
+ * {@link MetricsRegistry}.
  * <p>
  * Implementation based on <a href="https://stackoverflow.com/questions/16251273/can-i-watch-for-single-file-change-with-watchservice-not-the-whole-directory">https://stackoverflow.com/questions/16251273/can-i-watch-for-single-file-change-with-watchservice-not-the-whole-directory</a>.
  */
@@ -32,16 +64,66 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
-    private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
+    private static final Duration DEFAULT_COALESCING_WINDOW = Duration.ofMillis(200);
+    private static final int DISPATCH_QUEUE_CAPACITY = 256;
+
+    private final Multimap<Path, FileUpdateListener> listeners = Multimaps.synchronizedMultimap(ArrayListMultimap.create(20, 4));
+    private final Multimap<Path, FileUpdateListener> directoryListeners = Multimaps.synchronizedMultimap(ArrayListMultimap.create());
+    // the directories registered for each watched directory tree, so that they can be unregistered with its last listener
+    private final Map<Path, Set<Path>> directoriesOfRoots = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
+    private final Map<Target, PendingNotification> pendingNotifications = new ConcurrentHashMap<>();
     private volatile WatchService watcher;
     private final AtomicBoolean notShutdown = new AtomicBoolean(true);
+    private final CountDownLatch started = new CountDownLatch(1);
     private final AtomicReference<Optional<JabRefException>> filesystemMonitorFailure = new AtomicReference<>(Optional.empty());
 
+    private final Duration coalescingWindow;
+    private final ScheduledExecutorService coalescingScheduler;
+    private final ExecutorService dispatcher;
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder coalescedEvents = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder notifications = new LongAdder();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public DefaultFileUpdateMonitor() {
+        this(DEFAULT_COALESCING_WINDOW);
+    }
+
+    DefaultFileUpdateMonitor(Duration coalescingWindow) {
+        this.coalescingWindow = coalescingWindow;
+        this.coalescingScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> createThread(runnable, "JabRef FileUpdateMonitor Coalescing"));
+        // When the queue is full, the coalescing thread calls the listeners itself, which slows down the producer
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DISPATCH_QUEUE_CAPACITY),
+                runnable -> createThread(runnable, "JabRef FileUpdateMonitor Dispatcher"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        MetricsRegistry metrics = MetricsRegistry.INSTANCE;
+        metrics.registerGauge("fileMonitor.events", events::sum);
+        metrics.registerGauge("fileMonitor.coalescedEvents", coalescedEvents::sum);
+        metrics.registerGauge("fileMonitor.overflows", overflows::sum);
+        metrics.registerGauge("fileMonitor.notifications", notifications::sum);
+        metrics.registerGauge("fileMonitor.latency.averageMillis", () -> getStatistics().averageLatency().toMillis());
+        metrics.registerGauge("fileMonitor.latency.maxMillis", () -> getStatistics().maxLatency().toMillis());
+    }
+
+    private static Thread createThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable);
+        thread.setName(name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
     @Override
     public void run() {
         try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
             this.watcher = watcher;
             filesystemMonitorFailure.set(Optional.empty());
+            started.countDown();
 
             while (notShutdown.get()) {
                 WatchKey key;
@@ -51,38 +133,149 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
                     return;
                 }
 
+                Path directory = (Path) key.watchable();
                 for (WatchEvent<?> event : key.pollEvents()) {
+                    long eventTime = System.nanoTime();
+                    events.increment();
                     WatchEvent.Kind<?> kind = event.kind();
 
                     if (kind == StandardWatchEventKinds.OVERFLOW) {
-                        Thread.yield();
-                        continue;
-                    } else if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                        // We only handle "ENTRY_CREATE" and "ENTRY_MODIFY" here, so the context is always a Path
+                        overflows.increment();
+                        rescan(directory, eventTime);
+                    } else {
+                        // All other kinds have a Path as context
                         @SuppressWarnings("unchecked")
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                        Path path = ((Path) key.watchable()).resolve(ev.context());
-                        notifyAboutChange(path);
+                        Path path = directory.resolve(ev.context());
+                        handleChange(path, kind, eventTime);
                     }
-                    key.reset();
                 }
-                Thread.yield();
+                if (!key.reset()) {
+                    // the directory has been deleted
+                    watchKeys.remove(directory, key);
+                }
             }
         } catch (IOException e) {
             JabRefException exception = new WatchServiceUnavailableException(
                     e.getMessage(), e.getLocalizedMessage(), e.getCause());
             filesystemMonitorFailure.set(Optional.of(exception));
             LOGGER.warn(exception.getLocalizedMessage(), e);
+        } finally {
+            started.countDown();
         }
     }
 
+    /**
+     * Waits until the watch service has been started (or failed to start) by {@link #run()}.
+     *
+     * @return false if the time elapsed before
+     */
+    boolean awaitStart(Duration timeout) throws InterruptedException {
+        return started.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return whether a notification is waiting for the coalescing window to pass
+     */
+    boolean hasPendingNotifications() {
+        return !pendingNotifications.isEmpty();
+    }
+
     @Override
     public boolean isActive() {
         return filesystemMonitorFailure.get().isEmpty();
     }
 
-    private void notifyAboutChange(Path path) {
-        listeners.get(path).forEach(FileUpdateListener::fileUpdated);
+    private void handleChange(Path path, WatchEvent.Kind<?> kind, long eventTime) {
+        // File listeners are only told about changed files, not about deleted ones
+        if ((kind != StandardWatchEventKinds.ENTRY_DELETE) && listeners.containsKey(path)) {
+            schedule(new Target(path, false), eventTime, path);
+        }
+
+        List<Path> roots = getDirectoryRootsContaining(path);
+        if (roots.isEmpty()) {
+            return;
+        }
+        if ((kind == StandardWatchEventKinds.ENTRY_CREATE) && Files.isDirectory(path)) {
+            registerRecursively(path);
+        }
+        roots.forEach(root -> schedule(new Target(root, true), eventTime, path));
+    }
+
+    /**
+     * Events of the given directory were lost. Reports all watched files in it as changed and registers subdirectories
+     * created meanwhile.
+     */
+    private void rescan(Path directory, long eventTime) {
+        List<Path> files;
+        synchronized (listeners) {
+            files = listeners.keySet().stream().filter(file -> directory.equals(file.getParent())).toList();
+        }
+        files.forEach(file -> schedule(new Target(file, false), eventTime, file));
+
+        List<Path> roots = getDirectoryRootsContaining(directory);
+        if (!roots.isEmpty()) {
+            registerRecursively(directory);
+            roots.forEach(root -> schedule(new Target(root, true), eventTime, directory));
+        }
+    }
+
+    private List<Path> getDirectoryRootsContaining(Path path) {
+        synchronized (directoryListeners) {
+            return directoryListeners.keySet().stream().filter(path::startsWith).toList();
+        }
+    }
+
+    /**
+     * @param changedPath the changed path, which is reported to the listeners of a directory
+     */
+    private void schedule(Target target, long eventTime, Path changedPath) {
+        if (!notShutdown.get()) {
+            return;
+        }
+        pendingNotifications.compute(target, (key, pending) -> {
+            long firstEventTime = eventTime;
+            Set<Path> changedPaths = new HashSet<>();
+            if (pending != null) {
+                pending.notification().cancel(false);
+                firstEventTime = pending.firstEventTime();
+                changedPaths.addAll(pending.changedPaths());
+                coalescedEvents.increment();
+            }
+            changedPaths.add(changedPath);
+            ScheduledFuture<?> notification = coalescingScheduler.schedule(() -> dispatch(key), coalescingWindow.toMillis(), TimeUnit.MILLISECONDS);
+            return new PendingNotification(firstEventTime, notification, Collections.unmodifiableSet(changedPaths));
+        });
+    }
+
+    private void dispatch(Target target) {
+        PendingNotification pending = pendingNotifications.remove(target);
+        if (pending == null) {
+            // already notified together with a later event
+            return;
+        }
+        List<FileUpdateListener> listenersToNotify;
+        Multimap<Path, FileUpdateListener> targetListeners = target.isDirectory() ? directoryListeners : listeners;
+        synchronized (targetListeners) {
+            listenersToNotify = List.copyOf(targetListeners.get(target.path()));
+        }
+        dispatcher.execute(() -> {
+            long latency = System.nanoTime() - pending.firstEventTime();
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            notifications.increment();
+            for (FileUpdateListener listener : listenersToNotify) {
+                try {
+                    if (target.isDirectory()) {
+                        listener.filesUpdated(pending.changedPaths());
+                    } else {
+                        listener.fileUpdated();
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.error("Listener {} failed on update of {}", listener, target.path(), e);
+                }
+            }
+        });
     }
 
     @Override
@@ -90,22 +283,125 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         if (isActive()) {
             // We can't watch files directly, so monitor their parent directory for updates
             Path directory = file.toAbsolutePath().getParent();
-            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            register(directory);
             listeners.put(file, listener);
         } else {
             LOGGER.warn("Not adding listener {} to file {} because the file update monitor isn't active", listener, file);
         }
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException {
+        if (isActive()) {
+            Path root = directory.toAbsolutePath();
+            synchronized (directoryListeners) {
+                // fails if the directory does not exist; problems with subdirectories are only logged
+                register(root);
+                directoriesOfRoots.computeIfAbsent(root, key -> ConcurrentHashMap.newKeySet()).add(root);
+                directoryListeners.put(root, listener);
+            }
+            registerRecursively(root);
+        } else {
+            LOGGER.warn("Not adding listener {} to directory {} because the file update monitor isn't active", listener, directory);
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        // All registrations of a directory have to use the same kinds, because registering again replaces them
+        WatchKey key = directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        watchKeys.put(directory, key);
+    }
+
+    /**
+     * Registers the given directory and all directories below it for the watched directory trees containing it.
+     */
+    private void registerRecursively(Path start) {
+        try {
+            Files.walkFileTree(start, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                    synchronized (directoryListeners) {
+                        List<Path> roots = getDirectoryRootsContaining(directory);
+                        if (roots.isEmpty()) {
+                            // the last listener has been removed meanwhile
+                            return FileVisitResult.TERMINATE;
+                        }
+                        register(directory);
+                        roots.forEach(root -> directoriesOfRoots.computeIfAbsent(root, key -> ConcurrentHashMap.newKeySet()).add(directory));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    LOGGER.debug("Cannot watch {}", file, e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warn("Cannot watch directory {}", start, e);
+        }
+    }
+
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
         listeners.remove(path, listener);
+        Path root = path.toAbsolutePath();
+        synchronized (directoryListeners) {
+            directoryListeners.remove(root, listener);
+            if (!directoryListeners.containsKey(root)) {
+                unregisterDirectories(root);
+            }
+        }
+    }
+
+    /**
+     * Stops watching the directories of the given directory tree which are neither part of another watched tree nor
+     * contain a watched file.
+     */
+    private void unregisterDirectories(Path root) {
+        Set<Path> directories = directoriesOfRoots.remove(root);
+        if (directories == null) {
+            return;
+        }
+        Set<Path> directoriesInUse = new HashSet<>();
+        directoriesOfRoots.values().forEach(directoriesInUse::addAll);
+        synchronized (listeners) {
+            listeners.keySet().forEach(file -> directoriesInUse.add(file.toAbsolutePath().getParent()));
+        }
+        for (Path directory : directories) {
+            if (!directoriesInUse.contains(directory)) {
+                WatchKey key = watchKeys.remove(directory);
+                if (key != null) {
+                    key.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of directories currently watched
+     */
+    int getNumberOfWatchedDirectories() {
+        return watchKeys.size();
+    }
+
+    /**
+     * Returns the counts of events and notifications and the time from the first event of a change to the notification
+     * of its listeners, which includes the coalescing window.
+     */
+    public Statistics getStatistics() {
+        long notificationCount = notifications.sum();
+        Duration averageLatency = notificationCount == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.get() / notificationCount);
+        return new Statistics(events.sum(), coalescedEvents.sum(), overflows.sum(), notificationCount, averageLatency, Duration.ofNanos(maxLatencyNanos.get()));
     }
 
     @Override
     public void shutdown() {
         try {
             notShutdown.set(false);
+            coalescingScheduler.shutdownNow();
+            dispatcher.shutdown();
             WatchService watcher = this.watcher;
             if (watcher != null) {
                 watcher.close();
@@ -114,4 +410,19 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
             LOGGER.error("error closing watcher", e);
         }
     }
+
+    /**
+     * @param events          the number of events reported by the operating system
+     * @param coalescedEvents the number of events merged into a pending notification
+     * @param overflows       the number of times events were lost and directories were rescanned
+     * @param notifications   the number of notifications of the listeners of a file or directory
+     */
+    public record Statistics(long events, long coalescedEvents, long overflows, long notifications, Duration averageLatency, Duration maxLatency) {
+    }
+
+    private record Target(Path path, boolean isDirectory) {
+    }
+
+    private record PendingNotification(long firstEventTime, ScheduledFuture<?> notification, Set<Path> changedPaths) {
+    }
 }
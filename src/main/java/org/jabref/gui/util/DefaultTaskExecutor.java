@@ -5,12 +5,11 @@ import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import javafx.application.Platform;
@@ -18,20 +17,19 @@ import javafx.concurrent.Task;
 
 import org.jabref.gui.StateManager;
 import org.jabref.logic.util.DelayTaskThrottler;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A very simple implementation of the {@link TaskExecutor} interface.
- * Every submitted task is invoked in a separate thread.
+ * Every submitted task is handed over to the {@link TaskScheduler}, which runs it according to its priority.
  */
 public class DefaultTaskExecutor implements TaskExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultTaskExecutor.class);
-
-    private final ExecutorService executor = Executors.newFixedThreadPool(5);
-    private final ScheduledExecutorService scheduledExecutor = Executors.newScheduledThreadPool(2);
     private final WeakHashMap<DelayTaskThrottler, Void> throttlers = new WeakHashMap<>();
 
     private final StateManager stateManager;
@@ -104,32 +102,47 @@ public class DefaultTaskExecutor implements TaskExecutor {
 
     @Override
     public <V> Future<V> execute(BackgroundTask<V> task) {
-        Task<V> javafxTask = getJavaFXTask(task);
+        AtomicReference<Exception> rejection = new AtomicReference<>();
+        Task<V> javafxTask = getJavaFXTask(task, rejection);
         if (task.showToUser()) {
             stateManager.addBackgroundTask(task, javafxTask);
         }
-        return execute(javafxTask);
+        try {
+            TaskScheduler.INSTANCE.execute(javafxTask, task.getPriority(), task.getOwner());
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Could not run task {}", javafxTask.getTitle(), e);
+            // The caller is usually the JavaFX thread, so the task fails with the rejection instead of throwing it
+            rejection.set(e);
+            javafxTask.run();
+        }
+        return javafxTask;
     }
 
+    /**
+     * Runs the given task with interactive priority. If the {@link TaskScheduler} rejects the task, it is canceled.
+     */
     @Override
     public <V> Future<V> execute(Task<V> task) {
-        executor.submit(task);
+        try {
+            TaskScheduler.INSTANCE.execute(task, TaskPriority.INTERACTIVE, null);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Could not run task {}", task.getTitle(), e);
+            task.cancel();
+        }
         return task;
     }
 
     @Override
     public <V> Future<?> schedule(BackgroundTask<V> task, long delay, TimeUnit unit) {
-        return scheduledExecutor.schedule(getJavaFXTask(task), delay, unit);
+        return TaskScheduler.INSTANCE.schedule(getJavaFXTask(task), delay, unit, task.getPriority(), task.getOwner());
     }
 
     /**
-     * Shuts everything down. After termination, this method returns.
+     * Cancels all running tasks. The {@link TaskScheduler} itself is shut down by {@link org.jabref.gui.JabRefExecutorService}.
      */
     @Override
     public void shutdown() {
         stateManager.getBackgroundTasks().stream().filter(task -> !task.isDone()).forEach(Task::cancel);
-        executor.shutdownNow();
-        scheduledExecutor.shutdownNow();
         throttlers.forEach((throttler, aVoid) -> throttler.shutdown());
     }
 
@@ -141,6 +154,14 @@ public class DefaultTaskExecutor implements TaskExecutor {
     }
 
     private <V> Task<V> getJavaFXTask(BackgroundTask<V> task) {
+        return getJavaFXTask(task, new AtomicReference<>());
+    }
+
+    /**
+     * @param rejection if set when the returned task runs, the task fails with this exception instead of running the
+     *                  background task
+     */
+    private <V> Task<V> getJavaFXTask(BackgroundTask<V> task, AtomicReference<Exception> rejection) {
         Task<V> javaTask = new Task<V>() {
             {
                 this.updateMessage(task.messageProperty().get());
@@ -158,6 +179,10 @@ public class DefaultTaskExecutor implements TaskExecutor {
 
             @Override
             public V call() throws Exception {
+                Exception rejectionException = rejection.get();
+                if (rejectionException != null) {
+                    throw rejectionException;
+                }
                 return task.call();
             }
         };
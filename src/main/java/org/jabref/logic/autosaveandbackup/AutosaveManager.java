@@ -2,10 +2,12 @@ package org.jabref.logic.autosaveandbackup;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.util.CoarseChangeFilter;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.AutosaveEvent;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
@@ -17,8 +19,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Saves the given {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent} by posting a new {@link AutosaveEvent}.
- * An intelligent {@link ScheduledThreadPoolExecutor} prevents a high load while saving and rejects all redundant save tasks.
- * The scheduled action is stored and canceled if a newer save action is proposed.
+ * The {@link TaskScheduler} checks periodically whether the library has changed, so that changes in quick succession
+ * lead to a single save.
  */
 public class AutosaveManager {
 
@@ -32,7 +34,7 @@ public class AutosaveManager {
 
     private final EventBus eventBus;
     private final CoarseChangeFilter changeFilter;
-    private final ScheduledThreadPoolExecutor executor;
+    private final ScheduledFuture<?> autosaveTask;
     private boolean needsSave = false;
 
     private AutosaveManager(BibDatabaseContext bibDatabaseContext) {
@@ -41,8 +43,7 @@ public class AutosaveManager {
         this.changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
 
-        this.executor = new ScheduledThreadPoolExecutor(2);
-        this.executor.scheduleAtFixedRate(
+        this.autosaveTask = TaskScheduler.INSTANCE.scheduleAtFixedRate(
                 () -> {
                     if (needsSave) {
                        eventBus.post(new AutosaveEvent());
@@ -51,7 +52,9 @@ public class AutosaveManager {
                 },
                 DELAY_BETWEEN_AUTOSAVE_ATTEMPTS_IN_SECONDS,
                 DELAY_BETWEEN_AUTOSAVE_ATTEMPTS_IN_SECONDS,
-                TimeUnit.SECONDS);
+                TimeUnit.SECONDS,
+                TaskPriority.BACKGROUND,
+                bibDatabaseContext);
     }
 
     @Subscribe
@@ -64,7 +67,7 @@ public class AutosaveManager {
     private void shutdown() {
         changeFilter.unregisterListener(this);
         changeFilter.shutdown();
-        executor.shutdown();
+        autosaveTask.cancel(false);
     }
 
     /**
@@ -13,10 +13,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.bibtex.InvalidFieldValueException;
@@ -26,6 +24,8 @@ import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
@@ -39,8 +39,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Backups the given bib database file from {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent}.
- * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
- * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
+ * The backups are made periodically by the {@link TaskScheduler} in the background, and only if the library has changed
+ * since the last backup. This class does not manage the .bak file which is created when opening a
  * database.
  */
 public class BackupManager {
@@ -55,7 +55,6 @@ public class BackupManager {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final PreferencesService preferences;
-    private final ScheduledThreadPoolExecutor executor;
     private final CoarseChangeFilter changeFilter;
     private final BibEntryTypesManager entryTypesManager;
 
@@ -66,11 +65,12 @@ public class BackupManager {
 
     private boolean needsBackup = true;
 
+    private ScheduledFuture<?> backupTask;
+
     private BackupManager(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, PreferencesService preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
         this.preferences = preferences;
-        this.executor = new ScheduledThreadPoolExecutor(2);
 
         changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
@@ -249,12 +249,14 @@ public class BackupManager {
     private void startBackupTask() {
         fillQueue();
 
-        executor.scheduleAtFixedRate(
+        backupTask = TaskScheduler.INSTANCE.scheduleAtFixedRate(
                 // We need to determine the backup path on each action, because we use the timestamp in the filename
                 () -> determineBackupPathForNewBackup().ifPresent(this::performBackup),
                 DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS,
                 DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS,
-                TimeUnit.SECONDS);
+                TimeUnit.SECONDS,
+                TaskPriority.BACKGROUND,
+                bibDatabaseContext);
     }
 
     private void fillQueue() {
@@ -284,7 +286,7 @@ public class BackupManager {
     private void shutdown() {
         changeFilter.unregisterListener(this);
         changeFilter.shutdown();
-        executor.shutdown();
+        backupTask.cancel(false);
 
         // Ensure that backup is a recent one
         determineBackupPathForNewBackup().ifPresent(this::performBackup);
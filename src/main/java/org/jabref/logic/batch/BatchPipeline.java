@@ -0,0 +1,338 @@
+package org.jabref.logic.batch;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.cleanup.CleanupWorker;
+import org.jabref.logic.exporter.AtomicFileOutputStream;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.PreferencesService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes a BibTeX library as a stream of batches of entries, so that libraries of any size can be handled with a
+ * bounded amount of memory. Each batch is parsed, cleaned up, gets new citation keys, is checked for integrity and is
+ * written to the output.
+ * <p>
+ * Parsing with cleanup and the integrity check run on a pool of worker threads. Generating the keys and writing run on
+ * one thread each and handle the batches in the order of the input, so that the output and the generated keys do not
+ * depend on the scheduling. All stages are connected by bounded queues.
+ * <p>
+ * Only the citation keys in use are kept for the whole run, in order to generate unique keys and to find duplicated
+ * keys across batches. Strings are resolved across batches as well. Cross-references are only resolved within a
+ * batch, and library-specific settings (e.g., key patterns and save actions) are not applied.
+ */
+public class BatchPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchPipeline.class);
+
+    private static final Future<Batch> END_OF_INPUT = CompletableFuture.completedFuture(null);
+
+    private final PreferencesService preferencesService;
+    private final BibEntryTypesManager entryTypesManager;
+    private final JournalAbbreviationRepository journalAbbreviationRepository;
+    private final boolean allowIntegerEdition;
+    private final int numberOfThreads;
+    private final int entriesPerBatch;
+
+    public BatchPipeline(PreferencesService preferencesService,
+                         BibEntryTypesManager entryTypesManager,
+                         JournalAbbreviationRepository journalAbbreviationRepository,
+                         boolean allowIntegerEdition,
+                         int numberOfThreads,
+                         int entriesPerBatch) {
+        if ((numberOfThreads < 1) || (entriesPerBatch < 1)) {
+            throw new IllegalArgumentException("At least one thread and one entry per batch are required");
+        }
+        this.preferencesService = Objects.requireNonNull(preferencesService);
+        this.entryTypesManager = Objects.requireNonNull(entryTypesManager);
+        this.journalAbbreviationRepository = Objects.requireNonNull(journalAbbreviationRepository);
+        this.allowIntegerEdition = allowIntegerEdition;
+        this.numberOfThreads = numberOfThreads;
+        this.entriesPerBatch = entriesPerBatch;
+    }
+
+    /**
+     * Processes the given BibTeX file and writes the result to the output file. The output file is only replaced if
+     * the whole input was processed successfully.
+     *
+     * @param steps           the optional steps to run
+     * @param messageConsumer receives the integrity messages of each batch, in the order of the input
+     */
+    public Result process(Path input, Path output, Set<Step> steps, Consumer<IntegrityMessage> messageConsumer) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "JabRef batch worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorService stages = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "JabRef batch stage");
+            thread.setDaemon(true);
+            return thread;
+        });
+        BlockingQueue<Future<Batch>> parsed = new ArrayBlockingQueue<>(numberOfThreads * 2);
+        BlockingQueue<Future<Batch>> checked = new ArrayBlockingQueue<>(numberOfThreads * 2);
+
+        try {
+            Future<?> keyStage = stages.submit(() -> {
+                generateKeys(parsed, checked, workers, steps);
+                return null;
+            });
+            Future<Result> writeStage = stages.submit(() -> write(checked, output, messageConsumer));
+
+            try (Reader reader = Importer.getReader(input)) {
+                read(reader, input, parsed, workers, steps, List.of(keyStage, writeStage));
+            } finally {
+                parsed.put(END_OF_INPUT);
+            }
+
+            keyStage.get();
+            return writeStage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch processing was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Batch processing failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+            stages.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the input into chunks and parses and cleans them up on the workers.
+     */
+    private void read(Reader reader, Path input, BlockingQueue<Future<Batch>> parsed, ExecutorService workers, Set<Step> steps, List<Future<?>> laterStages)
+            throws IOException, InterruptedException {
+        BibtexChunkReader chunkReader = new BibtexChunkReader(reader, entriesPerBatch);
+        // Strings defined in earlier chunks. Replaced on change, so that each batch sees a consistent state.
+        Map<String, String> knownStrings = Map.of();
+        Optional<BibtexChunkReader.Chunk> chunk;
+        // a later stage only finishes early if it failed
+        while (laterStages.stream().noneMatch(Future::isDone) && (chunk = chunkReader.readChunk()).isPresent()) {
+            BibtexChunkReader.Chunk currentChunk = chunk.get();
+            Map<String, String> stringsOfPreviousChunks = knownStrings;
+            parsed.put(workers.submit(() -> parseAndCleanUp(currentChunk, stringsOfPreviousChunks, input, steps)));
+
+            if (!currentChunk.stringDefinitions().isEmpty()) {
+                Map<String, String> strings = new HashMap<>(knownStrings);
+                BibDatabase definitions = parse(String.join(OS.NEWLINE, currentChunk.stringDefinitions())).getDatabase();
+                for (BibtexString string : definitions.getStringValues()) {
+                    strings.put(string.getName(), string.getContent());
+                }
+                knownStrings = Map.copyOf(strings);
+            }
+        }
+    }
+
+    private Batch parseAndCleanUp(BibtexChunkReader.Chunk chunk, Map<String, String> knownStrings, Path input, Set<Step> steps) throws IOException {
+        ParserResult parserResult = parse(chunk.text());
+        for (String warning : parserResult.warnings()) {
+            LOGGER.warn("{}: {}", input, warning);
+        }
+
+        BibDatabaseContext databaseContext = parserResult.getDatabaseContext();
+        databaseContext.setDatabasePath(input);
+        databaseContext.setMode(preferencesService.getGeneralPreferences().getDefaultBibDatabaseMode());
+
+        BibDatabase database = databaseContext.getDatabase();
+        List<String> injectedStrings = new ArrayList<>();
+        knownStrings.forEach((name, content) -> {
+            if (database.getStringByName(name).isEmpty()) {
+                BibtexString string = new BibtexString(name, content);
+                database.addString(string);
+                injectedStrings.add(string.getId());
+            }
+        });
+
+        if (steps.contains(Step.CLEANUP)) {
+            CleanupWorker cleanupWorker = new CleanupWorker(
+                    databaseContext,
+                    preferencesService.getFilePreferences(),
+                    preferencesService.getTimestampPreferences());
+            for (BibEntry entry : database.getEntries()) {
+                cleanupWorker.cleanup(preferencesService.getCleanupPreferences(), entry);
+            }
+        }
+        return new Batch(databaseContext, injectedStrings);
+    }
+
+    private ParserResult parse(String text) throws IOException {
+        return new BibtexParser(preferencesService.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                .parse(new StringReader(text));
+    }
+
+    /**
+     * Generates the citation keys batch by batch in the order of the input and hands the batches on to the integrity
+     * check. Keys used by earlier batches count as occupied.
+     */
+    private void generateKeys(BlockingQueue<Future<Batch>> parsed, BlockingQueue<Future<Batch>> checked, ExecutorService workers, Set<Step> steps)
+            throws InterruptedException, ExecutionException {
+        Set<String> usedKeys = new HashSet<>();
+        try {
+            Future<Batch> next;
+            while ((next = parsed.take()) != END_OF_INPUT) {
+                Batch batch = next.get();
+                if (steps.contains(Step.GENERATE_KEYS)) {
+                    CitationKeyGenerator keyGenerator = new CitationKeyGenerator(batch.databaseContext, preferencesService.getCitationKeyPatternPreferences());
+                    for (BibEntry entry : batch.databaseContext.getEntries()) {
+                        String oldKey = entry.getCitationKey().orElse(null);
+                        // the generator expects the entry itself to be counted if it keeps its key
+                        String newKey = keyGenerator.generateKey(entry, key -> (usedKeys.contains(key) ? 1 : 0) + (key.equals(oldKey) ? 1 : 0));
+                        entry.setCitationKey(newKey);
+                        usedKeys.add(newKey);
+                    }
+                } else {
+                    for (BibEntry entry : batch.databaseContext.getEntries()) {
+                        // duplicates within the batch are found by the integrity check itself
+                        entry.getCitationKey()
+                             .filter(key -> steps.contains(Step.CHECK_INTEGRITY) && usedKeys.contains(key))
+                             .ifPresent(key -> batch.messages.add(new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY)));
+                    }
+                    batch.databaseContext.getEntries().forEach(entry -> entry.getCitationKey().ifPresent(usedKeys::add));
+                }
+
+                if (steps.contains(Step.CHECK_INTEGRITY)) {
+                    checked.put(workers.submit(() -> checkIntegrity(batch)));
+                } else {
+                    checked.put(CompletableFuture.completedFuture(batch));
+                }
+            }
+        } catch (ExecutionException | RuntimeException e) {
+            drain(parsed);
+            throw e;
+        } finally {
+            checked.put(END_OF_INPUT);
+        }
+    }
+
+    private Batch checkIntegrity(Batch batch) {
+        IntegrityCheck integrityCheck = new IntegrityCheck(
+                batch.databaseContext,
+                preferencesService.getFilePreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                journalAbbreviationRepository,
+                allowIntegerEdition);
+        for (BibEntry entry : batch.databaseContext.getEntries()) {
+            batch.messages.addAll(integrityCheck.checkEntry(entry));
+        }
+        batch.messages.addAll(integrityCheck.checkDatabase(batch.databaseContext.getDatabase()));
+        return batch;
+    }
+
+    /**
+     * Writes the batches in the order of the input. Each batch is written like a plain BibTeX file.
+     */
+    private Result write(BlockingQueue<Future<Batch>> checked, Path output, Consumer<IntegrityMessage> messageConsumer)
+            throws IOException, InterruptedException, ExecutionException {
+        SavePreferences savePreferences = preferencesService.getSavePreferences()
+                                                            .withSaveType(SavePreferences.DatabaseSaveType.PLAIN_BIBTEX)
+                                                            .withSaveInOriginalOrder(true);
+        int entries = 0;
+        int messages = 0;
+        AtomicFileOutputStream outputStream = new AtomicFileOutputStream(output);
+        try (Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+            try {
+                BibWriter bibWriter = new BibWriter(writer, OS.NEWLINE);
+                Future<Batch> next;
+                while ((next = checked.take()) != END_OF_INPUT) {
+                    Batch batch = next.get();
+                    BibDatabase database = batch.databaseContext.getDatabase();
+                    // strings of earlier batches were only added for resolving, they are already written
+                    batch.injectedStrings.forEach(database::removeString);
+                    new BibtexDatabaseWriter(bibWriter, preferencesService.getGeneralPreferences(), savePreferences, entryTypesManager)
+                            .saveDatabase(batch.databaseContext);
+
+                    entries += database.getEntryCount();
+                    messages += batch.messages.size();
+                    batch.messages.forEach(messageConsumer);
+                }
+            } catch (InterruptedException e) {
+                outputStream.abort();
+                throw e;
+            } catch (IOException | ExecutionException | RuntimeException e) {
+                outputStream.abort();
+                drain(checked);
+                throw e;
+            }
+        }
+        return new Result(entries, messages);
+    }
+
+    /**
+     * Lets the previous stage run into the end of the input, so that it is not blocked by a full queue.
+     */
+    private static void drain(BlockingQueue<Future<Batch>> queue) throws InterruptedException {
+        while (queue.take() != END_OF_INPUT) {
+            // drop the batch
+        }
+    }
+
+    public enum Step {
+        CLEANUP,
+        GENERATE_KEYS,
+        CHECK_INTEGRITY
+    }
+
+    /**
+     * @param entries  the number of written entries
+     * @param messages the number of integrity messages
+     */
+    public record Result(int entries, int messages) {
+    }
+
+    private static class Batch {
+        private final BibDatabaseContext databaseContext;
+        private final List<String> injectedStrings;
+        private final List<IntegrityMessage> messages = new ArrayList<>();
+
+        Batch(BibDatabaseContext databaseContext, List<String> injectedStrings) {
+            this.databaseContext = databaseContext;
+            this.injectedStrings = injectedStrings;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.jabref.logic.batch;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Splits BibTeX input into chunks of complete top-level items (entries, strings, comments, preambles) without parsing
+ * the items. Each chunk can be parsed on its own by {@link org.jabref.logic.importer.fileformat.BibtexParser}.
+ * <p>
+ * Items are recognized by their balanced braces, which BibTeX requires anyway. Text between items (e.g., comments in
+ * front of an entry) is kept in the chunk of the following item, text after the last item ends up in the last chunk.
+ */
+public class BibtexChunkReader {
+
+    private final PushbackReader reader;
+    private final int itemsPerChunk;
+
+    public BibtexChunkReader(Reader reader, int itemsPerChunk) {
+        if (itemsPerChunk < 1) {
+            throw new IllegalArgumentException("A chunk has to contain at least one item");
+        }
+        this.reader = new PushbackReader(reader, 1);
+        this.itemsPerChunk = itemsPerChunk;
+    }
+
+    /**
+     * @return the next chunk or an empty optional if the input is consumed
+     */
+    public Optional<Chunk> readChunk() throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<String> stringDefinitions = new ArrayList<>();
+        List<String> itemTypes = new ArrayList<>();
+        int items = 0;
+        int character;
+        while ((items < itemsPerChunk) && ((character = reader.read()) != -1)) {
+            if (character != '@') {
+                text.append((char) character);
+                continue;
+            }
+
+            int start = text.length();
+            text.append('@');
+            Optional<String> type = readItem(text);
+            if (type.isPresent()) {
+                items++;
+                itemTypes.add(type.get());
+                if ("string".equals(type.get())) {
+                    stringDefinitions.add(text.substring(start));
+                }
+            }
+        }
+
+        if (text.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Chunk(text.toString(), stringDefinitions, itemTypes));
+    }
+
+    /**
+     * Reads the item following an <code>@</code> up to its closing brace.
+     *
+     * @return the lower case type of the item, or an empty optional if the <code>@</code> does not start an item
+     */
+    private Optional<String> readItem(StringBuilder text) throws IOException {
+        StringBuilder type = new StringBuilder();
+        int opening;
+        while (true) {
+            int character = reader.read();
+            if (character == -1) {
+                return Optional.empty();
+            }
+            if ((character == '{') || (character == '(')) {
+                text.append((char) character);
+                opening = character;
+                break;
+            }
+            if (character == '@') {
+                // this was no item, but the next one might be
+                reader.unread(character);
+                return Optional.empty();
+            }
+            text.append((char) character);
+            if (Character.isLetter(character)) {
+                type.append((char) character);
+            } else if (!Character.isWhitespace(character)) {
+                return Optional.empty();
+            }
+        }
+
+        int depth = 0;
+        int character;
+        while ((character = reader.read()) != -1) {
+            text.append((char) character);
+            if (character == '{') {
+                depth++;
+            } else if (character == '}') {
+                if ((depth == 0) && (opening == '{')) {
+                    break;
+                }
+                depth--;
+            } else if ((character == ')') && (depth == 0) && (opening == '(')) {
+                break;
+            }
+        }
+        // an unterminated item is passed on as it is, so that the parser reports it
+        return Optional.of(type.toString().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param text              the raw text of the items
+     * @param stringDefinitions the raw text of each <code>@String</code> contained in the chunk
+     * @param itemTypes         the lower case types of the items in the chunk, in the order of their appearance
+     */
+    public record Chunk(String text, List<String> stringDefinitions, List<String> itemTypes) {
+    }
+}
@@ -1,16 +1,23 @@
 package org.jabref.logic.bibtex.comparator;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
 
 public class BibDatabaseDiff {
 
@@ -40,6 +47,11 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Matches the entries of both databases. Entries with exactly the same fields are found by a hash lookup on their
+     * content. Only the remaining entries are compared pairwise to find close matches, so that the common case of a
+     * few changed entries in a large library takes linear time.
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
@@ -51,51 +63,66 @@ public class BibDatabaseDiff {
         // Create a HashSet where we can put references to entries in the new
         // database that we have matched. This is to avoid matching them twice.
         Set<Integer> used = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        List<BibEntry> notMatched = new ArrayList<>();
+
+        // The positions of the new entries, grouped by their content
+        Map<Map<Field, String>, NavigableSet<Integer>> newPositionsByContent = new HashMap<>(newEntries.size());
+        for (int i = 0; i < newEntries.size(); i++) {
+            newPositionsByContent.computeIfAbsent(getContent(newEntries.get(i)), content -> new TreeSet<>()).add(i);
+        }
 
         // Loop through the entries of the original database, looking for exact matches in the new one.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
-        mainLoop:
         for (BibEntry originalEntry : originalEntries) {
+            NavigableSet<Integer> positions = newPositionsByContent.getOrDefault(getContent(originalEntry), Collections.emptyNavigableSet());
             // First check if the similarly placed entry in the other base matches exactly.
-            if (!used.contains(positionNew) && (positionNew < newEntries.size())) {
-                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(positionNew));
-                if (score > 1) {
-                    used.add(positionNew);
-                    positionNew++;
-                    continue;
-                }
+            if (positions.remove(positionNew)) {
+                used.add(positionNew);
+                positionNew++;
+                continue;
             }
-            // No? Then check if another entry matches exactly.
-            for (int i = positionNew + 1; i < newEntries.size(); i++) {
-                if (!used.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        used.add(i);
-                        continue mainLoop;
-                    }
-                }
+            // No? Then check if another entry further down matches exactly.
+            Integer position = positions.higher(positionNew);
+            if (position != null) {
+                positions.remove(position);
+                used.add(position);
+                continue;
             }
 
             // No? Add this entry to the list of non-matched entries.
             notMatched.add(originalEntry);
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        for (Iterator<BibEntry> iteratorNotMatched = notMatched.iterator(); iteratorNotMatched.hasNext(); ) {
-            BibEntry originalEntry = iteratorNotMatched.next();
+        // Unmatched new entries with a citation key are likely the changed versions of original entries with the same key
+        Map<String, Integer> unmatchedNewPositionsByCitationKey = new HashMap<>();
+        for (int i = positionNew; i < newEntries.size(); i++) {
+            if (!used.contains(i)) {
+                int position = i;
+                newEntries.get(i).getCitationKey().ifPresent(key -> unmatchedNewPositionsByCitationKey.putIfAbsent(key, position));
+            }
+        }
 
+        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
+        for (BibEntry originalEntry : notMatched) {
             // These two variables will keep track of which entry most closely matches the one we're looking at.
             double bestMatch = 0;
             int bestMatchIndex = -1;
             if (positionNew < (newEntries.size() - 1)) {
-                for (int i = positionNew; i < newEntries.size(); i++) {
-                    if (!used.contains(i)) {
-                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                        if (score > bestMatch) {
-                            bestMatch = score;
-                            bestMatchIndex = i;
+                Integer sameKeyIndex = originalEntry.getCitationKey().map(unmatchedNewPositionsByCitationKey::get).orElse(null);
+                if ((sameKeyIndex != null) && !used.contains(sameKeyIndex)) {
+                    bestMatch = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(sameKeyIndex));
+                    bestMatchIndex = sameKeyIndex;
+                }
+                // Only scan all remaining entries if the entry with the same key is no close match
+                if (bestMatch <= MATCH_THRESHOLD) {
+                    for (int i = positionNew; i < newEntries.size(); i++) {
+                        if (!used.contains(i)) {
+                            double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
+                            if (score > bestMatch) {
+                                bestMatch = score;
+                                bestMatchIndex = i;
+                            }
                         }
                     }
                 }
@@ -103,7 +130,6 @@ public class BibDatabaseDiff {
 
             if (bestMatch > MATCH_THRESHOLD) {
                 used.add(bestMatchIndex);
-                iteratorNotMatched.remove();
 
                 differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
             } else {
@@ -121,6 +147,18 @@ public class BibDatabaseDiff {
         return differences;
     }
 
+    /**
+     * Two entries have the same content iff {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)} reports
+     * an exact match for them.
+     */
+    private static Map<Field, String> getContent(BibEntry entry) {
+        Map<Field, String> content = new HashMap<>();
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            content.put(field.getKey(), StringUtil.unifyLineBreaks(field.getValue(), OS.NEWLINE));
+        }
+        return content;
+    }
+
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
         return new BibDatabaseDiff(base, changed);
     }
@@ -0,0 +1,61 @@
+package org.jabref.logic.bst;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles the function bodies of a bst program into instructions, so that each body is analyzed only once instead of
+ * on each execution. Literals are converted to their values at compile time and the names of called functions are
+ * extracted from the parse tree.
+ * <p>
+ * The bodies are compiled on their first execution. The compiled instructions do not hold any state of a rendering,
+ * thus they are shared by all renderings of a program.
+ */
+class BstCompiler {
+
+    // Parse tree nodes do not override equals and hashCode, thus they are compared by identity
+    private final Map<BstParser.StackContext, BstInstruction[]> compiledStacks = new ConcurrentHashMap<>();
+
+    BstInstruction[] getInstructions(BstParser.StackContext stack) {
+        return compiledStacks.computeIfAbsent(stack, BstCompiler::compile);
+    }
+
+    private static BstInstruction[] compile(BstParser.StackContext stack) {
+        List<BstParser.StackitemContext> items = stack.stackitem();
+        BstInstruction[] instructions = new BstInstruction[items.size()];
+        for (int i = 0; i < instructions.length; i++) {
+            instructions[i] = compile(items.get(i));
+        }
+        return instructions;
+    }
+
+    private static BstInstruction compile(BstParser.StackitemContext item) {
+        if (item.bstFunction() != null) {
+            BstParser.BstFunctionContext function = item.bstFunction();
+            String name = function.getChild(0).getText();
+            return visitor -> visitor.executeFunction(name, function);
+        }
+        if (item.STRING() != null) {
+            String text = item.STRING().getText();
+            String value = text.substring(1, text.length() - 1);
+            return visitor -> visitor.push(value);
+        }
+        if (item.INTEGER() != null) {
+            Integer value = Integer.parseInt(item.INTEGER().getText().substring(1));
+            return visitor -> visitor.push(value);
+        }
+        if (item.QUOTED() != null) {
+            BstVMVisitor.Identifier identifier = new BstVMVisitor.Identifier(item.QUOTED().getText().substring(1));
+            return visitor -> visitor.push(identifier);
+        }
+        // A nested stack is pushed as a function, e.g., for if$
+        BstParser.StackContext nestedStack = item.stack();
+        return visitor -> visitor.push(nestedStack);
+    }
+
+    @FunctionalInterface
+    interface BstInstruction {
+        void execute(BstVMVisitor visitor);
+    }
+}
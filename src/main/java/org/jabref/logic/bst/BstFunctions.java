@@ -3,7 +3,6 @@ package org.jabref.logic.bst;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,7 +29,7 @@ public class BstFunctions {
     private final Map<String, BstFunction> functions;
     private final String preamble;
 
-    private final Stack<Object> stack;
+    private final BstStack stack;
     private final StringBuilder bbl;
 
     private int bstWarning = 0;
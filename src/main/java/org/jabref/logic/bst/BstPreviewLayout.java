@@ -34,7 +34,7 @@ public class BstPreviewLayout implements PreviewLayout {
             return;
         }
         try {
-            bstVM = new BstVM(path);
+            bstVM = BstVM.ofStyleFile(path);
         } catch (Exception e) {
             LOGGER.error("Could not read {}.", path.toAbsolutePath(), e);
             error = Localization.lang("Error opening file '%0'.", path.toString());
@@ -0,0 +1,53 @@
+package org.jabref.logic.bst;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * The operand stack of the {@link BstVM}.
+ * <p>
+ * In contrast to {@link java.util.Stack}, the stack is not synchronized, as each rendering uses its own stack.
+ */
+public class BstStack {
+
+    private Object[] elements = new Object[32];
+    private int size;
+
+    public void push(Object element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    public Object pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        Object element = elements[--size];
+        elements[size] = null;
+        return element;
+    }
+
+    public Object peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Same as {@link #isEmpty()}, named as in {@link java.util.Stack}.
+     */
+    public boolean empty() {
+        return isEmpty();
+    }
+}
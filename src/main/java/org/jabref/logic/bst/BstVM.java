@@ -1,13 +1,17 @@
 package org.jabref.logic.bst;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.jabref.logic.metrics.RenderCitationsEvent;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
@@ -26,7 +30,10 @@ public class BstVM {
     protected static final Integer FALSE = 0;
     protected static final Integer TRUE = 1;
 
+    private static final Map<Path, CachedProgram> PROGRAMS_OF_STYLE_FILES = new ConcurrentHashMap<>();
+
     protected final ParseTree tree;
+    private final BstCompiler compiler = new BstCompiler();
     protected BstVMContext latestContext; // for testing
 
     private Path path = null;
@@ -48,6 +55,22 @@ public class BstVM {
         this.tree = tree;
     }
 
+    /**
+     * Returns the program of the given style file. The file is parsed only once, the program is reused by all callers
+     * as long as the file is not modified.
+     */
+    public static BstVM ofStyleFile(Path path) throws RecognitionException, IOException {
+        Path absolutePath = path.toAbsolutePath().normalize();
+        FileTime lastModified = Files.getLastModifiedTime(absolutePath);
+        CachedProgram cachedProgram = PROGRAMS_OF_STYLE_FILES.get(absolutePath);
+        if ((cachedProgram != null) && cachedProgram.lastModified().equals(lastModified)) {
+            return cachedProgram.bstVM();
+        }
+        BstVM bstVM = new BstVM(path);
+        PROGRAMS_OF_STYLE_FILES.put(absolutePath, new CachedProgram(lastModified, bstVM));
+        return bstVM;
+    }
+
     private static ParseTree charStream2CommonTree(CharStream query) {
         BstLexer lexer = new BstLexer(query);
         lexer.removeErrorListeners();
@@ -68,32 +91,43 @@ public class BstVM {
      */
     public String render(Collection<BibEntry> bibEntries, BibDatabase bibDatabase) {
         Objects.requireNonNull(bibEntries);
-
-        List<BstEntry> entries = new ArrayList<>(bibEntries.size());
-        for (BibEntry entry : bibEntries) {
-            entries.add(new BstEntry(entry));
+        RenderCitationsEvent event = new RenderCitationsEvent();
+        event.begin();
+        try {
+            List<BstEntry> entries = new ArrayList<>(bibEntries.size());
+            for (BibEntry entry : bibEntries) {
+                entries.add(new BstEntry(entry));
+            }
+
+            StringBuilder resultBuffer = new StringBuilder();
+
+            BstVMContext bstVMContext = new BstVMContext(entries, bibDatabase, path);
+            bstVMContext.functions().putAll(new BstFunctions(bstVMContext, resultBuffer).getBuiltInFunctions());
+            bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
+            bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
+
+            BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer, compiler);
+            bstVMVisitor.visit(tree);
+
+            latestContext = bstVMContext;
+
+            event.success = true;
+            return resultBuffer.toString();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.language = RenderCitationsEvent.BST;
+                event.entries = bibEntries.size();
+                event.commit();
+            }
         }
-
-        StringBuilder resultBuffer = new StringBuilder();
-
-        BstVMContext bstVMContext = new BstVMContext(entries, bibDatabase, path);
-        bstVMContext.functions().putAll(new BstFunctions(bstVMContext, resultBuffer).getBuiltInFunctions());
-        bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
-        bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
-
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
-        bstVMVisitor.visit(tree);
-
-        latestContext = bstVMContext;
-
-        return resultBuffer.toString();
     }
 
     public String render(Collection<BibEntry> bibEntries) {
         return render(bibEntries, null);
     }
 
-    protected Stack<Object> getStack() {
+    protected BstStack getStack() {
         if (latestContext != null) {
             return latestContext.stack();
         } else {
@@ -101,6 +135,9 @@ public class BstVM {
         }
     }
 
+    private record CachedProgram(FileTime lastModified, BstVM bstVM) {
+    }
+
     private static class ThrowingErrorListener extends BaseErrorListener {
         public static final ThrowingErrorListener INSTANCE = new ThrowingErrorListener();
 
@@ -15,8 +15,6 @@ import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.TerminalNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +23,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
+    private final BstCompiler compiler;
 
     private BstEntry selectedBstEntry = null;
 
@@ -32,8 +31,13 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
     }
 
     public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+        this(bstVMContext, bbl, new BstCompiler());
+    }
+
+    BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl, BstCompiler compiler) {
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.compiler = compiler;
     }
 
     @Override
@@ -221,36 +225,31 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitBstFunction(BstParser.BstFunctionContext ctx) {
-        String name = ctx.getChild(0).getText();
-        if (bstVMContext.functions().containsKey(name)) {
-            bstVMContext.functions().get(name).execute(this, ctx, selectedBstEntry);
+        executeFunction(ctx.getChild(0).getText(), ctx);
+        return BstVM.TRUE;
+    }
+
+    /**
+     * Executes the function of the given name, or pushes the value of the variable of the given name.
+     */
+    void executeFunction(String name, BstParser.BstFunctionContext ctx) {
+        BstFunctions.BstFunction function = bstVMContext.functions().get(name);
+        if (function != null) {
+            function.execute(this, ctx, selectedBstEntry);
         } else {
-            visit(ctx.getChild(0));
+            resolveIdentifier(name, ctx);
         }
+    }
 
-        return BstVM.TRUE;
+    void push(Object value) {
+        bstVMContext.stack().push(value);
     }
 
     @Override
-    public Integer visitStackitem(BstParser.StackitemContext ctx) {
-        for (ParseTree childNode : ctx.children) {
+    public Integer visitStack(BstParser.StackContext ctx) {
+        for (BstCompiler.BstInstruction instruction : compiler.getInstructions(ctx)) {
             try {
-                if (childNode instanceof TerminalNode token) {
-                    switch (token.getSymbol().getType()) {
-                        case BstParser.STRING -> {
-                            String s = token.getText();
-                            bstVMContext.stack().push(s.substring(1, s.length() - 1));
-                        }
-                        case BstParser.INTEGER ->
-                                bstVMContext.stack().push(Integer.parseInt(token.getText().substring(1)));
-                        case BstParser.QUOTED ->
-                                bstVMContext.stack().push(new Identifier(token.getText().substring(1)));
-                    }
-                } else if (childNode instanceof BstParser.StackContext) {
-                    bstVMContext.stack().push(childNode);
-                } else {
-                    this.visit(childNode);
-                }
+                instruction.execute(this);
             } catch (BstVMException e) {
                 bstVMContext.path().ifPresentOrElse(
                         (path) -> LOGGER.error("{} ({})", e.getMessage(), path),
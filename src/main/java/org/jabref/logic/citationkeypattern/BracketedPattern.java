@@ -12,7 +12,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.StringJoiner;
-import java.util.StringTokenizer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -74,6 +73,14 @@ public class BracketedPattern {
      */
     private static final Pattern DEPARTMENTS = Pattern.compile("^d[ei]p.*", Pattern.CASE_INSENSITIVE);
     private static final Pattern WHITESPACE = Pattern.compile("\\p{javaWhitespace}");
+    /**
+     * Matches the characters removed before abbreviating with the "abbr" modifier
+     */
+    private static final Pattern ABBREVIATION_REMOVED_CHARACTERS = Pattern.compile("[\\{\\}']");
+    /**
+     * Matches the characters separating the words abbreviated with the "abbr" modifier
+     */
+    private static final Pattern ABBREVIATION_WORD_SEPARATORS = Pattern.compile("[\\(\\) \r\n\"]");
 
     private enum Institution {
         SCHOOL,
@@ -180,7 +187,7 @@ public class BracketedPattern {
     public static String expandBrackets(String pattern, Character keywordDelimiter, BibEntry entry, BibDatabase database) {
         Objects.requireNonNull(pattern);
         Objects.requireNonNull(entry);
-        return expandBrackets(pattern, expandBracketContent(keywordDelimiter, entry, database));
+        return expandFieldMarkers(pattern, fieldParts -> expandFieldMarker(fieldParts, keywordDelimiter, entry, database));
     }
 
     /**
@@ -193,18 +200,18 @@ public class BracketedPattern {
      * @return a function accepting a bracketed expression and returning the result of expanding it
      */
     public static Function<String, String> expandBracketContent(Character keywordDelimiter, BibEntry entry, BibDatabase database) {
-        return (String bracket) -> {
-            String expandedPattern;
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
-            // check whether there is a modifier on the end such as
-            // ":lower":
-            expandedPattern = getFieldValue(entry, fieldParts.get(0), keywordDelimiter, database);
-            if (fieldParts.size() > 1) {
-                // apply modifiers:
-                expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(keywordDelimiter, entry, database));
-            }
-            return expandedPattern;
-        };
+        return (String bracket) -> expandFieldMarker(parseFieldAndModifiers(bracket), keywordDelimiter, entry, database);
+    }
+
+    private static String expandFieldMarker(List<String> fieldParts, Character keywordDelimiter, BibEntry entry, BibDatabase database) {
+        // check whether there is a modifier on the end such as
+        // ":lower":
+        String expandedPattern = getFieldValue(entry, fieldParts.get(0), keywordDelimiter, database);
+        if (fieldParts.size() > 1) {
+            // apply modifiers:
+            expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(keywordDelimiter, entry, database));
+        }
+        return expandedPattern;
     }
 
     /**
@@ -217,90 +224,20 @@ public class BracketedPattern {
      */
     public static String expandBrackets(String pattern, Function<String, String> bracketContentHandler) {
         Objects.requireNonNull(pattern);
-        StringBuilder expandedPattern = new StringBuilder();
-        StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
-
-        while (parsedPattern.hasMoreTokens()) {
-            String token = parsedPattern.nextToken();
-            switch (token) {
-                case "\"" -> appendQuote(expandedPattern, parsedPattern);
-                case "[" -> {
-                    String fieldMarker = contentBetweenBrackets(parsedPattern, pattern);
-                    expandedPattern.append(bracketContentHandler.apply(fieldMarker));
-                }
-                case "\\" -> {
-                    if (parsedPattern.hasMoreTokens()) {
-                        expandedPattern.append(parsedPattern.nextToken());
-                    } else {
-                        LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
-                    }
-                }
-                default -> expandedPattern.append(token);
-            }
-        }
-
-        return expandedPattern.toString();
+        return CompiledBracketedPattern.of(pattern).expandBracketContent(bracketContentHandler);
     }
 
     /**
-     * Returns the content enclosed between brackets, including enclosed quotes, and excluding the paired enclosing brackets.
-     * There may be brackets in it.
-     * Intended to be used by {@link BracketedPattern#expandBrackets(String, Character, BibEntry, BibDatabase)} when a [
-     * is encountered, and has been consumed, by the {@code StringTokenizer}.
+     * Expands a pattern. In contrast to {@link #expandBrackets(String, Function)}, the field markers are passed
+     * already split into the field and its modifiers, as parsed once when the pattern is first used.
      *
-     * @param pattern   pattern used by {@code expandBrackets}, used for logging
-     * @param tokenizer the tokenizer producing the tokens
-     * @return the content enclosed by brackets
-     */
-    private static String contentBetweenBrackets(StringTokenizer tokenizer, final String pattern) {
-        StringBuilder bracketContent = new StringBuilder();
-        boolean foundClosingBracket = false;
-        int subBrackets = 0;
-        // make sure to read until the paired ']'
-        while (tokenizer.hasMoreTokens() && !foundClosingBracket) {
-            String token = tokenizer.nextToken();
-            // If the beginning of a quote is found, append the content
-            switch (token) {
-                case "\"" -> appendQuote(bracketContent, tokenizer);
-                case "]" -> {
-                    if (subBrackets == 0) {
-                        foundClosingBracket = true;
-                    } else {
-                        subBrackets--;
-                        bracketContent.append(token);
-                    }
-                }
-                case "[" -> {
-                    subBrackets++;
-                    bracketContent.append(token);
-                }
-                default -> bracketContent.append(token);
-            }
-        }
-
-        if (!foundClosingBracket) {
-            LOGGER.warn("Missing closing bracket ']' in '{}'", pattern);
-        } else if (bracketContent.length() == 0) {
-            LOGGER.warn("Found empty brackets \"[]\" in '{}'", pattern);
-        }
-        return bracketContent.toString();
-    }
-
-    /**
-     * Appends the content between, and including, two \" to the provided <code>StringBuilder</code>. Intended to be
-     * used by {@link BracketedPattern#expandBrackets(String, Character, BibEntry, BibDatabase)} when a \" is
-     * encountered by the StringTokenizer.
-     *
-     * @param stringBuilder the <code>StringBuilder</code> to which tokens will be appended
-     * @param tokenizer     the tokenizer producing the tokens
+     * @param pattern            The pattern to expand
+     * @param fieldMarkerHandler A function taking the field followed by the modifiers of a field marker and expanding it
+     * @return The expanded pattern. Not null.
      */
-    private static void appendQuote(StringBuilder stringBuilder, StringTokenizer tokenizer) {
-        stringBuilder.append("\"");  // We know that the previous token was \"
-        String token = "";
-        while (tokenizer.hasMoreTokens() && !"\"".equals(token)) {
-            token = tokenizer.nextToken();
-            stringBuilder.append(token);
-        }
+    protected static String expandFieldMarkers(String pattern, Function<List<String>, String> fieldMarkerHandler) {
+        Objects.requireNonNull(pattern);
+        return CompiledBracketedPattern.of(pattern).expand(fieldMarkerHandler);
     }
 
     /**
@@ -556,8 +493,7 @@ public class BracketedPattern {
             if ("abbr".equals(modifier)) {
                 // Abbreviate - that is,
                 StringBuilder abbreviateSB = new StringBuilder();
-                String[] words = resultingLabel.replaceAll("[\\{\\}']", "")
-                                               .split("[\\(\\) \r\n\"]");
+                String[] words = ABBREVIATION_WORD_SEPARATORS.split(ABBREVIATION_REMOVED_CHARACTERS.matcher(resultingLabel).replaceAll(""));
                 for (String word : words) {
                     if (!word.isEmpty()) {
                         abbreviateSB.append(word.charAt(0));
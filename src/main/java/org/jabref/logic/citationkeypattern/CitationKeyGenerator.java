@@ -1,12 +1,19 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -29,6 +36,7 @@ public class CitationKeyGenerator extends BracketedPattern {
     public static final String DEFAULT_UNWANTED_CHARACTERS = "-`ʹ:!;?^+";
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationKeyGenerator.class);
     // Source of disallowed characters : https://tex.stackexchange.com/a/408548/9075
+    private static final Pattern WHITESPACE_CHARACTERS = Pattern.compile("\\s");
     private static final List<Character> DISALLOWED_CHARACTERS = Arrays.asList('{', '}', '(', ')', ',', '=', '\\', '"', '#', '%', '~', '\'');
     private final AbstractCitationKeyPattern citeKeyPattern;
     private final BibDatabase database;
@@ -104,7 +112,7 @@ public class CitationKeyGenerator extends BracketedPattern {
     }
 
     public static String cleanKey(String key, String unwantedCharacters) {
-        return removeUnwantedCharacters(key, unwantedCharacters).replaceAll("\\s", "");
+        return WHITESPACE_CHARACTERS.matcher(removeUnwantedCharacters(key, unwantedCharacters)).replaceAll("");
     }
 
     /**
@@ -114,24 +122,41 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a citation key based on the user's preferences
      */
     public String generateKey(BibEntry entry) {
+        return generateKey(entry, database::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * Generate a citation key for the given {@link BibEntry}, using the given function to count how often a key is
+     * already in use. This allows generating unique keys for entries which are not part of one database, e.g., when
+     * a library is processed in batches.
+     *
+     * @param entry          a {@link BibEntry}
+     * @param keyOccurrences returns the number of entries using the given key, including the entry itself
+     * @return a citation key based on the user's preferences
+     */
+    public String generateKey(BibEntry entry, ToLongFunction<String> keyOccurrences) {
         Objects.requireNonNull(entry);
         String currentKey = entry.getCitationKey().orElse(null);
 
-        String newKey = createCitationKeyFromPattern(entry);
-        newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
+        String newKey = createKeyWithoutLetters(entry);
+        newKey = appendLettersToKey(newKey, currentKey, keyOccurrences);
         return cleanKey(newKey, unwantedCharacters);
     }
 
+    private String createKeyWithoutLetters(BibEntry entry) {
+        return replaceWithRegex(createCitationKeyFromPattern(entry));
+    }
+
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
-     * @param key    the new key
-     * @param oldKey the old key
+     * @param key            the new key
+     * @param oldKey         the old key
+     * @param keyOccurrences counts the entries using a key
      * @return a key, if needed, with an appended letter
      */
-    private String appendLettersToKey(String key, String oldKey) {
-        long occurrences = database.getNumberOfCitationKeyOccurrences(key);
+    private String appendLettersToKey(String key, String oldKey, ToLongFunction<String> keyOccurrences) {
+        long occurrences = keyOccurrences.applyAsLong(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -152,7 +177,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 moddedKey = key + getAppendix(number);
                 number++;
 
-                occurrences = database.getNumberOfCitationKeyOccurrences(moddedKey);
+                occurrences = keyOccurrences.applyAsLong(moddedKey);
                 // only happens if #getAddition() is buggy
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
@@ -192,31 +217,27 @@ public class CitationKeyGenerator extends BracketedPattern {
         if (citationKeyPattern.isEmpty()) {
             return "";
         }
-        return expandBrackets(citationKeyPattern.get(0), expandBracketContent(entry));
+        return expandFieldMarkers(citationKeyPattern.get(0), fieldParts -> expandFieldMarker(entry, fieldParts));
     }
 
     /**
-     * A helper method to create a {@link Function} that takes a single bracketed expression, expands it, and cleans the key.
+     * Expands a single field marker and cleans the result.
      *
-     * @param entry the {@link BibEntry} that a citation key is generated for
-     * @return a cleaned citation key for the given {@link BibEntry}
+     * @param entry      the {@link BibEntry} that a citation key is generated for
+     * @param fieldParts the field followed by the modifiers of the marker
+     * @return a cleaned part of the citation key for the given {@link BibEntry}
      */
-    private Function<String, String> expandBracketContent(BibEntry entry) {
+    private String expandFieldMarker(BibEntry entry, List<String> fieldParts) {
         Character keywordDelimiter = citationKeyPatternPreferences.getKeywordDelimiter();
 
-        return (String bracket) -> {
-            String expandedPattern;
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
-
-            expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.get(0), keywordDelimiter, database), unwantedCharacters);
-            // check whether there is a modifier on the end such as
-            // ":lower":
-            if (fieldParts.size() > 1) {
-                // apply modifiers:
-                expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(entry));
-            }
-            return cleanKey(expandedPattern, unwantedCharacters);
-        };
+        String expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.get(0), keywordDelimiter, database), unwantedCharacters);
+        // check whether there is a modifier on the end such as
+        // ":lower":
+        if (fieldParts.size() > 1) {
+            // apply modifiers:
+            expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, bracket -> expandFieldMarker(entry, parseFieldAndModifiers(bracket)));
+        }
+        return cleanKey(expandedPattern, unwantedCharacters);
     }
 
     /**
@@ -229,4 +250,60 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates citation keys for the given entries and sets them. The result is the same as calling
+     * {@link #generateAndSetKey(BibEntry)} for each entry in the given order.
+     * <p>
+     * First, the keys are derived from the pattern for all entries in parallel. Then, letters are appended to make the
+     * keys unique, entry by entry, counting the keys of the library in an index instead of scanning the library for
+     * each key. The derived keys depend on the keys of other entries only if the pattern uses a field linking to other
+     * entries, such as <code>[crossref]</code>. In that case, the result may differ from generating the keys one by one.
+     *
+     * @param entries the entries to generate the keys for
+     * @return the changes to the keys, skipping entries whose key did not change
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        return generateAndSetKeys(entries, entriesDone -> { });
+    }
+
+    /**
+     * Generates citation keys for the given entries and sets them, see {@link #generateAndSetKeys(List)}.
+     *
+     * @param entries the entries to generate the keys for
+     * @param progress called with the number of entries done after the key of each entry has been set
+     * @return the changes to the keys, skipping entries whose key did not change
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries, IntConsumer progress) {
+        List<String> keysWithoutLetters = entries.parallelStream()
+                                                 .map(this::createKeyWithoutLetters)
+                                                 .toList();
+
+        ConcurrentMap<String, Long> keyOccurrences = database.getEntries().parallelStream()
+                                                             .flatMap(entry -> entry.getCitationKey().stream())
+                                                             .collect(Collectors.groupingByConcurrent(Function.identity(), Collectors.counting()));
+        Set<String> idsInDatabase = database.getEntries().stream()
+                                            .map(BibEntry::getId)
+                                            .collect(Collectors.toSet());
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            Optional<String> oldKey = entry.getCitationKey();
+            String newKey = appendLettersToKey(keysWithoutLetters.get(i), oldKey.orElse(null), key -> keyOccurrences.getOrDefault(key, 0L));
+            newKey = cleanKey(newKey, unwantedCharacters);
+
+            Optional<FieldChange> change = entry.setCitationKey(newKey);
+            if (change.isPresent()) {
+                changes.add(change.get());
+                // only keys of the library are counted, as by BibDatabase#getNumberOfCitationKeyOccurrences
+                if (idsInDatabase.contains(entry.getId())) {
+                    oldKey.ifPresent(key -> keyOccurrences.computeIfPresent(key, (unused, count) -> (count > 1) ? count - 1 : null));
+                    keyOccurrences.merge(newKey, 1L, Long::sum);
+                }
+            }
+            progress.accept(i + 1);
+        }
+        return changes;
+    }
 }
@@ -0,0 +1,174 @@
+package org.jabref.logic.citationkeypattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bracketed pattern split into literal text and field markers. The field markers are already split into the field
+ * and its modifiers. Thus, expanding the pattern for many entries does not tokenize the pattern again for each entry.
+ * <p>
+ * Compiled patterns are immutable and cached per pattern string.
+ */
+final class CompiledBracketedPattern {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledBracketedPattern.class);
+
+    // Patterns come from the preferences and the libraries, so there are only a few of them
+    private static final int MAX_CACHED_PATTERNS = 512;
+    private static final Map<String, CompiledBracketedPattern> CACHE = new ConcurrentHashMap<>();
+
+    private final List<Part> parts;
+
+    private CompiledBracketedPattern(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    static CompiledBracketedPattern of(String pattern) {
+        CompiledBracketedPattern compiled = CACHE.get(pattern);
+        if (compiled == null) {
+            compiled = compile(pattern);
+            if (CACHE.size() >= MAX_CACHED_PATTERNS) {
+                CACHE.clear();
+            }
+            CACHE.put(pattern, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * @param fieldMarkerHandler expands a field marker, given as the field followed by its modifiers
+     */
+    String expand(Function<List<String>, String> fieldMarkerHandler) {
+        StringBuilder expandedPattern = new StringBuilder();
+        for (Part part : parts) {
+            if (part.fieldAndModifiers() == null) {
+                expandedPattern.append(part.text());
+            } else {
+                expandedPattern.append(fieldMarkerHandler.apply(part.fieldAndModifiers()));
+            }
+        }
+        return expandedPattern.toString();
+    }
+
+    /**
+     * @param bracketContentHandler expands the content of a bracketed expression as written in the pattern
+     */
+    String expandBracketContent(Function<String, String> bracketContentHandler) {
+        StringBuilder expandedPattern = new StringBuilder();
+        for (Part part : parts) {
+            if (part.fieldAndModifiers() == null) {
+                expandedPattern.append(part.text());
+            } else {
+                expandedPattern.append(bracketContentHandler.apply(part.text()));
+            }
+        }
+        return expandedPattern.toString();
+    }
+
+    private static CompiledBracketedPattern compile(String pattern) {
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
+
+        while (parsedPattern.hasMoreTokens()) {
+            String token = parsedPattern.nextToken();
+            switch (token) {
+                case "\"" -> appendQuote(literal, parsedPattern);
+                case "[" -> {
+                    if (literal.length() > 0) {
+                        parts.add(new Part(literal.toString(), null));
+                        literal.setLength(0);
+                    }
+                    String fieldMarker = contentBetweenBrackets(parsedPattern, pattern);
+                    parts.add(new Part(fieldMarker, List.copyOf(BracketedPattern.parseFieldAndModifiers(fieldMarker))));
+                }
+                case "\\" -> {
+                    if (parsedPattern.hasMoreTokens()) {
+                        literal.append(parsedPattern.nextToken());
+                    } else {
+                        LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
+                    }
+                }
+                default -> literal.append(token);
+            }
+        }
+        if (literal.length() > 0) {
+            parts.add(new Part(literal.toString(), null));
+        }
+
+        return new CompiledBracketedPattern(List.copyOf(parts));
+    }
+
+    /**
+     * Returns the content enclosed between brackets, including enclosed quotes, and excluding the paired enclosing brackets.
+     * There may be brackets in it.
+     * Intended to be used when a [ is encountered, and has been consumed, by the {@code StringTokenizer}.
+     *
+     * @param pattern   the pattern being compiled, used for logging
+     * @param tokenizer the tokenizer producing the tokens
+     * @return the content enclosed by brackets
+     */
+    private static String contentBetweenBrackets(StringTokenizer tokenizer, final String pattern) {
+        StringBuilder bracketContent = new StringBuilder();
+        boolean foundClosingBracket = false;
+        int subBrackets = 0;
+        // make sure to read until the paired ']'
+        while (tokenizer.hasMoreTokens() && !foundClosingBracket) {
+            String token = tokenizer.nextToken();
+            // If the beginning of a quote is found, append the content
+            switch (token) {
+                case "\"" -> appendQuote(bracketContent, tokenizer);
+                case "]" -> {
+                    if (subBrackets == 0) {
+                        foundClosingBracket = true;
+                    } else {
+                        subBrackets--;
+                        bracketContent.append(token);
+                    }
+                }
+                case "[" -> {
+                    subBrackets++;
+                    bracketContent.append(token);
+                }
+                default -> bracketContent.append(token);
+            }
+        }
+
+        if (!foundClosingBracket) {
+            LOGGER.warn("Missing closing bracket ']' in '{}'", pattern);
+        } else if (bracketContent.length() == 0) {
+            LOGGER.warn("Found empty brackets \"[]\" in '{}'", pattern);
+        }
+        return bracketContent.toString();
+    }
+
+    /**
+     * Appends the content between, and including, two \" to the provided <code>StringBuilder</code>. Intended to be
+     * used when a \" is encountered by the StringTokenizer.
+     *
+     * @param stringBuilder the <code>StringBuilder</code> to which tokens will be appended
+     * @param tokenizer     the tokenizer producing the tokens
+     */
+    private static void appendQuote(StringBuilder stringBuilder, StringTokenizer tokenizer) {
+        stringBuilder.append("\"");  // We know that the previous token was \"
+        String token = "";
+        while (tokenizer.hasMoreTokens() && !"\"".equals(token)) {
+            token = tokenizer.nextToken();
+            stringBuilder.append(token);
+        }
+    }
+
+    /**
+     * @param text              the literal text, or the content of the brackets for a field marker
+     * @param fieldAndModifiers the field followed by its modifiers, or null for literal text
+     */
+    private record Part(String text, List<String> fieldAndModifiers) {
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.metrics.RenderCitationsEvent;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -58,8 +59,12 @@ public class CitationStyleGenerator {
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        RenderCitationsEvent event = new RenderCitationsEvent();
+        event.begin();
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            List<String> citations = CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            event.success = true;
+            return citations;
         } catch (IllegalArgumentException e) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", e);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -74,6 +79,13 @@ public class CitationStyleGenerator {
                     Localization.lang("Bad character inside entry") +
                     outputFormat.getLineSeparator() +
                     e.getLocalizedMessage());
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.language = RenderCitationsEvent.CSL;
+                event.entries = bibEntries.size();
+                event.commit();
+            }
         }
     }
 }
@@ -1,11 +1,14 @@
 package org.jabref.logic.crawler;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
-import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherExecutor;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.database.BibDatabase;
@@ -13,23 +16,28 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.study.FetchResult;
 import org.jabref.model.study.QueryResult;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
  */
 class StudyFetcher {
-    private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
+    private static final Duration CRAWL_TIMEOUT = Duration.ofMinutes(10);
+    // Paged searches return their partial result themselves when the deadline passes
+    private static final long PAGED_SEARCH_GRACE_PERIOD = TimeUnit.SECONDS.toNanos(5);
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final FetcherExecutor fetcherExecutor;
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, FetcherExecutor.INSTANCE);
+    }
+
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, FetcherExecutor fetcherExecutor) throws IllegalArgumentException {
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.fetcherExecutor = fetcherExecutor;
     }
 
     /**
@@ -38,43 +46,59 @@ class StudyFetcher {
      * If any library API is not available, its corresponding entry is missing from the internal map.
      */
     public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
-    }
+        long deadline = FetcherExecutor.deadlineAfter(CRAWL_TIMEOUT);
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+        // All requests are submitted up front, so the crawl takes as long as the slowest provider needs for its share
+        Map<String, Map<SearchBasedFetcher, Future<List<BibEntry>>>> searches = new LinkedHashMap<>();
+        for (String searchQuery : searchQueries) {
+            searches.put(searchQuery, submitSearchOnQuery(searchQuery, deadline));
+        }
+
+        List<QueryResult> queryResults = new ArrayList<>();
+        for (Map.Entry<String, Map<SearchBasedFetcher, Future<List<BibEntry>>>> search : searches.entrySet()) {
+            queryResults.add(new QueryResult(search.getKey(), collectFetchResults(search.getValue(), deadline)));
+        }
+        return queryResults;
     }
 
     /**
      * Queries all Databases on the given searchQuery.
      *
      * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * @return Mapping of each fetcher to its pending search
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
+    private Map<SearchBasedFetcher, Future<List<BibEntry>>> submitSearchOnQuery(String searchQuery, long deadline) {
+        Map<SearchBasedFetcher, Future<List<BibEntry>>> searches = new LinkedHashMap<>();
+        for (SearchBasedFetcher fetcher : activeFetchers) {
+            searches.put(fetcher, submitSearchOnQueryForFetcher(searchQuery, fetcher, deadline));
+        }
+        return searches;
+    }
+
+    private Future<List<BibEntry>> submitSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher, long deadline) {
+        if (fetcher instanceof PagedSearchBasedFetcher pagedFetcher) {
+            return fetcherExecutor.submitPaged(pagedFetcher,
+                    page -> pagedFetcher.performSearchPaged(searchQuery, page),
+                    MAX_AMOUNT_OF_RESULTS_PER_FETCHER,
+                    deadline);
+        }
+        return fetcherExecutor.submit(fetcher, () -> fetcher.performSearch(searchQuery));
     }
 
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
-        try {
-            List<BibEntry> fetchResult = new ArrayList<>();
-            if (fetcher instanceof PagedSearchBasedFetcher) {
-                int pages = ((int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / ((PagedSearchBasedFetcher) fetcher).getPageSize()));
-                for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(((PagedSearchBasedFetcher) fetcher).performSearchPaged(searchQuery, page).getContent());
-                }
-            } else {
-                fetchResult = fetcher.performSearch(searchQuery);
-            }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
-        } catch (FetcherException e) {
-            LOGGER.warn(String.format("%s API request failed", fetcher.getName()), e);
-            return null;
+    /**
+     * Waits for the searches of all fetchers on one query.
+     * If any library API is not available or did not answer in time, its corresponding entry is missing from the result.
+     *
+     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     */
+    private List<FetchResult> collectFetchResults(Map<SearchBasedFetcher, Future<List<BibEntry>>> searches, long deadline) {
+        List<FetchResult> fetchResults = new ArrayList<>();
+        for (Map.Entry<SearchBasedFetcher, Future<List<BibEntry>>> search : searches.entrySet()) {
+            SearchBasedFetcher fetcher = search.getKey();
+            long fetcherDeadline = fetcher instanceof PagedSearchBasedFetcher ? deadline + PAGED_SEARCH_GRACE_PERIOD : deadline;
+            fetcherExecutor.await(fetcher, search.getValue(), fetcherDeadline)
+                           .ifPresent(entries -> fetchResults.add(new FetchResult(fetcher.getName(), new BibDatabase(entries))));
         }
+        return fetchResults;
     }
 }
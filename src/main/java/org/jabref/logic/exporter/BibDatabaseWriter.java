@@ -3,6 +3,7 @@ package org.jabref.logic.exporter;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -29,6 +30,10 @@ import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
 import org.jabref.logic.cleanup.FieldFormatterCleanups;
 import org.jabref.logic.formatter.bibtexfields.TrimWhitespaceFormatter;
+import org.jabref.logic.metrics.Counter;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.metrics.SaveLibraryEvent;
+import org.jabref.logic.metrics.Timer;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -54,6 +59,8 @@ import org.jabref.preferences.GeneralPreferences;
 public abstract class BibDatabaseWriter {
 
     private static final Pattern REFERENCE_PATTERN = Pattern.compile("(#[A-Za-z]+#)"); // Used to detect string references in strings
+    private static final Timer SAVE_TIMER = MetricsRegistry.INSTANCE.timer("exporter.save");
+    private static final Counter SAVED_ENTRIES = MetricsRegistry.INSTANCE.counter("exporter.savedEntries");
     protected final BibWriter bibWriter;
     protected final GeneralPreferences generalPreferences;
     protected final SavePreferences savePreferences;
@@ -175,6 +182,25 @@ public abstract class BibDatabaseWriter {
      * Saves the database, including only the specified entries.
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        SaveLibraryEvent event = new SaveLibraryEvent();
+        event.begin();
+        try {
+            try (Timer.Stopwatch stopwatch = SAVE_TIMER.start()) {
+                writePartOfDatabase(bibDatabaseContext, entries);
+            }
+            SAVED_ENTRIES.add(entries.size());
+            event.success = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = bibDatabaseContext.getDatabasePath().map(Path::toString).orElse("");
+                event.entries = entries.size();
+                event.commit();
+            }
+        }
+    }
+
+    private void writePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
         if (sharedDatabaseIDOptional.isPresent()) {
             // may throw an IOException. Thus, we do not use "ifPresent", but the "old" isPresent way
@@ -0,0 +1,287 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.preferences.FilePreferences;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes metadata of entries to their linked PDFs using a bounded pool of worker threads.
+ * <p>
+ * Each PDF is processed as a whole: a copy next to the PDF is written by all given exporters and then atomically moved
+ * over the original file. Thus, readers never see a half-written PDF. Note that this replaces the file and therefore
+ * does not preserve hard links.
+ * <p>
+ * For every written PDF, a hash of the written metadata together with the size and modification time of the resulting
+ * file is recorded in a state file. A PDF which was not modified since and whose metadata did not change is skipped.
+ * <p>
+ * If several entries link to the same PDF, the last entry is written, as this is what the sequential export leaves in
+ * the file.
+ */
+public class PdfMetadataBatchWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfMetadataBatchWriter.class);
+
+    private final BibDatabaseContext databaseContext;
+    private final FilePreferences filePreferences;
+    private final List<Exporter> exporters;
+    private final int numberOfThreads;
+    private final Path stateFile;
+    private final Map<String, String> state = new ConcurrentHashMap<>();
+
+    /**
+     * @param exporters the exporters to run on each PDF, e.g., {@link XmpPdfExporter} and {@link EmbeddedBibFilePdfExporter}
+     * @param stateFile the file which records the metadata already written to the PDFs
+     */
+    public PdfMetadataBatchWriter(BibDatabaseContext databaseContext,
+                                  FilePreferences filePreferences,
+                                  List<Exporter> exporters,
+                                  int numberOfThreads,
+                                  Path stateFile) {
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+        this.databaseContext = databaseContext;
+        this.filePreferences = filePreferences;
+        this.exporters = List.copyOf(exporters);
+        this.numberOfThreads = numberOfThreads;
+        this.stateFile = stateFile;
+    }
+
+    /**
+     * Writes the metadata of the given entries to all PDFs linked to them.
+     *
+     * @param progress receives the number of processed PDFs and the total number of PDFs after each PDF
+     */
+    public Result writeToFilesOfEntries(List<BibEntry> entries, BiConsumer<Integer, Integer> progress) {
+        Map<Path, BibEntry> jobs = new LinkedHashMap<>();
+        for (BibEntry entry : entries) {
+            for (Path pdf : getLinkedPdfs(entry)) {
+                jobs.remove(pdf);
+                jobs.put(pdf, entry);
+            }
+        }
+        return write(jobs, 0, progress);
+    }
+
+    /**
+     * Writes the metadata of the entries linking to the given PDFs.
+     *
+     * @param progress receives the number of processed PDFs and the total number of PDFs after each PDF
+     */
+    public Result writeToFiles(List<Path> pdfs, BiConsumer<Integer, Integer> progress) {
+        Map<Path, BibEntry> linkingEntries = new LinkedHashMap<>();
+        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+            for (Path pdf : getLinkedPdfs(entry)) {
+                linkingEntries.put(pdf, entry);
+            }
+        }
+
+        Map<Path, BibEntry> jobs = new LinkedHashMap<>();
+        int notLinked = 0;
+        for (Path pdf : pdfs) {
+            Optional<BibEntry> entry = toRealPath(pdf).map(linkingEntries::get);
+            if (entry.isPresent()) {
+                jobs.put(toRealPath(pdf).get(), entry.get());
+            } else {
+                LOGGER.warn("File {} is not linked to any entry in database.", pdf);
+                notLinked++;
+            }
+        }
+        return write(jobs, notLinked, progress);
+    }
+
+    private Result write(Map<Path, BibEntry> jobs, int failedBefore, BiConsumer<Integer, Integer> progress) {
+        loadState();
+
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger(failedBefore);
+        AtomicInteger processed = new AtomicInteger();
+        int total = jobs.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "JabRef PDF metadata writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Limits the number of queued jobs, so that huge libraries do not allocate all tasks up front
+        Semaphore queueSlots = new Semaphore(numberOfThreads * 2);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (Map.Entry<Path, BibEntry> job : jobs.entrySet()) {
+                queueSlots.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        switch (writeToFile(job.getKey(), job.getValue())) {
+                            case WRITTEN -> written.incrementAndGet();
+                            case SKIPPED -> skipped.incrementAndGet();
+                            case FAILED -> failed.incrementAndGet();
+                        }
+                        progress.accept(processed.incrementAndGet(), total);
+                    } finally {
+                        queueSlots.release();
+                    }
+                }));
+                futures.removeIf(Future::isDone);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Writing metadata to PDFs failed", e);
+        } finally {
+            executor.shutdownNow();
+            storeState();
+        }
+        return new Result(written.get(), skipped.get(), failed.get());
+    }
+
+    private Status writeToFile(Path pdf, BibEntry entry) {
+        String metadataHash = computeMetadataHash(entry);
+        if (isCurrent(pdf, metadataHash)) {
+            return Status.SKIPPED;
+        }
+
+        Path temporaryFile = null;
+        try {
+            // The file name needs the pdf extension, as the exporters check it
+            temporaryFile = Files.createTempFile(pdf.getParent(), "." + FileUtil.getBaseName(pdf.getFileName().toString()), ".pdf");
+            Files.copy(pdf, temporaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+            for (Exporter exporter : exporters) {
+                exporter.export(databaseContext, temporaryFile, List.of(entry));
+            }
+            Files.move(temporaryFile, pdf, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            state.put(pdf.toString(), metadataHash + " " + getFileFingerprint(pdf));
+            return Status.WRITTEN;
+        } catch (Exception e) {
+            LOGGER.error("Failed writing metadata to {} of {}.", pdf, entry.getCitationKey().orElse("<no cite key defined>"), e);
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ex) {
+                    LOGGER.warn("Could not delete temporary file {}", temporaryFile, ex);
+                }
+            }
+            return Status.FAILED;
+        }
+    }
+
+    private boolean isCurrent(Path pdf, String metadataHash) {
+        String recordedState = state.get(pdf.toString());
+        if (recordedState == null) {
+            return false;
+        }
+        try {
+            return recordedState.equals(metadataHash + " " + getFileFingerprint(pdf));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private String computeMetadataHash(BibEntry entry) {
+        StringBuilder metadata = new StringBuilder();
+        for (Exporter exporter : exporters) {
+            metadata.append(exporter.getId()).append('\n');
+        }
+        // The exporters resolve strings, thus a changed string has to lead to a different hash
+        metadata.append(databaseContext.getDatabase().resolveForStrings(entry, false));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(metadata.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be available on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String getFileFingerprint(Path pdf) throws IOException {
+        return Files.size(pdf) + " " + Files.getLastModifiedTime(pdf).toMillis();
+    }
+
+    private List<Path> getLinkedPdfs(BibEntry entry) {
+        List<Path> pdfs = new ArrayList<>();
+        for (LinkedFile file : entry.getFiles()) {
+            if (file.getFileType().equals(StandardFileType.PDF.getName())) {
+                file.findIn(databaseContext, filePreferences)
+                    .flatMap(PdfMetadataBatchWriter::toRealPath)
+                    .ifPresent(pdfs::add);
+            }
+        }
+        return pdfs;
+    }
+
+    private static Optional<Path> toRealPath(Path file) {
+        try {
+            return Optional.of(file.toRealPath());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void loadState() {
+        state.clear();
+        if (!Files.exists(stateFile)) {
+            return;
+        }
+        try (InputStream input = Files.newInputStream(stateFile)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            properties.forEach((key, value) -> state.put((String) key, (String) value));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read state of PDF metadata from {}. Writing all PDFs.", stateFile, e);
+        }
+    }
+
+    private void storeState() {
+        Properties properties = new Properties();
+        properties.putAll(state);
+        try {
+            Files.createDirectories(stateFile.toAbsolutePath().getParent());
+            try (OutputStream output = Files.newOutputStream(stateFile)) {
+                properties.store(output, "Metadata written to PDFs by JabRef");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not store state of PDF metadata to {}", stateFile, e);
+        }
+    }
+
+    private enum Status {
+        WRITTEN, SKIPPED, FAILED
+    }
+
+    public record Result(int written, int skipped, int failed) {
+    }
+}
@@ -19,6 +19,8 @@ public class AuthorListParser {
     private final static Set<String> AVOID_TERMS_IN_LOWER_CASE = Set.of(
             "jr", "sr", "jnr", "snr", "von", "zu", "van", "der");
 
+    private static final String SIMPLE_NAME_SEPARATOR = " and ";
+
     private static final int TOKEN_GROUP_LENGTH = 4; // number of entries for a token
 
     // the following are offsets of an entry in a group of entries for one token
@@ -96,6 +98,11 @@ public class AuthorListParser {
     public AuthorList parse(String listOfNames) {
         Objects.requireNonNull(listOfNames);
 
+        Optional<AuthorList> simpleList = parseSimpleLastFirstNames(listOfNames);
+        if (simpleList.isPresent()) {
+            return simpleList.get();
+        }
+
         // Handle case names in order lastname, firstname and separated by ","
         // E.g., Ali Babar, M., Dingsøyr, T., Lago, P., van der Vliet, H.
         final boolean authorsContainAND = listOfNames.toUpperCase(Locale.ENGLISH).contains(" AND ");
@@ -153,6 +160,70 @@ public class AuthorListParser {
         return AuthorList.of(authors);
     }
 
+    /**
+     * Parses the common form "Last, First Middle and Last, First" without tokenizing it. This is only done if all names
+     * consist of capitalized ASCII words separated by single spaces, for which the tokenizer yields the same authors.
+     *
+     * @return the parsed list or an empty optional if the names are not of that simple form
+     */
+    private static Optional<AuthorList> parseSimpleLastFirstNames(String listOfNames) {
+        List<Author> authors = new ArrayList<>(5);
+        int start = 0;
+        while (true) {
+            int end = listOfNames.indexOf(SIMPLE_NAME_SEPARATOR, start);
+            Optional<Author> author = parseSimpleLastFirstName(listOfNames.substring(start, end < 0 ? listOfNames.length() : end));
+            if (author.isEmpty()) {
+                return Optional.empty();
+            }
+            authors.add(author.get());
+            if (end < 0) {
+                return Optional.of(AuthorList.of(authors));
+            }
+            start = end + SIMPLE_NAME_SEPARATOR.length();
+        }
+    }
+
+    private static Optional<Author> parseSimpleLastFirstName(String name) {
+        int comma = name.indexOf(", ");
+        if (comma < 0) {
+            return Optional.empty();
+        }
+        // The last name needs a lower case letter, otherwise "IBM, John" would be taken as initials of the first name
+        String lastPart = name.substring(0, comma);
+        if ((lastPart.length() < 2) || !isCapitalizedWord(lastPart)) {
+            return Optional.empty();
+        }
+
+        String firstPart = name.substring(comma + 2);
+        StringBuilder firstAbbr = new StringBuilder();
+        for (String word : firstPart.split(" ", -1)) {
+            if (!isCapitalizedWord(word)) {
+                return Optional.empty();
+            }
+            if (!firstAbbr.isEmpty()) {
+                firstAbbr.append(' ');
+            }
+            firstAbbr.append(word.charAt(0)).append('.');
+        }
+        return Optional.of(new Author(firstPart, firstAbbr.toString(), null, lastPart, null));
+    }
+
+    /**
+     * @return true if the word is an upper case ASCII letter followed by lower case ASCII letters, but not "And"
+     */
+    private static boolean isCapitalizedWord(String word) {
+        if (word.isEmpty() || (word.charAt(0) < 'A') || (word.charAt(0) > 'Z') || "and".equalsIgnoreCase(word)) {
+            return false;
+        }
+        for (int i = 1; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if ((c < 'a') || (c > 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Parses one author name and returns preformatted information.
      *
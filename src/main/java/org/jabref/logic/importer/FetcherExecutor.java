@@ -0,0 +1,289 @@
+package org.jabref.logic.importer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.paging.Page;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs blocking fetcher requests on a dedicated, bounded thread pool instead of the common fork-join pool.
+ * <p>
+ * Requests are throttled per provider (identified by {@link WebFetcher#getName()}): at most a configurable number of requests
+ * of one provider are in flight at the same time and consecutive requests are spaced by a minimum interval. Requests
+ * exceeding the limit wait in a queue of the provider and are handed to the thread pool only when a request of the same
+ * provider has finished, so that waiting requests do not occupy threads.
+ * Pages of a {@link PagedSearchBasedFetcher} are prefetched a few at a time within these limits and are assembled in page order.
+ * All waiting methods take an absolute deadline (see {@link #deadlineAfter(Duration)}), so that one slow provider does not
+ * delay the overall result beyond that deadline.
+ */
+public class FetcherExecutor {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_PROVIDER = 4;
+    public static final Duration DEFAULT_MIN_REQUEST_INTERVAL = Duration.ofMillis(100);
+
+    public static final FetcherExecutor INSTANCE = new FetcherExecutor(DEFAULT_MAX_CONCURRENT_REQUESTS_PER_PROVIDER, DEFAULT_MIN_REQUEST_INTERVAL);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FetcherExecutor.class);
+
+    private static final int MAX_REQUEST_THREADS = 16;
+    private static final int MAX_PAGED_SEARCH_THREADS = 4;
+    // Requests and searches beyond this number are rejected instead of waiting without bound
+    private static final int MAX_QUEUED_TASKS = 1_000;
+
+    // Runs the requests themselves
+    private final ThreadPoolExecutor requestExecutor;
+    // Runs the paged searches, which wait for their pages; kept apart so that they never wait for a thread they occupy themselves
+    private final ThreadPoolExecutor pagedSearchExecutor;
+    private final int maxConcurrentRequestsPerProvider;
+    private final Duration minRequestInterval;
+    private final Map<String, ProviderLimiter> limiters = new ConcurrentHashMap<>();
+
+    public FetcherExecutor(int maxConcurrentRequestsPerProvider, Duration minRequestInterval) {
+        if (maxConcurrentRequestsPerProvider < 1) {
+            throw new IllegalArgumentException("At least one concurrent request per provider is required");
+        }
+        this.maxConcurrentRequestsPerProvider = maxConcurrentRequestsPerProvider;
+        this.minRequestInterval = Objects.requireNonNull(minRequestInterval);
+        this.requestExecutor = createExecutor(MAX_REQUEST_THREADS, "JabRef Fetcher Thread ");
+        this.pagedSearchExecutor = createExecutor(MAX_PAGED_SEARCH_THREADS, "JabRef Paged Search Thread ");
+    }
+
+    private static ThreadPoolExecutor createExecutor(int maximumThreads, String threadName) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maximumThreads, maximumThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_TASKS), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName(threadName + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @return the absolute deadline (in terms of {@link System#nanoTime()}) which lies the given timeout in the future
+     */
+    public static long deadlineAfter(Duration timeout) {
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Submits a single request of the given fetcher. The request is executed as soon as the limits of the provider allow it.
+     */
+    public <T> Future<T> submit(WebFetcher fetcher, FetcherRequest<T> request) {
+        return getLimiter(fetcher).submit(request);
+    }
+
+    /**
+     * Submits a search on all pages of the given fetcher needed to retrieve <code>maxResults</code> entries.
+     * Only as many pages as the provider may request concurrently are requested ahead of the page which is assembled next.
+     * Fetching stops at the first page which is not completely filled. If the deadline passes, the entries of all pages up
+     * to the first missing one are returned. If the first page could not be fetched in time, the search fails.
+     */
+    public Future<List<BibEntry>> submitPaged(PagedSearchBasedFetcher fetcher, PageRequest pageRequest, int maxResults, long deadline) {
+        try {
+            return pagedSearchExecutor.submit(() -> fetchPages(fetcher, pageRequest, maxResults, deadline));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new FetcherException("Too many searches are waiting", e));
+        }
+    }
+
+    /**
+     * Waits for the result of a request until the deadline.
+     *
+     * @return the result or an empty optional if the request failed or did not finish in time. Failures are logged.
+     */
+    public <T> Optional<T> await(WebFetcher fetcher, Future<T> future, long deadline) {
+        try {
+            return Optional.ofNullable(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            LOGGER.warn("{} API request did not finish in time", fetcher.getName());
+        } catch (ExecutionException e) {
+            LOGGER.warn(String.format("%s API request failed", fetcher.getName()), e.getCause());
+        } catch (CancellationException e) {
+            LOGGER.debug("{} API request was cancelled", fetcher.getName());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    private List<BibEntry> fetchPages(PagedSearchBasedFetcher fetcher, PageRequest pageRequest, int maxResults, long deadline) throws FetcherException {
+        int pageSize = fetcher.getPageSize();
+        int numberOfPages = (int) Math.ceil(((double) maxResults) / pageSize);
+        ProviderLimiter limiter = getLimiter(fetcher);
+
+        // The next pages are requested while the current one is assembled, but never more than the provider allows at once
+        Deque<Future<Page<BibEntry>>> pages = new ArrayDeque<>();
+        int nextPage = 0;
+        List<BibEntry> result = new ArrayList<>();
+        try {
+            for (int page = 0; page < numberOfPages; page++) {
+                while ((nextPage < numberOfPages) && (pages.size() < limiter.maxConcurrentRequests)) {
+                    final int pageNumber = nextPage++;
+                    pages.add(limiter.submit(() -> pageRequest.perform(pageNumber)));
+                }
+
+                Page<BibEntry> fetchedPage;
+                try {
+                    fetchedPage = pages.poll().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | CancellationException e) {
+                    if (page == 0) {
+                        throw new FetcherException("Could not fetch the first page in time", e);
+                    }
+                    LOGGER.warn("{} API request did not finish in time, returning the first {} pages", fetcher.getName(), page);
+                    break;
+                } catch (ExecutionException e) {
+                    if (page == 0) {
+                        if (e.getCause() instanceof FetcherException fetcherException) {
+                            throw fetcherException;
+                        }
+                        throw new FetcherException("Could not fetch the first page", e.getCause());
+                    }
+                    LOGGER.warn(String.format("%s API request for page %d failed", fetcher.getName(), page), e.getCause());
+                    break;
+                }
+                result.addAll(fetchedPage.getContent());
+                if (fetchedPage.getSize() < pageSize) {
+                    // last page reached
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // The remaining pages are not needed anymore
+            pages.forEach(page -> page.cancel(true));
+        }
+        return result;
+    }
+
+    private ProviderLimiter getLimiter(WebFetcher fetcher) {
+        return limiters.computeIfAbsent(fetcher.getName(), name -> new ProviderLimiter(maxConcurrentRequestsPerProvider, minRequestInterval));
+    }
+
+    @FunctionalInterface
+    public interface FetcherRequest<T> {
+        T perform() throws FetcherException;
+    }
+
+    @FunctionalInterface
+    public interface PageRequest {
+        Page<BibEntry> perform(int pageNumber) throws FetcherException;
+    }
+
+    /**
+     * Limits the number of concurrent requests to one provider and spaces the start of consecutive requests.
+     * Requests beyond the limit are kept in a queue and handed to the thread pool once a running request has finished.
+     */
+    private class ProviderLimiter {
+
+        private final int maxConcurrentRequests;
+        private final long minIntervalNanos;
+        private final Deque<RequestTask<?>> waitingRequests = new ArrayDeque<>();
+        private int runningRequests;
+        private long nextStart = System.nanoTime();
+
+        ProviderLimiter(int maxConcurrentRequests, Duration minRequestInterval) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.minIntervalNanos = minRequestInterval.toNanos();
+        }
+
+        <T> Future<T> submit(FetcherRequest<T> request) {
+            RequestTask<T> task = new RequestTask<>(() -> {
+                waitForSlot();
+                return request.perform();
+            });
+            synchronized (this) {
+                if (runningRequests >= maxConcurrentRequests) {
+                    waitingRequests.add(task);
+                    return task;
+                }
+                runningRequests++;
+            }
+            start(task);
+            return task;
+        }
+
+        private void start(RequestTask<?> task) {
+            try {
+                requestExecutor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        finished();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                task.fail(new FetcherException("Too many requests are waiting", e));
+                finished();
+            }
+        }
+
+        private void finished() {
+            RequestTask<?> next;
+            synchronized (this) {
+                // Requests which were canceled while waiting do not need to run
+                do {
+                    next = waitingRequests.poll();
+                } while ((next != null) && next.isCancelled());
+                if (next == null) {
+                    runningRequests--;
+                    return;
+                }
+            }
+            start(next);
+        }
+
+        private void waitForSlot() throws InterruptedException {
+            long start;
+            synchronized (this) {
+                start = Math.max(System.nanoTime(), nextStart);
+                nextStart = start + minIntervalNanos;
+            }
+            long waitTime = start - System.nanoTime();
+            if (waitTime > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitTime);
+            }
+        }
+    }
+
+    /**
+     * A request which can be failed without running it, e.g., if the thread pool rejects it.
+     */
+    private static class RequestTask<T> extends FutureTask<T> {
+
+        RequestTask(Callable<T> callable) {
+            super(callable);
+        }
+
+        void fail(Throwable throwable) {
+            setException(throwable);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +10,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 import org.jabref.logic.importer.fileformat.BibTeXMLImporter;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -34,13 +42,20 @@ import org.jabref.logic.importer.fileformat.RepecNepImporter;
 import org.jabref.logic.importer.fileformat.RisImporter;
 import org.jabref.logic.importer.fileformat.SilverPlatterImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ImportFormatReader {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
     public static final String BIBTEX_FORMAT = "BibTeX";
 
     /**
@@ -182,7 +197,9 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            // The file is read only once and all importers check the shared content
+            String content = readContent(filePath);
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath, content));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -202,9 +219,23 @@ public class ImportFormatReader {
         }
     }
 
+    private static String readContent(Path filePath) throws ImportException {
+        try (BufferedReader reader = Importer.getReader(filePath);
+             StringWriter content = new StringWriter()) {
+            reader.transferTo(content);
+            return content.toString();
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
     /**
      * Tries to import entries by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * and keeping the import that seems the most promising.
+     * <p>
+     * First, all importers check in parallel whether they recognize the source.
+     * Then, the recognizing importers import the source in parallel.
+     * If several importers find entries, the one with the most entries wins. Ties go to the importer registered first.
      *
      * @param importDatabase     the function to import the entries with a formatter
      * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
@@ -212,31 +243,27 @@ public class ImportFormatReader {
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
     private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+        List<Boolean> recognized = applyToAll(formats, importer -> isRecognized(importer, isRecognizedFormat), false);
+        List<Importer> candidates = new ArrayList<>();
+        for (int i = 0; i < formats.size(); i++) {
+            if (recognized.get(i)) {
+                candidates.add(formats.get(i));
+            }
+        }
+
+        List<Optional<List<BibEntry>>> results = applyToAll(candidates, importer -> tryImport(importer, importDatabase), Optional.empty());
+
         // stores ref to best result, gets updated at the next loop
         List<BibEntry> bestResult = null;
         int bestResultCount = 0;
         String bestFormatName = null;
 
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
-            try {
-                if (!isRecognizedFormat.apply(imFo)) {
-                    continue;
-                }
-
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
-
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
-
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
-                }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
+        for (int i = 0; i < candidates.size(); i++) {
+            Optional<List<BibEntry>> entries = results.get(i);
+            if (entries.isPresent() && (entries.get().size() > bestResultCount)) {
+                bestResult = entries.get();
+                bestResultCount = entries.get().size();
+                bestFormatName = candidates.get(i).getName();
             }
         }
 
@@ -249,6 +276,61 @@ public class ImportFormatReader {
         throw new ImportException(Localization.lang("Could not find a suitable import format."));
     }
 
+    /**
+     * Applies the given function to all importers in parallel. The importers run on the {@link TaskScheduler} and not
+     * on the common fork join pool, which has no bound on blocking work and is shared with the rest of JabRef. If the
+     * scheduler rejects the work, the importers run one after another in the calling thread.
+     *
+     * @param failedResult the result of an importer whose function could not be completed
+     * @return the results in the order of the importers
+     */
+    private static <T> List<T> applyToAll(List<Importer> importers, Function<Importer, T> function, T failedResult) {
+        List<Callable<T>> tasks = importers.stream()
+                                           .<Callable<T>>map(importer -> () -> function.apply(importer))
+                                           .toList();
+        List<Future<T>> futures;
+        try {
+            futures = TaskScheduler.INSTANCE.invokeAll(tasks, TaskPriority.INTERACTIVE, null);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Could not run importers in parallel", e);
+            return importers.stream().map(function).toList();
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException | CancellationException e) {
+                LOGGER.warn("Importer failed", e);
+                results.add(failedResult);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(failedResult);
+            }
+        }
+        return results;
+    }
+
+    private static boolean isRecognized(Importer importer, CheckedFunction<Importer, Boolean> isRecognizedFormat) {
+        try {
+            return isRecognizedFormat.apply(importer);
+        } catch (IOException ex) {
+            // The check did not succeed. Go on.
+            return false;
+        }
+    }
+
+    private static Optional<List<BibEntry>> tryImport(Importer importer, CheckedFunction<Importer, ParserResult> importDatabase) {
+        try {
+            List<BibEntry> entries = importDatabase.apply(importer).getDatabase().getEntries();
+            BibDatabases.purgeEmptyEntries(entries);
+            return Optional.of(entries);
+        } catch (IOException ex) {
+            // The import did not succeed. Go on.
+            return Optional.empty();
+        }
+    }
+
     @FunctionalInterface
     public interface CheckedFunction<T, R> {
 
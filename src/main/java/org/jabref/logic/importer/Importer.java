@@ -54,6 +54,22 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Check whether the file is in the correct format for this importer, given its content which has already been read
+     * using {@link #getReader(Path)}. This allows checking many importers against a file without re-reading it each time.
+     * <p>
+     * Importers which do not look at the textual content (for instance, because they process binary files) should
+     * override this method and check the file itself.
+     *
+     * @param filePath the path of the file to check
+     * @param content  the content of the file
+     * @return true, if the file is in a recognized format
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public boolean isRecognizedFormat(Path filePath, String content) throws IOException {
+        return isRecognizedFormat(content);
+    }
+
     /**
      * Check whether the source is in the correct format for this importer.
      *
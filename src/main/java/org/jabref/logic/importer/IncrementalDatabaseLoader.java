@@ -0,0 +1,210 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.batch.BibtexChunkReader;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Loads a bib file again after it was changed by another program, parsing only the entries whose text changed since
+ * the previous load.
+ * <p>
+ * The file is split into its top-level items without parsing them. Entries are remembered by a hash of their text,
+ * including the comments in front of them. An entry with unchanged text is created again from the type and the fields
+ * kept from the previous load. All other entries are parsed together with the strings, the preamble and the comments
+ * holding the metadata of the library.
+ * <p>
+ * The file is read with the encoding stated in its header or detected, as done when opening the library. If the text in front of the first item, which holds the
+ * encoding header, changed since the previous load, the complete file is loaded by {@link OpenDatabase} instead.
+ */
+public class IncrementalDatabaseLoader {
+
+    private static final Set<String> NON_ENTRY_TYPES = Set.of("comment", "preamble", "string");
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final ImportFormatPreferences importFormatPreferences;
+
+    // The content of the entries of the previous load, by the hash of their text
+    private Map<HashCode, ParsedEntry> entriesByText = Map.of();
+    private Optional<HashCode> header = Optional.empty();
+
+    public IncrementalDatabaseLoader(ImportFormatPreferences importFormatPreferences) {
+        this.importFormatPreferences = importFormatPreferences;
+    }
+
+    /**
+     * @return the same result as {@link OpenDatabase#loadDatabase}
+     */
+    public ParserResult load(Path file) throws IOException {
+        return load(file, BibtexImporter.getEncoding(file), BibtexImporter.isEncodingExplicitlySupplied(file));
+    }
+
+    private synchronized ParserResult load(Path file, Charset encoding, boolean encodingExplicitlySupplied) throws IOException {
+        List<Item> items = readItems(file, encoding);
+        HashCode currentHeader = hash(getHeader(items));
+        if (header.isPresent() && !header.get().equals(currentHeader)) {
+            entriesByText = Map.of();
+            header = Optional.empty();
+            return OpenDatabase.loadDatabase(file, importFormatPreferences, new DummyFileUpdateMonitor());
+        }
+        header = Optional.of(currentHeader);
+
+        Optional<ParserResult> result = parseChangedEntries(items);
+        if (result.isEmpty() && !entriesByText.isEmpty()) {
+            // The items did not match the entries found by the parser, e.g., because of a syntax error. Retry with all entries.
+            entriesByText = Map.of();
+            result = parseChangedEntries(items);
+        }
+        if (result.isEmpty()) {
+            entriesByText = Map.of();
+            StringBuilder text = new StringBuilder();
+            items.forEach(item -> text.append(item.text()));
+            result = Optional.of(parse(text.toString()));
+        }
+
+        ParserResult parserResult = result.get();
+        parserResult.getMetaData().setEncoding(encoding);
+        parserResult.getMetaData().setEncodingExplicitlySupplied(encodingExplicitlySupplied);
+        parserResult.setPath(file);
+        if (parserResult.getMetaData().getMode().isEmpty()) {
+            parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
+        }
+        OpenDatabase.performLoadDatabaseMigrations(parserResult, importFormatPreferences.getKeywordSeparator());
+        return parserResult;
+    }
+
+    /**
+     * Parses all items except the entries known from the previous load and remembers the entries for the next load.
+     *
+     * @return an empty optional if the parser did not find an entry for each changed entry item
+     */
+    private Optional<ParserResult> parseChangedEntries(List<Item> items) throws IOException {
+        StringBuilder textToParse = new StringBuilder();
+        int entriesToParse = 0;
+        for (Item item : items) {
+            if (!item.isEntry()) {
+                textToParse.append(item.text());
+            } else if (!entriesByText.containsKey(item.hash())) {
+                textToParse.append(item.text());
+                entriesToParse++;
+            }
+        }
+
+        ParserResult parsed = parse(textToParse.toString());
+        BibDatabase parsedDatabase = parsed.getDatabase();
+        if (parsedDatabase.getEntryCount() != entriesToParse) {
+            return Optional.empty();
+        }
+
+        Iterator<BibEntry> parsedEntries = parsedDatabase.getEntries().iterator();
+        List<BibEntry> entries = new ArrayList<>();
+        Map<HashCode, ParsedEntry> newEntriesByText = new HashMap<>();
+        for (Item item : items) {
+            if (!item.isEntry()) {
+                continue;
+            }
+            ParsedEntry knownEntry = entriesByText.get(item.hash());
+            if (knownEntry != null) {
+                entries.add(knownEntry.toEntry());
+                newEntriesByText.putIfAbsent(item.hash(), knownEntry);
+            } else {
+                BibEntry entry = parsedEntries.next();
+                entries.add(entry);
+                newEntriesByText.putIfAbsent(item.hash(), ParsedEntry.of(entry));
+            }
+        }
+        entriesByText = newEntriesByText;
+
+        BibDatabase database = new BibDatabase(entries, parsedDatabase.getNewLineSeparator());
+        parsedDatabase.getPreamble().ifPresent(database::setPreamble);
+        database.setStrings(new ArrayList<>(parsedDatabase.getStringValues()));
+        database.setEpilog(parsedDatabase.getEpilog());
+        ParserResult result = new ParserResult(database, parsed.getMetaData(), parsed.getEntryTypes());
+        parsed.warnings().forEach(result::addWarning);
+        return Optional.of(result);
+    }
+
+    private ParserResult parse(String text) throws IOException {
+        return new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(text));
+    }
+
+    private static List<Item> readItems(Path file, Charset encoding) throws IOException {
+        // Unreadable characters are replaced, as done when opening the library
+        CharsetDecoder decoder = encoding.newDecoder();
+        decoder.onMalformedInput(CodingErrorAction.REPLACE);
+
+        List<Item> items = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), decoder))) {
+            BibtexChunkReader chunkReader = new BibtexChunkReader(reader, 1);
+            Optional<BibtexChunkReader.Chunk> chunk;
+            while ((chunk = chunkReader.readChunk()).isPresent()) {
+                String text = chunk.get().text();
+                // the text after the last item forms a chunk without an item
+                boolean isEntry = chunk.get().itemTypes().stream().anyMatch(type -> !NON_ENTRY_TYPES.contains(type));
+                items.add(new Item(text, isEntry, hash(text)));
+            }
+        }
+        return items;
+    }
+
+    private static String getHeader(List<Item> items) {
+        if (items.isEmpty()) {
+            return "";
+        }
+        String firstText = items.get(0).text();
+        int firstItemStart = firstText.indexOf('@');
+        return firstItemStart < 0 ? firstText : firstText.substring(0, firstItemStart);
+    }
+
+    private static HashCode hash(String text) {
+        return HASH_FUNCTION.hashString(text, StandardCharsets.UTF_8);
+    }
+
+    private record Item(String text, boolean isEntry, HashCode hash) {
+    }
+
+    /**
+     * The content of a parsed entry, which is much smaller than the entry itself
+     */
+    private record ParsedEntry(EntryType type, Map<Field, String> fields, String userComments, String parsedSerialization) {
+
+        static ParsedEntry of(BibEntry entry) {
+            return new ParsedEntry(entry.getType(), Map.copyOf(entry.getFieldMap()), entry.getUserComments(), entry.getParsedSerialization());
+        }
+
+        BibEntry toEntry() {
+            BibEntry entry = new BibEntry(type);
+            entry.setField(fields);
+            entry.setCommentsBeforeEntry(userComments);
+            entry.setParsedSerialization(parsedSerialization);
+            return entry;
+        }
+    }
+}
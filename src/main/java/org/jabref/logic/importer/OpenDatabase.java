@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.metrics.OpenLibraryEvent;
 import org.jabref.migrations.ConvertLegacyExplicitGroups;
 import org.jabref.migrations.ConvertMarkingToGroups;
 import org.jabref.migrations.PostOpenMigration;
@@ -30,14 +31,28 @@ public class OpenDatabase {
      */
     public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor)
             throws IOException {
-        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen);
+        OpenLibraryEvent event = new OpenLibraryEvent();
+        event.begin();
+        try {
+            ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen);
 
-        performLoadDatabaseMigrations(result, importFormatPreferences.getKeywordSeparator());
+            performLoadDatabaseMigrations(result, importFormatPreferences.getKeywordSeparator());
 
-        return result;
+            event.entries = result.getDatabase().getEntryCount();
+            event.success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = fileToOpen.toString();
+                // does not throw if the file is missing, which would hide the original exception
+                event.fileSize = fileToOpen.toFile().length();
+                event.commit();
+            }
+        }
     }
 
-    private static void performLoadDatabaseMigrations(ParserResult parserResult, Character keywordDelimited) {
+    static void performLoadDatabaseMigrations(ParserResult parserResult, Character keywordDelimited) {
         List<PostOpenMigration> postOpenMigrations = Arrays.asList(
                 new ConvertLegacyExplicitGroups(),
                 new ConvertMarkingToGroups(),
@@ -3,6 +3,7 @@ package org.jabref.logic.importer;
 import java.util.Collections;
 import java.util.List;
 
+import org.jabref.logic.metrics.FetcherEvent;
 import org.jabref.model.entry.BibEntry;
 
 import org.apache.lucene.queryparser.flexible.core.QueryNodeParseException;
@@ -48,6 +49,20 @@ public interface SearchBasedFetcher extends WebFetcher {
             throw new FetcherException("An error occurred when parsing the query");
         }
 
-        return this.performSearch(queryNode);
+        FetcherEvent event = new FetcherEvent();
+        event.begin();
+        try {
+            List<BibEntry> results = this.performSearch(queryNode);
+            event.results = results.size();
+            event.success = true;
+            return results;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.fetcher = getName();
+                event.query = searchQuery;
+                event.commit();
+            }
+        }
     }
 }
@@ -1,39 +1,51 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherExecutor;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.entry.BibEntry;
 
 import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     public static final String FETCHER_NAME = "SearchAll";
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(CompositeSearchBasedFetcher.class);
+    private static final Duration SEARCH_TIMEOUT = Duration.ofSeconds(60);
 
     private final Set<SearchBasedFetcher> fetchers;
     private final int maximumNumberOfReturnedResults;
+    private final FetcherExecutor fetcherExecutor;
 
     public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, int maximumNumberOfReturnedResults)
             throws IllegalArgumentException {
+        this(searchBasedFetchers, maximumNumberOfReturnedResults, FetcherExecutor.INSTANCE);
+    }
+
+    public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, int maximumNumberOfReturnedResults, FetcherExecutor fetcherExecutor)
+            throws IllegalArgumentException {
         if (searchBasedFetchers == null) {
             throw new IllegalArgumentException("The set of searchBasedFetchers must not be null!");
         }
         // Remove the Composite Fetcher instance from its own fetcher set to prevent a StackOverflow
+        // The order of the given set is kept, so that the results are always combined in the same order
         this.fetchers = searchBasedFetchers.stream()
                                            .filter(searchBasedFetcher -> searchBasedFetcher != this)
-                                           .collect(Collectors.toSet());
+                                           .collect(Collectors.toCollection(LinkedHashSet::new));
         this.maximumNumberOfReturnedResults = maximumNumberOfReturnedResults;
+        this.fetcherExecutor = fetcherExecutor;
     }
 
     @Override
@@ -48,17 +60,23 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     @Override
     public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
+        long deadline = FetcherExecutor.deadlineAfter(SEARCH_TIMEOUT);
+        Map<SearchBasedFetcher, Future<List<BibEntry>>> searches = new LinkedHashMap<>();
+        for (SearchBasedFetcher fetcher : fetchers) {
+            searches.put(fetcher, fetcherExecutor.submit(fetcher, () -> fetcher.performSearch(luceneQuery)));
+        }
+
         // All entries have to be converted into one format, this is necessary for the format conversion
-        return fetchers.parallelStream()
-                       .flatMap(searchBasedFetcher -> {
-                           try {
-                               return searchBasedFetcher.performSearch(luceneQuery).stream();
-                           } catch (FetcherException e) {
-                               LOGGER.warn(String.format("%s API request failed", searchBasedFetcher.getName()), e);
-                               return Stream.empty();
-                           }
-                       })
-                       .limit(maximumNumberOfReturnedResults)
-                       .collect(Collectors.toList());
+        List<BibEntry> result = new ArrayList<>();
+        for (Map.Entry<SearchBasedFetcher, Future<List<BibEntry>>> search : searches.entrySet()) {
+            if (result.size() >= maximumNumberOfReturnedResults) {
+                search.getValue().cancel(true);
+                continue;
+            }
+            fetcherExecutor.await(search.getKey(), search.getValue(), deadline).ifPresent(result::addAll);
+        }
+        return result.stream()
+                     .limit(maximumNumberOfReturnedResults)
+                     .collect(Collectors.toList());
     }
 }
@@ -54,33 +54,13 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
-        // We want to check if there is a JabRef encoding heading in the file, because that would tell us
-        // which character encoding is used.
-
-        // In general, we have to use InputStream and not a Reader, because a Reader requires an encoding specification.
-        // We do not want to do a byte-by-byte reading or doing wild try/catch magic.
-        // We therefore use a charset detection library and then read JabRefs "% Encoding" mark
-
-        Charset detectedCharset;
-        try (InputStream inputStream = Files.newInputStream(filePath)) {
-            BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
-            bufferedInputStream.mark(8192);
-            detectedCharset = getCharset(bufferedInputStream);
-            bufferedInputStream.reset();
-            LOGGER.debug("Detected charset: {}", detectedCharset.name());
-        }
-
-        Charset encoding;
-        boolean encodingExplicitlySupplied;
-        try (BufferedReader reader = Files.newBufferedReader(filePath, detectedCharset)) {
-            Optional<Charset> suppliedEncoding = getSuppliedEncoding(reader);
-            LOGGER.debug("Supplied encoding: {}", suppliedEncoding);
-            encodingExplicitlySupplied = suppliedEncoding.isPresent();
+        Charset detectedCharset = detectCharset(filePath);
+        Optional<Charset> suppliedEncoding = getSuppliedEncoding(filePath, detectedCharset);
+        boolean encodingExplicitlySupplied = suppliedEncoding.isPresent();
 
-            // in case no encoding information is present, use the detected one
-            encoding = suppliedEncoding.orElse(detectedCharset);
-            LOGGER.debug("Encoding used to read the file: {}", encoding);
-        }
+        // in case no encoding information is present, use the detected one
+        Charset encoding = suppliedEncoding.orElse(detectedCharset);
+        LOGGER.debug("Encoding used to read the file: {}", encoding);
 
         // We replace unreadable characters
         // Unfortunately, no warning will be issued to the user
@@ -101,6 +81,48 @@ public class BibtexImporter extends Importer {
         }
     }
 
+    /**
+     * Determines the encoding a library file is read with: the encoding stated in the header of the file or, if there
+     * is none, the detected one.
+     */
+    public static Charset getEncoding(Path filePath) throws IOException {
+        Charset detectedCharset = detectCharset(filePath);
+        return getSuppliedEncoding(filePath, detectedCharset).orElse(detectedCharset);
+    }
+
+    /**
+     * Determines whether the encoding a library file is read with is stated in the header of the file.
+     */
+    public static boolean isEncodingExplicitlySupplied(Path filePath) throws IOException {
+        return getSuppliedEncoding(filePath, detectCharset(filePath)).isPresent();
+    }
+
+    private static Charset detectCharset(Path filePath) throws IOException {
+        // We want to check if there is a JabRef encoding heading in the file, because that would tell us
+        // which character encoding is used.
+
+        // In general, we have to use InputStream and not a Reader, because a Reader requires an encoding specification.
+        // We do not want to do a byte-by-byte reading or doing wild try/catch magic.
+        // We therefore use a charset detection library and then read JabRefs "% Encoding" mark
+
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+            bufferedInputStream.mark(8192);
+            Charset detectedCharset = getCharset(bufferedInputStream);
+            bufferedInputStream.reset();
+            LOGGER.debug("Detected charset: {}", detectedCharset.name());
+            return detectedCharset;
+        }
+    }
+
+    private static Optional<Charset> getSuppliedEncoding(Path filePath, Charset detectedCharset) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(filePath, detectedCharset)) {
+            Optional<Charset> suppliedEncoding = getSuppliedEncoding(reader);
+            LOGGER.debug("Supplied encoding: {}", suppliedEncoding);
+            return suppliedEncoding;
+        }
+    }
+
     /**
      * This method does not set the metadata encoding information. The caller needs to set the encoding of the supplied
      * reader manually to the meta data
@@ -29,6 +29,9 @@ import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.metrics.Counter;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.metrics.Timer;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.KeyCollisionException;
@@ -70,6 +73,8 @@ public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 1024;
+    private static final Timer PARSE_TIMER = MetricsRegistry.INSTANCE.timer("importer.parse");
+    private static final Counter PARSED_ENTRIES = MetricsRegistry.INSTANCE.counter("importer.parsedEntries");
     private final FieldContentFormatter fieldContentFormatter;
     private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
@@ -131,18 +136,22 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        try (Timer.Stopwatch stopwatch = PARSE_TIMER.start()) {
+            pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
 
-        String newLineSeparator = determineNewLineSeparator();
+            String newLineSeparator = determineNewLineSeparator();
 
-        // BibTeX related contents
-        initializeParserResult(newLineSeparator);
+            // BibTeX related contents
+            initializeParserResult(newLineSeparator);
 
-        parseDatabaseID();
+            parseDatabaseID();
 
-        skipWhitespace();
+            skipWhitespace();
 
-        return parseFileContent();
+            ParserResult result = parseFileContent();
+            PARSED_ENTRIES.add(result.getDatabase().getEntryCount());
+            return result;
+        }
     }
 
     private String determineNewLineSeparator() throws IOException {
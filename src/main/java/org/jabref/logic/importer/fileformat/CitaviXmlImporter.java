@@ -114,6 +114,11 @@ public class CitaviXmlImporter extends Importer implements Parser {
         return false;
     }
 
+    @Override
+    public boolean isRecognizedFormat(Path filePath, String content) throws IOException {
+        return isRecognizedFormat(filePath);
+    }
+
     @Override
     public boolean isRecognizedFormat(Path filePath) throws IOException {
         try (BufferedReader reader = getReaderFromZip(filePath)) {
@@ -73,6 +73,11 @@ public class PdfGrobidImporter extends Importer {
         return false;
     }
 
+    @Override
+    public boolean isRecognizedFormat(Path filePath, String content) throws IOException {
+        return isRecognizedFormat(filePath);
+    }
+
     /**
      * Returns whether the given stream contains data that is a.) a pdf and b.)
      * contains at least one BibEntry.
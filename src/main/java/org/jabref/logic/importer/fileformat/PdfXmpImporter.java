@@ -66,6 +66,12 @@ public class PdfXmpImporter extends Importer {
         return false;
     }
 
+    @Override
+    public boolean isRecognizedFormat(Path filePath, String content) throws IOException {
+        // Loading the document is expensive, thus we check the header first like the other PDF importers
+        return content.startsWith("%PDF") && isRecognizedFormat(filePath);
+    }
+
     /**
      * Returns whether the given stream contains data that is a.) a pdf and b.)
      * contains at least one BibEntry.
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.ToLongFunction;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -16,10 +17,19 @@ public class CitationKeyDeviationChecker implements EntryChecker {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final ToLongFunction<String> keyOccurrences;
 
     public CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
+        this(bibDatabaseContext, citationKeyPatternPreferences, bibDatabaseContext.getDatabase()::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * @param keyOccurrences the number of entries having a given citation key, e.g., from a precomputed index
+     */
+    CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences, ToLongFunction<String> keyOccurrences) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
+        this.keyOccurrences = Objects.requireNonNull(keyOccurrences);
     }
 
     @Override
@@ -32,7 +42,7 @@ public class CitationKeyDeviationChecker implements EntryChecker {
         String key = valuekey.get();
 
         // generate new key
-        String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences).generateKey(entry);
+        String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences).generateKey(entry, keyOccurrences);
 
         if (!Objects.equals(key, generatedKey)) {
             return Collections.singletonList(new IntegrityMessage(
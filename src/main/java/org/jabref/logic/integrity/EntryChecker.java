@@ -7,4 +7,12 @@ import org.jabref.model.entry.BibEntry;
 @FunctionalInterface
 public interface EntryChecker {
     List<IntegrityMessage> check(BibEntry entry);
+
+    /**
+     * Indicates whether several entries may be checked concurrently. Checkers keeping state between checks have to
+     * return false, {@link IntegrityCheck} then checks one entry at a time with them.
+     */
+    default boolean isThreadSafe() {
+        return true;
+    }
 }
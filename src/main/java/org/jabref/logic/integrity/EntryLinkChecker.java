@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -15,10 +16,17 @@ import org.jabref.model.entry.field.FieldProperty;
 
 public class EntryLinkChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final ToLongFunction<String> keyOccurrences;
 
     public EntryLinkChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this(Objects.requireNonNull(database)::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * @param keyOccurrences the number of entries having a given citation key, e.g., from a precomputed index
+     */
+    EntryLinkChecker(ToLongFunction<String> keyOccurrences) {
+        this.keyOccurrences = Objects.requireNonNull(keyOccurrences);
     }
 
     @Override
@@ -27,14 +35,14 @@ public class EntryLinkChecker implements EntryChecker {
         for (Entry<Field, String> field : entry.getFieldMap().entrySet()) {
             Set<FieldProperty> properties = field.getKey().getProperties();
             if (properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                if (database.getEntryByCitationKey(field.getValue()).isEmpty()) {
+                if (keyOccurrences.applyAsLong(field.getValue()) == 0) {
                     result.add(new IntegrityMessage(Localization.lang("Referenced citation key does not exist"), entry,
                             field.getKey()));
                 }
             } else if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
                 List<String> keys = new ArrayList<>(Arrays.asList(field.getValue().split(",")));
                 for (String key : keys) {
-                    if (database.getEntryByCitationKey(key).isEmpty()) {
+                    if (keyOccurrences.applyAsLong(key) == 0) {
                         result.add(new IntegrityMessage(
                                 Localization.lang("Referenced citation key does not exist") + ": " + key, entry,
                                 field.getKey()));
@@ -3,6 +3,12 @@ package org.jabref.logic.integrity;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -15,6 +21,8 @@ import org.jabref.preferences.FilePreferences;
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final JournalAbbreviationRepository journalAbbreviationRepository;
     private final FieldCheckers fieldCheckers;
     private final List<EntryChecker> entryCheckers;
 
@@ -24,63 +32,130 @@ public class IntegrityCheck {
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.citationKeyPatternPreferences = citationKeyPatternPreferences;
+        this.journalAbbreviationRepository = journalAbbreviationRepository;
 
         fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
 
-        entryCheckers = new ArrayList<>(List.of(
+        entryCheckers = createEntryCheckers(bibDatabaseContext.getDatabase()::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * @param keyOccurrences the number of entries having a given citation key
+     */
+    private List<EntryChecker> createEntryCheckers(ToLongFunction<String> keyOccurrences) {
+        List<EntryChecker> checkers = new ArrayList<>(fieldCheckers.getAll());
+        checkers.addAll(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase())
+                new EntryLinkChecker(keyOccurrences),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences, keyOccurrences),
+                new CitationKeyDuplicationChecker(keyOccurrences)
         ));
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.addAll(List.of(
+            checkers.addAll(List.of(
                     new JournalInAbbreviationListChecker(StandardField.JOURNALTITLE, journalAbbreviationRepository),
                     new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8))
             ));
         } else {
-            entryCheckers.addAll(List.of(
+            checkers.addAll(List.of(
                     new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository),
                     new ASCIICharacterChecker(),
                     new NoBibtexFieldChecker(),
                     new BibTeXEntryTypeChecker())
             );
         }
+        return checkers;
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        return check(messages -> {
+        }, () -> false);
+    }
 
+    /**
+     * Checks all entries of the library in parallel, followed by the checks of the library as a whole.
+     * <p>
+     * The citation keys of the library are counted once up front, so that the checkers looking up other entries by
+     * their key do not scan the library for each entry. Checkers which are not {@link EntryChecker#isThreadSafe()
+     * thread-safe} check one entry at a time.
+     *
+     * @param messagesConsumer receives the messages of each checked entry (possibly none) and finally the messages of
+     *                         the library checks, as soon as they are available. It is called from several threads.
+     * @param isCancelled      queried before each entry is checked. Once it returns true, the remaining entries and the
+     *                         library checks are skipped.
+     * @return all messages, in the order of the entries
+     */
+    public List<IntegrityMessage> check(Consumer<List<IntegrityMessage>> messagesConsumer, BooleanSupplier isCancelled) {
         BibDatabase database = bibDatabaseContext.getDatabase();
-
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
+        // a snapshot, so that the library can be edited while it is checked
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+
+        List<EntryChecker> checkers = createEntryCheckers(countCitationKeys(entries));
+
+        List<IntegrityMessage> result = entries.parallelStream()
+                                               .map(entry -> {
+                                                   if (isCancelled.getAsBoolean()) {
+                                                       return List.<IntegrityMessage>of();
+                                                   }
+                                                   List<IntegrityMessage> messages = checkEntry(entry, checkers);
+                                                   messagesConsumer.accept(messages);
+                                                   return messages;
+                                               })
+                                               .flatMap(List::stream)
+                                               .collect(Collectors.toCollection(ArrayList::new));
+
+        if (!isCancelled.getAsBoolean()) {
+            List<IntegrityMessage> databaseMessages = checkDatabase(database);
+            messagesConsumer.accept(databaseMessages);
+            result.addAll(databaseMessages);
         }
-        result.addAll(checkDatabase(database));
-
         return result;
     }
 
+    /**
+     * Checks the given entries of the library one after another. As for {@link #check(Consumer, BooleanSupplier)}, the
+     * citation keys of the library are counted once up front.
+     *
+     * @return the messages of each entry, in the order of the entries
+     */
+    public List<List<IntegrityMessage>> checkEntries(List<BibEntry> entries) {
+        List<EntryChecker> checkers = createEntryCheckers(countCitationKeys(List.copyOf(bibDatabaseContext.getDatabase().getEntries())));
+        return entries.stream()
+                      .map(entry -> checkEntry(entry, checkers))
+                      .collect(Collectors.toList());
+    }
+
+    private static ToLongFunction<String> countCitationKeys(List<BibEntry> entries) {
+        Map<String, Long> keyOccurrences = entries.stream()
+                                                  .flatMap(entry -> entry.getCitationKey().stream())
+                                                  .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        return key -> keyOccurrences.getOrDefault(key, 0L);
+    }
+
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
-        List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
-            return result;
-        }
-
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+            return new ArrayList<>();
         }
+        return checkEntry(entry, entryCheckers);
+    }
 
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+    private static List<IntegrityMessage> checkEntry(BibEntry entry, List<EntryChecker> checkers) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (EntryChecker checker : checkers) {
+            if (checker.isThreadSafe()) {
+                result.addAll(checker.check(entry));
+            } else {
+                synchronized (checker) {
+                    result.addAll(checker.check(entry));
+                }
+            }
         }
-
         return result;
     }
 
@@ -0,0 +1,313 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.event.MetaDataChangedEvent;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the integrity messages of all entries of a library up to date in the background.
+ * <p>
+ * The library is checked completely once. Afterwards, only the entries affected by a change are checked again: the
+ * changed, added or removed entries, the entries sharing a citation key with them, and the entries linking to them
+ * (e.g., by <code>crossref</code>). The check for duplicate DOIs runs again if a DOI changed or entries were added or
+ * removed. Changes arriving while a check runs are collected and checked together afterwards.
+ * <p>
+ * If the mode of the library changes, or {@link #recheckAll()} is called after the preferences changed, the check is
+ * created anew and the library is checked completely again.
+ * <p>
+ * An {@link IntegrityMessagesChangedEvent} is posted after each check. The checks run one after another as background
+ * tasks of the library; {@link #shutdown()} has to be called when the library is closed.
+ */
+public class IntegrityCheckService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntegrityCheckService.class);
+
+    private final BibDatabaseContext bibDatabaseContext;
+    private final Supplier<IntegrityCheck> integrityCheckFactory;
+    private final Executor executor;
+    private final EventBus eventBus = new EventBus();
+
+    // the messages of each entry, by the id of the entry
+    private final Map<String, List<IntegrityMessage>> messagesOfEntries = new ConcurrentHashMap<>();
+    private volatile List<IntegrityMessage> databaseMessages = List.of();
+    private volatile IntegrityCheck integrityCheck;
+    private volatile BibDatabaseMode checkedMode;
+
+    private final Map<String, BibEntry> pendingEntries = new ConcurrentHashMap<>();
+    private final Set<String> pendingCitationKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean isDatabaseCheckPending = new AtomicBoolean();
+    private final AtomicBoolean hasPendingChanges = new AtomicBoolean();
+    private final AtomicBoolean isCheckRunning = new AtomicBoolean();
+    private volatile boolean isShutdown;
+
+    /**
+     * @param integrityCheckFactory creates the check with the current preferences. It is called again by
+     *                              {@link #recheckAll()} and when the mode of the library changes.
+     */
+    public IntegrityCheckService(BibDatabaseContext bibDatabaseContext, Supplier<IntegrityCheck> integrityCheckFactory) {
+        this(bibDatabaseContext,
+                integrityCheckFactory,
+                runnable -> TaskScheduler.INSTANCE.execute(runnable, TaskPriority.BACKGROUND, bibDatabaseContext));
+    }
+
+    IntegrityCheckService(BibDatabaseContext bibDatabaseContext, Supplier<IntegrityCheck> integrityCheckFactory, Executor executor) {
+        this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
+        this.integrityCheckFactory = Objects.requireNonNull(integrityCheckFactory);
+        this.executor = Objects.requireNonNull(executor);
+
+        bibDatabaseContext.getDatabase().registerListener(this);
+        bibDatabaseContext.getMetaData().registerListener(this);
+        recheckAll();
+    }
+
+    /**
+     * Creates the check anew and checks the complete library again, e.g., after the preferences changed.
+     */
+    public void recheckAll() {
+        checkedMode = bibDatabaseContext.getMode();
+        integrityCheck = integrityCheckFactory.get();
+        for (BibEntry entry : bibDatabaseContext.getDatabase().getEntries()) {
+            pendingEntries.put(entry.getId(), entry);
+        }
+        isDatabaseCheckPending.set(true);
+        scheduleCheck();
+    }
+
+    /**
+     * @return the messages of the given entry as of the latest check, including the messages of the library checks
+     * concerning the entry
+     */
+    public List<IntegrityMessage> getMessages(BibEntry entry) {
+        List<IntegrityMessage> messages = new ArrayList<>(messagesOfEntries.getOrDefault(entry.getId(), List.of()));
+        databaseMessages.stream()
+                        .filter(message -> message.getEntry() == entry)
+                        .forEach(messages::add);
+        return messages;
+    }
+
+    /**
+     * @return whether all changes to the library have been checked, i.e., {@link #getAllMessages()} reflects the current
+     * state of the library
+     */
+    public boolean isUpToDate() {
+        return !isShutdown && !isCheckRunning.get() && !hasPendingChanges.get();
+    }
+
+    /**
+     * @return the messages of all entries, in the order of the entries in the library, followed by the messages of the
+     * library checks as of the latest check
+     */
+    public List<IntegrityMessage> getAllMessages() {
+        Stream<IntegrityMessage> entryMessages = List.copyOf(bibDatabaseContext.getDatabase().getEntries()).stream()
+                                                     .flatMap(entry -> messagesOfEntries.getOrDefault(entry.getId(), List.of()).stream());
+        return Stream.concat(entryMessages, databaseMessages.stream())
+                     .collect(Collectors.toList());
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        pendingEntries.put(entry.getId(), entry);
+        entry.getCitationKey().ifPresent(pendingCitationKeys::add);
+        Field field = event.getField();
+        if (InternalField.KEY_FIELD.equals(field)) {
+            // entries sharing or linking to the previous key are affected as well
+            Stream.of(event.getOldValue(), event.getNewValue())
+                  .filter(Objects::nonNull)
+                  .forEach(pendingCitationKeys::add);
+        } else if (StandardField.DOI.equals(field)) {
+            isDatabaseCheckPending.set(true);
+        }
+        scheduleCheck();
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            pendingEntries.put(entry.getId(), entry);
+            entry.getCitationKey().ifPresent(pendingCitationKeys::add);
+        }
+        isDatabaseCheckPending.set(true);
+        scheduleCheck();
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            messagesOfEntries.remove(entry.getId());
+            entry.getCitationKey().ifPresent(pendingCitationKeys::add);
+        }
+        isDatabaseCheckPending.set(true);
+        scheduleCheck();
+    }
+
+    @Subscribe
+    public void listen(MetaDataChangedEvent event) {
+        // the checks depend on the mode of the library
+        if (bibDatabaseContext.getMode() != checkedMode) {
+            recheckAll();
+        }
+    }
+
+    public void registerListener(Object listener) {
+        eventBus.register(listener);
+    }
+
+    public void unregisterListener(Object listener) {
+        try {
+            eventBus.unregister(listener);
+        } catch (IllegalArgumentException e) {
+            // occurs if the event source has not been registered, should not prevent shutdown
+            LOGGER.debug("Problem unregistering", e);
+        }
+    }
+
+    /**
+     * Stops listening to the library. Changes are not checked anymore, a running check is finished.
+     */
+    public void shutdown() {
+        isShutdown = true;
+        bibDatabaseContext.getDatabase().unregisterListener(this);
+        bibDatabaseContext.getMetaData().unregisterListener(this);
+    }
+
+    private void scheduleCheck() {
+        hasPendingChanges.set(true);
+        if (!isShutdown && isCheckRunning.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::checkPending);
+            } catch (RejectedExecutionException e) {
+                // The changes stay pending and are checked together with the next change
+                LOGGER.warn("Could not schedule integrity check", e);
+                isCheckRunning.set(false);
+            }
+        }
+    }
+
+    /**
+     * Checks the pending changes until there are none left. Only one check runs at a time, changes arriving meanwhile
+     * are checked by the same task afterwards.
+     */
+    private void checkPending() {
+        do {
+            hasPendingChanges.set(false);
+            if (!isShutdown && !checkOnce()) {
+                // The changes are checked again with the next change
+                hasPendingChanges.set(true);
+                isCheckRunning.set(false);
+                return;
+            }
+            isCheckRunning.set(false);
+        } while (hasPendingChanges.get() && !isShutdown && isCheckRunning.compareAndSet(false, true));
+    }
+
+    /**
+     * @return false if the check failed. The changes it should have checked are pending again.
+     */
+    private boolean checkOnce() {
+        Set<String> citationKeys = new HashSet<>();
+        drain(pendingCitationKeys.iterator(), citationKeys::add);
+        Map<String, BibEntry> changedEntries = new LinkedHashMap<>();
+        drain(pendingEntries.values().iterator(), entry -> changedEntries.put(entry.getId(), entry));
+        boolean checkDatabase = isDatabaseCheckPending.getAndSet(false);
+
+        try {
+            IntegrityCheck check = integrityCheck;
+            BibDatabase database = bibDatabaseContext.getDatabase();
+            List<BibEntry> entries = List.copyOf(database.getEntries());
+
+            Map<String, BibEntry> entriesToCheck = new LinkedHashMap<>(changedEntries);
+            if (!citationKeys.isEmpty()) {
+                entries.stream()
+                       .filter(entry -> isRelatedToAnyKey(entry, citationKeys))
+                       .forEach(entry -> entriesToCheck.put(entry.getId(), entry));
+            }
+
+            Set<String> idsInDatabase = entries.stream().map(BibEntry::getId).collect(Collectors.toSet());
+            List<BibEntry> checkedEntries = entriesToCheck.values().stream()
+                                                          .filter(entry -> idsInDatabase.contains(entry.getId()))
+                                                          .collect(Collectors.toList());
+            List<List<IntegrityMessage>> messages = check.checkEntries(checkedEntries);
+            for (int i = 0; i < checkedEntries.size(); i++) {
+                messagesOfEntries.put(checkedEntries.get(i).getId(), messages.get(i));
+            }
+            if (checkDatabase) {
+                databaseMessages = check.checkDatabase(database);
+            }
+
+            eventBus.post(new IntegrityMessagesChangedEvent(checkedEntries));
+            return true;
+        } catch (RuntimeException e) {
+            // e.g., the library has been modified while copying the entries
+            LOGGER.warn("Could not check integrity of changed entries", e);
+            pendingCitationKeys.addAll(citationKeys);
+            changedEntries.forEach(pendingEntries::putIfAbsent);
+            if (checkDatabase) {
+                isDatabaseCheckPending.set(true);
+            }
+            return false;
+        }
+    }
+
+    private static <T> void drain(Iterator<T> iterator, Consumer<T> consumer) {
+        while (iterator.hasNext()) {
+            consumer.accept(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Checks whether the entry has one of the keys or links to one of them, in the way {@link EntryLinkChecker} reads
+     * links.
+     */
+    private static boolean isRelatedToAnyKey(BibEntry entry, Set<String> citationKeys) {
+        if (entry.getCitationKey().map(citationKeys::contains).orElse(false)) {
+            return true;
+        }
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            Set<FieldProperty> properties = field.getKey().getProperties();
+            if (properties.contains(FieldProperty.SINGLE_ENTRY_LINK) && citationKeys.contains(field.getValue())) {
+                return true;
+            }
+            if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)
+                    && Arrays.stream(field.getValue().split(",")).anyMatch(citationKeys::contains)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
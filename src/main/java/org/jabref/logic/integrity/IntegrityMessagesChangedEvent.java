@@ -0,0 +1,25 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * <code>IntegrityMessagesChangedEvent</code> is posted by the {@link IntegrityCheckService} after entries have been
+ * checked again.
+ */
+public class IntegrityMessagesChangedEvent {
+
+    private final List<BibEntry> checkedEntries;
+
+    /**
+     * @param checkedEntries the entries which have been checked, their messages may or may not have changed
+     */
+    public IntegrityMessagesChangedEvent(List<BibEntry> checkedEntries) {
+        this.checkedEntries = checkedEntries;
+    }
+
+    public List<BibEntry> getCheckedEntries() {
+        return checkedEntries;
+    }
+}
@@ -1,12 +1,20 @@
 package org.jabref.logic.journals;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.List;
 
+import org.jabref.logic.util.OS;
+
+import net.harawata.appdirs.AppDirsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,6 +22,8 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    private static final String BUILT_IN_LIST = "/journals/journalList.mv";
+
     public static List<Abbreviation> readJournalListFromFile(Path file) throws IOException {
         LOGGER.debug(String.format("Reading journal list from file %s", file));
         AbbreviationParser parser = new AbbreviationParser();
@@ -25,13 +35,8 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
         // Initialize with built-in list
         try {
-            Path tempDir = Files.createTempDirectory("jabref-journal");
-            Path tempJournalList = tempDir.resolve("journalList.mv");
-            Files.copy(JournalAbbreviationRepository.class.getResourceAsStream("/journals/journalList.mv"), tempJournalList);
-            repository = new JournalAbbreviationRepository(tempJournalList);
-            tempDir.toFile().deleteOnExit();
-            tempJournalList.toFile().deleteOnExit();
-        } catch (IOException e) {
+            repository = new JournalAbbreviationRepository(getBuiltInJournalList());
+        } catch (IOException | URISyntaxException e) {
             LOGGER.error("Error while copying journal list", e);
             return null;
         }
@@ -51,6 +56,41 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    /**
+     * Returns the bundled journal list as a file which can be opened by the MVStore. If the list is a plain file on
+     * the class path, it is used in place. Otherwise, it is copied out of the jar into the user cache directory once per
+     * version of the list, and later starts reuse that copy.
+     */
+    private static Path getBuiltInJournalList() throws IOException, URISyntaxException {
+        URL resource = JournalAbbreviationRepository.class.getResource(BUILT_IN_LIST);
+        if (resource == null) {
+            throw new IOException("Built-in journal list " + BUILT_IN_LIST + " not found");
+        }
+        if ("file".equals(resource.getProtocol())) {
+            return Path.of(resource.toURI());
+        }
+
+        URLConnection connection = resource.openConnection();
+        long size = connection.getContentLengthLong();
+        Path cachedList = Path.of(AppDirsFactory.getInstance().getUserCacheDir(OS.APP_DIR_APP_NAME, "journals", OS.APP_DIR_APP_AUTHOR))
+                              .resolve("journalList-%d-%d.mv".formatted(connection.getLastModified(), size));
+        if (Files.exists(cachedList) && (Files.size(cachedList) == size)) {
+            return cachedList;
+        }
+
+        Files.createDirectories(cachedList.getParent());
+        // Another instance might copy at the same time, so the complete file is moved into place
+        Path partialList = Files.createTempFile(cachedList.getParent(), "journalList", ".part");
+        try (InputStream stream = connection.getInputStream()) {
+            Files.copy(stream, partialList, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partialList, cachedList, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partialList);
+        }
+        LOGGER.debug("Copied built-in journal list to {}", cachedList);
+        return cachedList;
+    }
+
     public static JournalAbbreviationRepository loadBuiltInRepository() {
         return loadRepository(new JournalAbbreviationPreferences(Collections.emptyList(), StandardCharsets.UTF_8));
     }
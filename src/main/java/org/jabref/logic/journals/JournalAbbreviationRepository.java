@@ -3,44 +3,57 @@ package org.jabref.logic.journals;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are read from a read-only MVStore, which is opened once per file and shared by all
+ * repositories. Custom abbreviations are indexed by their case-folded names, so that lookups do not depend on the
+ * size of the custom lists.
  */
 public class JournalAbbreviationRepository {
 
+    private static final Map<Path, MVStore> OPENED_STORES = new ConcurrentHashMap<>();
+
     private final MVMap<String, String> fullToAbbreviation;
     private final MVMap<String, String> abbreviationToFull;
-    private final List<Abbreviation> customAbbreviations;
+    // Keyed by name, as abbreviations are equal if their names are
+    private final LinkedHashMap<String, Abbreviation> customAbbreviations;
+    private volatile CustomAbbreviationIndex customIndex;
+    private volatile NameTrigramIndex fullNameIndex;
 
     public JournalAbbreviationRepository(Path journalList) {
-        MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open();
+        MVStore store = OPENED_STORES.computeIfAbsent(journalList.toAbsolutePath(),
+                path -> new MVStore.Builder().readOnly().fileName(path.toString()).open());
         this.fullToAbbreviation = store.openMap("FullToAbbreviation");
         this.abbreviationToFull = store.openMap("AbbreviationToFull");
-        this.customAbbreviations = new ArrayList<>();
-    }
-
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+        this.customAbbreviations = new LinkedHashMap<>();
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isAbbreviated = name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        return isAbbreviated && !isExpanded;
+    /**
+     * Folds the case such that two strings are folded to the same string iff {@link String#equalsIgnoreCase(String)}
+     * holds for them.
+     */
+    static String foldCase(String text) {
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new String(folded);
     }
 
     /**
@@ -50,8 +63,7 @@ public class JournalAbbreviationRepository {
     public boolean isKnownName(String journalName) {
         String journal = journalName.trim();
 
-        boolean isKnown = customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation));
-        if (isKnown) {
+        if (getCustomIndex().byName.containsKey(foldCase(journal))) {
             return true;
         }
 
@@ -65,7 +77,7 @@ public class JournalAbbreviationRepository {
     public boolean isAbbreviatedName(String journalName) {
         String journal = journalName.trim();
 
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+        return getCustomIndex().abbreviatedNames.contains(foldCase(journal))
                 || abbreviationToFull.containsKey(journal);
     }
 
@@ -77,11 +89,9 @@ public class JournalAbbreviationRepository {
     public Optional<Abbreviation> get(String input) {
         String journal = input.trim();
 
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findAny();
-        if (customAbbreviation.isPresent()) {
-            return customAbbreviation;
+        Abbreviation customAbbreviation = getCustomIndex().byName.get(foldCase(journal));
+        if (customAbbreviation != null) {
+            return Optional.of(customAbbreviation);
         }
 
         return Optional.ofNullable(fullToAbbreviation.get(journal))
@@ -89,17 +99,18 @@ public class JournalAbbreviationRepository {
                        .or(() -> Optional.ofNullable(abbreviationToFull.get(journal)).map(fullName -> new Abbreviation(fullName, journal)));
     }
 
-    public void addCustomAbbreviation(Abbreviation abbreviation) {
+    public synchronized void addCustomAbbreviation(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         // We do not want to keep duplicates, thus remove the old abbreviation
-        // (abbreviation equality is tested on name only, so we cannot use a Set instead)
-        customAbbreviations.remove(abbreviation);
-        customAbbreviations.add(abbreviation);
+        customAbbreviations.remove(abbreviation.getName());
+        customAbbreviations.put(abbreviation.getName(), abbreviation);
+        customIndex = null;
+        fullNameIndex = null;
     }
 
-    public List<Abbreviation> getCustomAbbreviations() {
-        return customAbbreviations;
+    public synchronized List<Abbreviation> getCustomAbbreviations() {
+        return new ArrayList<>(customAbbreviations.values());
     }
 
     public void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
@@ -126,8 +137,73 @@ public class JournalAbbreviationRepository {
         return fullToAbbreviation.keySet();
     }
 
+    /**
+     * Finds the full names of the built-in and custom journals containing the given text, ignoring case. The names are
+     * looked up in an index of their trigrams, which is built on first use.
+     */
+    public Stream<String> getFullNamesContaining(String text) {
+        NameTrigramIndex index = fullNameIndex;
+        if (index == null) {
+            index = buildFullNameIndex();
+        }
+        return index.containing(text);
+    }
+
+    private synchronized NameTrigramIndex buildFullNameIndex() {
+        if (fullNameIndex == null) {
+            List<String> names = new ArrayList<>(fullToAbbreviation.keySet());
+            customAbbreviations.keySet().stream()
+                               .filter(name -> !fullToAbbreviation.containsKey(name))
+                               .forEach(names::add);
+            fullNameIndex = new NameTrigramIndex(names);
+        }
+        return fullNameIndex;
+    }
+
     public List<Abbreviation> getAllLoaded() {
         return fullToAbbreviation.entrySet().stream().map(entry ->
                 new Abbreviation(entry.getKey(), entry.getValue())).collect(Collectors.toList());
     }
+
+    private CustomAbbreviationIndex getCustomIndex() {
+        CustomAbbreviationIndex index = customIndex;
+        if (index == null) {
+            index = buildCustomIndex();
+        }
+        return index;
+    }
+
+    private synchronized CustomAbbreviationIndex buildCustomIndex() {
+        if (customIndex == null) {
+            customIndex = new CustomAbbreviationIndex(customAbbreviations.values());
+        }
+        return customIndex;
+    }
+
+    /**
+     * Custom abbreviations by each of their case-folded names. If several abbreviations share a name, the one added
+     * first is found.
+     */
+    private static class CustomAbbreviationIndex {
+
+        private final Map<String, Abbreviation> byName = new HashMap<>();
+        // Case-folded abbreviated names which differ from the full name of their journal
+        private final Set<String> abbreviatedNames = new HashSet<>();
+
+        CustomAbbreviationIndex(Collection<Abbreviation> abbreviations) {
+            for (Abbreviation abbreviation : abbreviations) {
+                String name = foldCase(abbreviation.getName());
+                byName.putIfAbsent(name, abbreviation);
+                for (String abbreviatedName : List.of(abbreviation.getAbbreviation(),
+                        abbreviation.getMedlineAbbreviation(),
+                        abbreviation.getShortestUniqueAbbreviation())) {
+                    String folded = foldCase(abbreviatedName);
+                    byName.putIfAbsent(folded, abbreviation);
+                    if (!folded.equals(name)) {
+                        abbreviatedNames.add(folded);
+                    }
+                }
+            }
+        }
+    }
 }
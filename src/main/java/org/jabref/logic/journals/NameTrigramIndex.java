@@ -0,0 +1,81 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Finds the names containing a given text, ignoring case, without scanning all names.
+ * <p>
+ * Each name is indexed by the trigrams (substrings of length three) of its case-folded form. A name containing the text
+ * has to contain each trigram of the text, so only the names of the rarest trigram of the text are checked.
+ */
+class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final List<String> names;
+    private final List<String> foldedNames;
+    // Positions of the names containing a trigram, in ascending order
+    private final Map<String, int[]> namesByTrigram = new HashMap<>();
+
+    NameTrigramIndex(List<String> names) {
+        this.names = List.copyOf(names);
+        this.foldedNames = this.names.stream().map(JournalAbbreviationRepository::foldCase).toList();
+
+        List<Set<String>> trigramsOfNames = new ArrayList<>(foldedNames.size());
+        Map<String, Integer> numberOfNames = new HashMap<>();
+        for (String foldedName : foldedNames) {
+            Set<String> trigrams = trigrams(foldedName);
+            trigramsOfNames.add(trigrams);
+            trigrams.forEach(trigram -> numberOfNames.merge(trigram, 1, Integer::sum));
+        }
+
+        Map<String, Integer> filled = new HashMap<>();
+        numberOfNames.forEach((trigram, count) -> namesByTrigram.put(trigram, new int[count]));
+        for (int position = 0; position < trigramsOfNames.size(); position++) {
+            for (String trigram : trigramsOfNames.get(position)) {
+                int index = filled.merge(trigram, 1, Integer::sum) - 1;
+                namesByTrigram.get(trigram)[index] = position;
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String foldedText) {
+        Set<String> trigrams = new HashSet<>();
+        for (int start = 0; (start + GRAM_LENGTH) <= foldedText.length(); start++) {
+            trigrams.add(foldedText.substring(start, start + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * @return the names containing the text, ignoring case, in the order they were given
+     */
+    Stream<String> containing(String text) {
+        String foldedText = JournalAbbreviationRepository.foldCase(text);
+        IntStream candidates;
+        if (foldedText.length() < GRAM_LENGTH) {
+            candidates = IntStream.range(0, names.size());
+        } else {
+            int[] rarest = null;
+            for (String trigram : trigrams(foldedText)) {
+                int[] positions = namesByTrigram.get(trigram);
+                if (positions == null) {
+                    return Stream.empty();
+                }
+                if ((rarest == null) || (positions.length < rarest.length)) {
+                    rarest = positions;
+                }
+            }
+            candidates = IntStream.of(rarest);
+        }
+        return candidates.filter(position -> foldedNames.get(position).contains(foldedText))
+                         .mapToObj(names::get);
+    }
+}
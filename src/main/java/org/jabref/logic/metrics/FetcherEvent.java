@@ -0,0 +1,26 @@
+package org.jabref.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.jabref.Fetcher")
+@Label("Fetcher Call")
+@Category({"JabRef", "Fetcher"})
+@Description("Querying an online provider for entries")
+public class FetcherEvent extends Event {
+
+    @Label("Fetcher")
+    public String fetcher;
+
+    @Label("Query")
+    public String query;
+
+    @Label("Results")
+    public int results;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,40 @@
+package org.jabref.logic.metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the JabRef events, such as {@link OpenLibraryEvent}, together with the events of the JVM into a Java Flight
+ * Recorder file. The file can be inspected with JDK Mission Control or {@code jfr print}.
+ */
+public class FlightRecording {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlightRecording.class);
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Starts a recording with the low overhead settings of the JDK, which is written to the given file when JabRef
+     * exits.
+     */
+    public static void start(Path file) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("JabRef");
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.setDumpOnExit(true);
+            recording.start();
+            LOGGER.info("Started flight recording to {}", file);
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            LOGGER.warn("Could not start flight recording to {}", file, e);
+        }
+    }
+}
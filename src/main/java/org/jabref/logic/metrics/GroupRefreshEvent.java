@@ -0,0 +1,23 @@
+package org.jabref.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.jabref.GroupRefresh")
+@Label("Group Refresh")
+@Category({"JabRef", "Search"})
+@Description("Finding the entries matched by a group")
+public class GroupRefreshEvent extends Event {
+
+    @Label("Group")
+    public String group;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Matches")
+    public int matches;
+}
@@ -0,0 +1,78 @@
+package org.jabref.logic.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of recorded values, e.g., sizes or queue depths.
+ * <p>
+ * Values are counted in buckets bounded by powers of two. Thus, recording a value neither locks nor allocates, and the
+ * reported percentiles are at most twice the exact ones.
+ */
+public class Histogram {
+
+    private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param value the value to record, negative values are recorded as zero
+     */
+    public void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        // bucket i contains the values from 2^(i-1) to 2^i - 1
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(nonNegativeValue)].increment();
+        count.increment();
+        sum.add(nonNegativeValue);
+        max.accumulate(nonNegativeValue);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long numberOfValues = getCount();
+        return numberOfValues == 0 ? 0 : (double) getSum() / numberOfValues;
+    }
+
+    /**
+     * @param quantile the quantile between 0 and 1, e.g., 0.95 for the 95th percentile
+     * @return the upper bound of the bucket containing the percentile, but not more than the largest recorded value
+     */
+    public long getPercentile(double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * getCount()));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return Math.min((1L << i) - 1, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
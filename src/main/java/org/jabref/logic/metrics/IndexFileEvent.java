@@ -0,0 +1,23 @@
+package org.jabref.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.jabref.IndexFile")
+@Label("Index File")
+@Category({"JabRef", "Search"})
+@Description("Reading a linked file and adding it to the fulltext index")
+public class IndexFileEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Pages")
+    public int pages;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,24 @@
+package org.jabref.logic.metrics;
+
+/**
+ * The state of a single metric at one point in time.
+ * <p>
+ * For counters and gauges, only {@code count} is used and holds the current value. Durations of timers are given in
+ * milliseconds.
+ */
+public record MetricSnapshot(
+        String name,
+        Kind kind,
+        long count,
+        double mean,
+        double median,
+        double percentile95,
+        double max) {
+
+    public enum Kind {
+        COUNTER,
+        GAUGE,
+        HISTOGRAM,
+        TIMER
+    }
+}
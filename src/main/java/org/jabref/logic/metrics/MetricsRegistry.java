@@ -0,0 +1,99 @@
+package org.jabref.logic.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects counters, timers, histograms and gauges of the hot paths of JabRef, e.g., how long parsing a library takes.
+ * <p>
+ * Metrics are created on first use and identified by a dot-separated name such as {@code importer.parse}. Recording
+ * a value only updates a few counters, so the metrics are always on. Nothing is computed until a snapshot is taken.
+ */
+public class MetricsRegistry {
+
+    public static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    MetricsRegistry() {
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new Timer());
+    }
+
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Registers a value which is read whenever a snapshot is taken, e.g., the length of a queue. A gauge registered
+     * before under the same name is replaced.
+     */
+    public void registerGauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public List<MetricSnapshot> getSnapshots() {
+        List<MetricSnapshot> snapshots = new ArrayList<>();
+        counters.forEach((name, counter) -> snapshots.add(
+                new MetricSnapshot(name, MetricSnapshot.Kind.COUNTER, counter.getCount(), 0, 0, 0, 0)));
+        gauges.forEach((name, gauge) -> snapshots.add(
+                new MetricSnapshot(name, MetricSnapshot.Kind.GAUGE, gauge.getAsLong(), 0, 0, 0, 0)));
+        histograms.forEach((name, histogram) -> snapshots.add(
+                new MetricSnapshot(name, MetricSnapshot.Kind.HISTOGRAM, histogram.getCount(), histogram.getMean(),
+                        histogram.getPercentile(0.5), histogram.getPercentile(0.95), histogram.getMax())));
+        timers.forEach((name, timer) -> snapshots.add(
+                new MetricSnapshot(name, MetricSnapshot.Kind.TIMER, timer.getCount(), toMillis(timer.getMean()),
+                        toMillis(timer.getPercentile(0.5)), toMillis(timer.getPercentile(0.95)), toMillis(timer.getMax()))));
+        snapshots.sort(Comparator.comparing(MetricSnapshot::name));
+        return snapshots;
+    }
+
+    /**
+     * Writes the current snapshots as tab-separated values, one metric per line.
+     */
+    public void exportTo(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("name\tkind\tcount\tmean\tmedian\tp95\tmax");
+            writer.newLine();
+            for (MetricSnapshot snapshot : getSnapshots()) {
+                writer.write(String.format(Locale.ROOT, "%s\t%s\t%d\t%.3f\t%.3f\t%.3f\t%.3f",
+                        snapshot.name(), snapshot.kind(), snapshot.count(),
+                        snapshot.mean(), snapshot.median(), snapshot.percentile95(), snapshot.max()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Sets all counters, timers and histograms back to zero. Gauges stay registered.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        timers.values().forEach(Timer::reset);
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,28 @@
+package org.jabref.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.jabref.OpenLibrary")
+@Label("Open Library")
+@Category({"JabRef", "Library"})
+@Description("Reading and parsing a library file")
+public class OpenLibraryEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,26 @@
+package org.jabref.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.jabref.RenderCitations")
+@Label("Render Citations")
+@Category({"JabRef", "Citations"})
+@Description("Rendering entries with a CSL or BibTeX style")
+public class RenderCitationsEvent extends Event {
+
+    public static final String CSL = "CSL";
+    public static final String BST = "BST";
+
+    @Label("Style Language")
+    public String language;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,23 @@
+package org.jabref.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.jabref.SaveLibrary")
+@Label("Save Library")
+@Category({"JabRef", "Library"})
+@Description("Serializing a library, including the save actions")
+public class SaveLibraryEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Success")
+    public boolean success;
+}
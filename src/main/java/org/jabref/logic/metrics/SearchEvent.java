@@ -0,0 +1,26 @@
+package org.jabref.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.jabref.Search")
+@Label("Search")
+@Category({"JabRef", "Search"})
+@Description("Filtering the entries of a library by the search query and the selected groups")
+public class SearchEvent extends Event {
+
+    @Label("Query")
+    public String query;
+
+    @Label("Selected Groups")
+    public int selectedGroups;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Matches")
+    public int matches;
+}
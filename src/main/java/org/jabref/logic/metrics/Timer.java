@@ -0,0 +1,76 @@
+package org.jabref.logic.metrics;
+
+import java.time.Duration;
+
+/**
+ * Measures how long an operation takes. Typical usage:
+ *
+ * <pre>{@code
+ * try (Timer.Stopwatch stopwatch = timer.start()) {
+ *     doWork();
+ * }
+ * }</pre>
+ */
+public class Timer {
+
+    private final Histogram durations = new Histogram();
+
+    Timer() {
+    }
+
+    public Stopwatch start() {
+        return new Stopwatch(System.nanoTime());
+    }
+
+    public void record(Duration duration) {
+        durations.record(duration.toNanos());
+    }
+
+    public long getCount() {
+        return durations.getCount();
+    }
+
+    public Duration getTotal() {
+        return Duration.ofNanos(durations.getSum());
+    }
+
+    public Duration getMean() {
+        return Duration.ofNanos(Math.round(durations.getMean()));
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(durations.getMax());
+    }
+
+    /**
+     * @see Histogram#getPercentile(double)
+     */
+    public Duration getPercentile(double quantile) {
+        return Duration.ofNanos(durations.getPercentile(quantile));
+    }
+
+    void reset() {
+        durations.reset();
+    }
+
+    public class Stopwatch implements AutoCloseable {
+
+        private final long startTime;
+
+        private Stopwatch(long startTime) {
+            this.startTime = startTime;
+        }
+
+        public Duration getElapsed() {
+            return Duration.ofNanos(System.nanoTime() - startTime);
+        }
+
+        /**
+         * Records the time passed since the stopwatch was started.
+         */
+        @Override
+        public void close() {
+            durations.record(System.nanoTime() - startTime);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache for responses of HTTP GET requests issued by {@link URLDownload}.
+ * <p>
+ * Each response is stored as two files in the cache directory: the body and a properties file holding the validators
+ * (<code>ETag</code>, <code>Last-Modified</code>) and the time the response was stored. Both are named by the SHA-256
+ * hash of the request, so that URLs and headers, which may contain API keys, are not written to disk.
+ * A response younger than the time to live is served without contacting the server; an older one is revalidated with a conditional request.
+ * If the cache grows beyond its maximum size, the least recently used responses are evicted.
+ */
+public class HttpResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_EXTENSION = ".body";
+    private static final String METADATA_EXTENSION = ".properties";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_STORED_AT = "storedAt";
+
+    private final Path directory;
+    private final Duration timeToLive;
+    private final long maximumSize;
+    private final Clock clock;
+
+    // Total size of the stored bodies; determined from the directory on first use and tracked afterwards
+    private long size = -1;
+
+    public HttpResponseCache(Path directory, Duration timeToLive, long maximumSize) {
+        this(directory, timeToLive, maximumSize, Clock.systemUTC());
+    }
+
+    HttpResponseCache(Path directory, Duration timeToLive, long maximumSize, Clock clock) {
+        this.directory = Objects.requireNonNull(directory);
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    /**
+     * @param request a string identifying the request, i.e., the URL together with all headers influencing the response
+     * @return the stored response (which may be stale) or an empty optional if nothing is cached for the request
+     */
+    public Optional<CachedResponse> get(String request) {
+        String key = toKey(request);
+        Path body = directory.resolve(key + BODY_EXTENSION);
+        Path metadata = directory.resolve(key + METADATA_EXTENSION);
+        if (!Files.exists(body) || !Files.exists(metadata)) {
+            return Optional.empty();
+        }
+
+        try (InputStream metadataStream = Files.newInputStream(metadata)) {
+            Properties properties = new Properties();
+            properties.load(metadataStream);
+            CachedResponse response = new CachedResponse(
+                    Files.readAllBytes(body),
+                    Optional.ofNullable(properties.getProperty(KEY_ETAG)),
+                    Optional.ofNullable(properties.getProperty(KEY_LAST_MODIFIED)),
+                    Instant.parse(properties.getProperty(KEY_STORED_AT)));
+            // the modification time of the body records the last access and is used for the eviction
+            Files.setLastModifiedTime(body, FileTime.from(clock.instant()));
+            return Optional.of(response);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not read cached response {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return true if the response may be used without revalidating it with the server
+     */
+    public boolean isFresh(CachedResponse response) {
+        return response.storedAt().plus(timeToLive).isAfter(clock.instant());
+    }
+
+    /**
+     * Stores the response for the given request. Failures are logged, but not propagated, as caching is optional.
+     */
+    public synchronized void put(String request, byte[] body, Optional<String> eTag, Optional<String> lastModified) {
+        String key = toKey(request);
+        Properties properties = new Properties();
+        eTag.ifPresent(value -> properties.setProperty(KEY_ETAG, value));
+        lastModified.ifPresent(value -> properties.setProperty(KEY_LAST_MODIFIED, value));
+        properties.setProperty(KEY_STORED_AT, clock.instant().toString());
+
+        long currentSize = getSize();
+        try {
+            Files.createDirectories(directory);
+            Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+            long replacedSize = Files.exists(bodyFile) ? sizeOf(bodyFile) : 0;
+            writeAtomically(bodyFile, body);
+            size = (currentSize - replacedSize) + body.length;
+            Files.setLastModifiedTime(bodyFile, FileTime.from(clock.instant()));
+            Path metadataFile = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream metadataStream = Files.newOutputStream(metadataFile)) {
+                properties.store(metadataStream, null);
+            }
+            Files.move(metadataFile, directory.resolve(key + METADATA_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache response {}", key, e);
+            return;
+        }
+        evictIfNecessary();
+    }
+
+    /**
+     * Marks the stored response as fresh again, e.g., after the server confirmed it with <code>304 Not Modified</code>.
+     */
+    public void refresh(String request, CachedResponse response) {
+        put(request, response.body(), response.eTag(), response.lastModified());
+    }
+
+    /**
+     * Removes all stored responses.
+     */
+    public synchronized void clear() {
+        for (Path file : listFiles()) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete cached response {}", file, e);
+            }
+        }
+        size = -1;
+    }
+
+    /**
+     * @return the number of bytes occupied by the stored response bodies
+     */
+    public synchronized long getSize() {
+        if (size < 0) {
+            size = listBodies().stream().mapToLong(HttpResponseCache::sizeOf).sum();
+        }
+        return size;
+    }
+
+    /**
+     * Evicts the least recently used responses if the cache is too large. Only then the directory is listed.
+     */
+    private void evictIfNecessary() {
+        if (size <= maximumSize) {
+            return;
+        }
+
+        List<Path> bodies = new ArrayList<>(listBodies());
+        bodies.sort(Comparator.comparing(HttpResponseCache::lastModifiedTime));
+        for (Path body : bodies) {
+            if (size <= maximumSize) {
+                break;
+            }
+            size -= sizeOf(body);
+            String fileName = body.getFileName().toString();
+            String key = fileName.substring(0, fileName.length() - BODY_EXTENSION.length());
+            try {
+                Files.deleteIfExists(directory.resolve(key + METADATA_EXTENSION));
+                Files.deleteIfExists(body);
+            } catch (IOException e) {
+                LOGGER.debug("Could not evict cached response {}", body, e);
+            }
+        }
+    }
+
+    private List<Path> listBodies() {
+        return listFiles().stream()
+                          .filter(file -> file.getFileName().toString().endsWith(BODY_EXTENSION))
+                          .toList();
+    }
+
+    private List<Path> listFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        } catch (IOException e) {
+            LOGGER.warn("Could not list response cache {}", directory, e);
+            return List.of();
+        }
+    }
+
+    private static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temporaryFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.write(temporaryFile, content);
+        Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String toKey(String request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be available on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record CachedResponse(byte[] body, Optional<String> eTag, Optional<String> lastModified, Instant storedAt) {
+    }
+}
@@ -32,6 +32,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -61,7 +63,10 @@ import org.slf4j.LoggerFactory;
  * String contentType = dl.getMimeType();
  * </code>
  *
- * Each call to a public method creates a new HTTP connection. Nothing is cached.
+ * Each call to a public method creates a new HTTP connection. Only {@link #asCachedInputStream()} uses the
+ * {@link HttpResponseCache} configured using {@link #setResponseCache(HttpResponseCache)}: the responses of GET requests
+ * read that way are cached and revalidated using their <code>ETag</code> or <code>Last-Modified</code> header.
+ * All other methods, in particular the ones used for file downloads, stream the response without caching it.
  */
 public class URLDownload {
 
@@ -69,6 +74,8 @@ public class URLDownload {
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
 
+    private static HttpResponseCache responseCache;
+
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
@@ -151,6 +158,13 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Configures the cache used by all downloads. Passing <code>null</code> disables caching.
+     */
+    public static void setResponseCache(HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
     public URL getSource() {
         return source;
     }
@@ -298,6 +312,19 @@ public class URLDownload {
         return new ProgressInputStream(new BufferedInputStream(urlConnection.getInputStream()), fileSize);
     }
 
+    /**
+     * Takes the web resource as the source for an input stream, using the configured {@link HttpResponseCache}.
+     * The whole response is held in memory, so this is meant for small responses, such as the ones parsed by fetchers.
+     * If no cache is configured or the request cannot be cached, this behaves like {@link #asInputStream()}.
+     */
+    public InputStream asCachedInputStream() throws IOException {
+        HttpResponseCache cache = responseCache;
+        if (isCacheable(cache)) {
+            return new ByteArrayInputStream(downloadCached(cache));
+        }
+        return asInputStream();
+    }
+
     /**
      * Downloads the web resource to a temporary file.
      *
@@ -336,12 +363,62 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Only GET requests to web resources are cached
+     */
+    private boolean isCacheable(HttpResponseCache cache) {
+        String protocol = source.getProtocol();
+        return (cache != null) && postData.isEmpty() && ("http".equals(protocol) || "https".equals(protocol));
+    }
+
+    private byte[] downloadCached(HttpResponseCache cache) throws IOException {
+        // The headers are part of the key, because, for instance, the DOI content negotiation depends on the "Accept" header
+        String request = source + " " + new TreeMap<>(parameters);
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = cache.get(request);
+        if (cachedResponse.isPresent() && cache.isFresh(cachedResponse.get())) {
+            LOGGER.debug("Using cached response for {}", source);
+            return cachedResponse.get().body();
+        }
+
+        Map<String, String> validators = new HashMap<>();
+        cachedResponse.ifPresent(response -> {
+            response.eTag().ifPresent(eTag -> validators.put("If-None-Match", eTag));
+            response.lastModified().ifPresent(lastModified -> validators.put("If-Modified-Since", lastModified));
+        });
+        URLConnection connection = this.openConnection(validators);
+        if ((connection instanceof HttpURLConnection httpConnection)
+                && (httpConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED)
+                && cachedResponse.isPresent()) {
+            LOGGER.debug("Cached response for {} is still valid", source);
+            cache.refresh(request, cachedResponse.get());
+            return cachedResponse.get().body();
+        }
+
+        byte[] body;
+        try (InputStream input = connection.getInputStream()) {
+            body = input.readAllBytes();
+        }
+        if (!(connection instanceof HttpURLConnection httpConnection) || (httpConnection.getResponseCode() == HttpURLConnection.HTTP_OK)) {
+            cache.put(request, body,
+                    Optional.ofNullable(connection.getHeaderField("ETag")),
+                    Optional.ofNullable(connection.getHeaderField("Last-Modified")));
+        }
+        return body;
+    }
+
     private URLConnection openConnection() throws IOException {
+        return openConnection(Collections.emptyMap());
+    }
+
+    private URLConnection openConnection(Map<String, String> additionalHeaders) throws IOException {
         URLConnection connection = this.source.openConnection();
         connection.setConnectTimeout((int) connectTimeout.toMillis());
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
+        for (Entry<String, String> entry : additionalHeaders.entrySet()) {
+            connection.setRequestProperty(entry.getKey(), entry.getValue());
+        }
         if (!this.postData.isEmpty()) {
             connection.setDoOutput(true);
             try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
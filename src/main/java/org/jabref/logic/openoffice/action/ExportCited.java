@@ -9,6 +9,7 @@ import org.jabref.logic.openoffice.frontend.OOFrontend;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.openoffice.style.CitationLookupIndex;
 import org.jabref.model.openoffice.style.CitedKey;
 import org.jabref.model.openoffice.style.CitedKeys;
 import org.jabref.model.openoffice.uno.NoDocumentException;
@@ -48,7 +49,8 @@ public class ExportCited {
 
         OOFrontend frontend = new OOFrontend(doc);
         CitedKeys citationKeys = frontend.citationGroups.getCitedKeysUnordered();
-        citationKeys.lookupInDatabases(databases);
+        CitationLookupIndex index = new CitationLookupIndex(databases);
+        citationKeys.lookupInIndex(index);
 
         List<String> unresolvedKeys = new ArrayList<>();
         BibDatabase resultDatabase = new BibDatabase();
@@ -76,9 +78,8 @@ public class ExportCited {
                             boolean isNew = !seen.contains(crossReference);
                             if (isNew) {
                                 // Add it if it is in the current library
-                                loopDatabase
-                                        .getEntryByCitationKey(crossReference)
-                                        .ifPresent(entriesToInsert::add);
+                                index.getEntryByCitationKey(loopDatabase, crossReference)
+                                     .ifPresent(entriesToInsert::add);
                                 seen.add(crossReference);
                             }
                         });
@@ -141,16 +141,41 @@ class OOProcessAuthorYearMarkers {
         // Mark first appearance of each citationKey
         setIsFirstAppearanceOfSourceInCitations(citationGroups);
 
+        // Groups citing the same sources in the same way, for example repeated citations of a single source,
+        // share their marker, which is created only once.
+        Map<MarkerSignature, OOText> markersBySignature = new HashMap<>();
         for (CitationGroup group : citationGroups.getCitationGroupsInGlobalOrder()) {
             final boolean inParenthesis = (group.citationType == CitationType.AUTHORYEAR_PAR);
             final NonUniqueCitationMarker strictlyUnique = NonUniqueCitationMarker.THROWS;
 
             List<Citation> cits = group.getCitationsInLocalOrder();
-            List<CitationMarkerEntry> citationMarkerEntries = OOListUtil.map(cits, e -> e);
-            OOText citMarker = style.createCitationMarker(citationMarkerEntries,
-                                                          inParenthesis,
-                                                          strictlyUnique);
+            MarkerSignature signature = new MarkerSignature(inParenthesis, OOListUtil.map(cits, CitationSignature::of));
+            OOText citMarker = markersBySignature.computeIfAbsent(signature, unused -> {
+                List<CitationMarkerEntry> citationMarkerEntries = OOListUtil.map(cits, e -> e);
+                return style.createCitationMarker(citationMarkerEntries,
+                                                  inParenthesis,
+                                                  strictlyUnique);
+            });
             group.setCitationMarker(Optional.of(citMarker));
         }
     }
+
+    /**
+     * The parts of a citation the marker depends on. The entry itself is determined by the citation key.
+     */
+    private record CitationSignature(String citationKey,
+                                     Optional<String> uniqueLetter,
+                                     Optional<OOText> pageInfo,
+                                     boolean isFirstAppearanceOfSource) {
+
+        static CitationSignature of(Citation citation) {
+            return new CitationSignature(citation.getCitationKey(),
+                                         citation.getUniqueLetter(),
+                                         citation.getPageInfo(),
+                                         citation.getIsFirstAppearanceOfSource());
+        }
+    }
+
+    private record MarkerSignature(boolean inParenthesis, List<CitationSignature> citations) {
+    }
 }
@@ -1,6 +1,8 @@
 package org.jabref.logic.openoffice.style;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jabref.model.openoffice.ootext.OOText;
@@ -35,10 +37,23 @@ class OOProcessNumericMarkers {
             citationGroups.createNumberedBibliographySortedByComparator(OOProcess.AUTHOR_YEAR_TITLE_COMPARATOR);
         }
 
+        // Groups citing the same numbers with the same page infos share their marker, which is created only once
+        Map<List<CitationSignature>, OOText> markersBySignature = new HashMap<>();
         for (CitationGroup group : citationGroups.getCitationGroupsInGlobalOrder()) {
             List<CitationMarkerNumericEntry> cits = OOListUtil.map(group.getCitationsInLocalOrder(), e -> e);
-            OOText citMarker = style.getNumCitationMarker2(cits);
+            List<CitationSignature> signature = OOListUtil.map(cits, CitationSignature::of);
+            OOText citMarker = markersBySignature.computeIfAbsent(signature, unused -> style.getNumCitationMarker2(cits));
             group.setCitationMarker(Optional.of(citMarker));
         }
     }
+
+    /**
+     * The parts of a citation the numeric marker depends on
+     */
+    private record CitationSignature(String citationKey, Optional<Integer> number, Optional<OOText> pageInfo) {
+
+        static CitationSignature of(CitationMarkerNumericEntry citation) {
+            return new CitationSignature(citation.getCitationKey(), citation.getNumber(), citation.getPageInfo());
+        }
+    }
 }
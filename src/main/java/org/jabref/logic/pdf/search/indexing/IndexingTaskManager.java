@@ -9,6 +9,9 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.metrics.Timer;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -18,6 +21,8 @@ import org.jabref.model.entry.LinkedFile;
  */
 public class IndexingTaskManager extends BackgroundTask<Void> {
 
+    private static final Timer INDEXING_TIMER = MetricsRegistry.INSTANCE.timer("indexing.task");
+
     private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
     private TaskExecutor taskExecutor;
     private int numOfIndexedFiles = 0;
@@ -30,6 +35,9 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         this.taskExecutor = taskExecutor;
         showToUser(true);
         willBeRecoveredAutomatically(true);
+        // Indexing may take long, so it must not delay the tasks the user is waiting for
+        withPriority(TaskPriority.BULK);
+        withOwner(this);
         DefaultTaskExecutor.runInJavaFXThread(() -> {
             this.updateProgress(1, 1);
             this.titleProperty().set(Localization.lang("Indexing pdf files"));
@@ -43,7 +51,9 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         }
         updateProgress();
         while (!taskQueue.isEmpty() && !isCanceled()) {
-            taskQueue.poll().run();
+            try (Timer.Stopwatch stopwatch = INDEXING_TIMER.start()) {
+                taskQueue.poll().run();
+            }
             numOfIndexedFiles++;
             updateProgress();
         }
@@ -11,6 +11,7 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.jabref.gui.LibraryTab;
+import org.jabref.logic.metrics.IndexFileEvent;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -212,13 +213,25 @@ public class PdfIndexer {
                 // if there is no index yet, don't need to check anything!
             }
             // If no document was found, add the new one
-            Optional<List<Document>> pages = new DocumentReader(entry, filePreferences).readLinkedPdf(this.databaseContext, linkedFile);
-            if (pages.isPresent()) {
-                try (IndexWriter indexWriter = new IndexWriter(directoryToIndex,
-                                                               new IndexWriterConfig(
-                                                                                     new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND))) {
-                    indexWriter.addDocuments(pages.get());
-                    indexWriter.commit();
+            IndexFileEvent event = new IndexFileEvent();
+            event.begin();
+            try {
+                Optional<List<Document>> pages = new DocumentReader(entry, filePreferences).readLinkedPdf(this.databaseContext, linkedFile);
+                if (pages.isPresent()) {
+                    try (IndexWriter indexWriter = new IndexWriter(directoryToIndex,
+                                                                   new IndexWriterConfig(
+                                                                                         new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND))) {
+                        indexWriter.addDocuments(pages.get());
+                        indexWriter.commit();
+                    }
+                    event.pages = pages.get().size();
+                    event.success = true;
+                }
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.file = linkedFile.getLink();
+                    event.commit();
                 }
             }
         } catch (IOException e) {
@@ -25,6 +25,9 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    private ProtectedTermsMatcher matcher;
+    private List<ListState> matcherState = List.of();
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms", () -> Localization.lang("Countries and territories in English"));
@@ -121,6 +124,33 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /**
+     * Returns a matcher for the terms of all enabled lists. The matcher is rebuilt only if the lists changed since the
+     * last call.
+     */
+    public synchronized ProtectedTermsMatcher getProtectedTermsMatcher() {
+        if ((matcher == null) || !isMatcherCurrent()) {
+            matcher = new ProtectedTermsMatcher(getProtectedTerms());
+            matcherState = mainList.stream()
+                                   .map(list -> new ListState(list, list.isEnabled(), List.copyOf(list.getTermList())))
+                                   .toList();
+        }
+        return matcher;
+    }
+
+    private boolean isMatcherCurrent() {
+        if (matcherState.size() != mainList.size()) {
+            return false;
+        }
+        for (int i = 0; i < mainList.size(); i++) {
+            // compared by identity, as a reloaded list is equal to the list it replaces
+            if ((matcherState.get(i).list() != mainList.get(i)) || !matcherState.get(i).isCurrent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void addProtectedTermsListFromFile(String fileName, boolean enabled) {
         try {
             mainList.add(readProtectedTermsListFromFile(new File(fileName), enabled));
@@ -161,4 +191,14 @@ public class ProtectedTermsLoader {
     public ProtectedTermsList addNewProtectedTermsList(String newDescription, String newLocation) {
         return addNewProtectedTermsList(newDescription, newLocation, true);
     }
+
+    /**
+     * The lists can be enabled and changed directly, thus their state is recorded besides the lists themselves. The
+     * terms are compared by content, as a term may be replaced without changing the number of terms.
+     */
+    private record ListState(ProtectedTermsList list, boolean enabled, List<String> terms) {
+        boolean isCurrent() {
+            return (enabled == list.isEnabled()) && terms.equals(list.getTermList());
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encloses protected terms in a text in braces, finding all terms in a single pass over the text.
+ * <p>
+ * The terms are compiled into an Aho-Corasick automaton once. A term is protected if it is preceded by the start of
+ * the text or one of <code>- /[(}"</code>, and if it is followed by the end of the text or by a character which is
+ * neither an ASCII letter nor <code>}</code>. Of overlapping terms, the one starting first is protected, and of terms
+ * starting at the same position the longest one.
+ */
+public class ProtectedTermsMatcher {
+
+    private static final String CHARACTERS_BEFORE_TERM = "- /[(}\"";
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final int[] failures;
+    // Lengths of all terms ending at a node, including the terms reached via failure links
+    private final int[][] termLengths;
+
+    public ProtectedTermsMatcher(Collection<String> terms) {
+        List<Integer> lengthOfTermAtNode = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        lengthOfTermAtNode.add(0);
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (char character : term.toCharArray()) {
+                Integer next = transitions.get(node).get(character);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    lengthOfTermAtNode.add(0);
+                    transitions.get(node).put(character, next);
+                }
+                node = next;
+            }
+            lengthOfTermAtNode.set(node, term.length());
+        }
+
+        failures = new int[transitions.size()];
+        termLengths = new int[transitions.size()][];
+        termLengths[ROOT] = new int[0];
+
+        // Breadth-first, so that the failure target of a node is always complete before the node itself
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int[] inheritedLengths = termLengths[failures[node]];
+            if (lengthOfTermAtNode.get(node) > 0) {
+                termLengths[node] = new int[inheritedLengths.length + 1];
+                termLengths[node][0] = lengthOfTermAtNode.get(node);
+                System.arraycopy(inheritedLengths, 0, termLengths[node], 1, inheritedLengths.length);
+            } else {
+                termLengths[node] = inheritedLengths;
+            }
+
+            for (Map.Entry<Character, Integer> transition : transitions.get(node).entrySet()) {
+                int child = transition.getValue();
+                if (node != ROOT) {
+                    failures[child] = next(failures[node], transition.getKey());
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @return the text with all protected terms enclosed in braces
+     */
+    public String protect(String text) {
+        // longest protectable term starting at each position, allocated on the first match
+        int[] longestTermAt = null;
+        int node = ROOT;
+        for (int position = 0; position < text.length(); position++) {
+            node = next(node, text.charAt(position));
+            for (int length : termLengths[node]) {
+                int start = (position - length) + 1;
+                if (isStartBoundary(text, start) && isEndBoundary(text, position + 1)) {
+                    if (longestTermAt == null) {
+                        longestTermAt = new int[text.length()];
+                    }
+                    longestTermAt[start] = Math.max(longestTermAt[start], length);
+                }
+            }
+        }
+        if (longestTermAt == null) {
+            return text;
+        }
+
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int position = 0;
+        while (position < text.length()) {
+            int length = longestTermAt[position];
+            if (length > 0) {
+                result.append('{').append(text, position, position + length).append('}');
+                position += length;
+            } else {
+                result.append(text.charAt(position));
+                position++;
+            }
+        }
+        return result.toString();
+    }
+
+    private int next(int node, char character) {
+        int current = node;
+        while (true) {
+            Integer next = transitions.get(current).get(character);
+            if (next != null) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failures[current];
+        }
+    }
+
+    private static boolean isStartBoundary(String text, int start) {
+        return (start == 0) || (CHARACTERS_BEFORE_TERM.indexOf(text.charAt(start - 1)) >= 0);
+    }
+
+    private static boolean isEndBoundary(String text, int end) {
+        if (end == text.length()) {
+            return true;
+        }
+        char character = text.charAt(end);
+        boolean isAsciiLetter = ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z'));
+        return !isAsciiLetter && (character != '}');
+    }
+}
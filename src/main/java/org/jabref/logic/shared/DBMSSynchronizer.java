@@ -15,6 +15,8 @@ import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.MetaDataSerializer;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.util.MetaDataParser;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.metrics.Timer;
 import org.jabref.logic.shared.event.ConnectionLostEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
@@ -43,6 +45,8 @@ import org.slf4j.LoggerFactory;
 public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
+    private static final Timer PULL_TIMER = MetricsRegistry.INSTANCE.timer("shared.pullEntries");
+    private static final Timer PUSH_TIMER = MetricsRegistry.INSTANCE.timer("shared.pushEntry");
 
     private DBMSProcessor dbmsProcessor;
     private String dbName;
@@ -180,6 +184,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        try (Timer.Stopwatch stopwatch = PULL_TIMER.start()) {
+            pullSharedEntries();
+        }
+    }
+
+    private void pullSharedEntries() {
         List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
@@ -251,7 +261,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
-        try {
+        try (Timer.Stopwatch stopwatch = PUSH_TIMER.start()) {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
         } catch (OfflineLockException exception) {
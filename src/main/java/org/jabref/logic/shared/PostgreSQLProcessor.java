@@ -98,7 +98,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
             // Otherwise the listener is going to be deleted by GC.
             PGConnection pgConnection = connection.unwrap(PGConnection.class);
             listener = new PostgresSQLNotificationListener(dbmsSynchronizer, pgConnection);
-            JabRefExecutorService.INSTANCE.execute(listener);
+            JabRefExecutorService.INSTANCE.executeInterruptableTask(listener, "PostgresSQLNotificationListener");
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -76,33 +76,7 @@ public class DefaultLatexParser implements LatexParser {
         List<Path> referencedFiles = new ArrayList<>();
 
         for (Path file : latexFiles) {
-            if (!file.toFile().exists()) {
-                LOGGER.error(String.format("File does not exist: %s", file));
-                continue;
-            }
-
-            try (
-                    InputStream inputStream = Files.newInputStream(file);
-                    Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-                    LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
-                for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
-                    // Skip comments and blank lines.
-                    if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
-                        continue;
-                    }
-                    matchCitation(file, lineNumberReader.getLineNumber(), line);
-                    matchBibFile(file, line);
-                    matchNestedFile(file, latexFiles, referencedFiles, line);
-                }
-            } catch (ClosedChannelException e) {
-                // User changed the underlying LaTeX file
-                // We ignore this error and just continue with parsing
-                LOGGER.info("Parsing has been interrupted");
-            } catch (IOException | UncheckedIOException e) {
-                // Some weired error during reading
-                // We ignore this error and just continue with parsing
-                LOGGER.info("Error while parsing file {}", file, e);
-            }
+            parseFile(file, latexFiles, referencedFiles);
         }
 
         // Parse all files referenced by TEX files, recursively.
@@ -114,6 +88,52 @@ public class DefaultLatexParser implements LatexParser {
         return latexParserResult;
     }
 
+    /**
+     * Parse a single LaTeX file without the files it includes.
+     *
+     * @param latexFile Path to a LaTeX file
+     * @return a LatexParserResult, which contains the data of the given file only
+     */
+    public LatexParserResult parseWithoutNestedFiles(Path latexFile) {
+        List<Path> latexFiles = Collections.singletonList(latexFile);
+        latexParserResult.addFiles(latexFiles);
+        parseFile(latexFile, latexFiles, new ArrayList<>());
+        return latexParserResult;
+    }
+
+    /**
+     * Find cites, BIB files and nested files in a LaTeX file and store them.
+     */
+    private void parseFile(Path file, List<Path> latexFiles, List<Path> referencedFiles) {
+        if (!file.toFile().exists()) {
+            LOGGER.error(String.format("File does not exist: %s", file));
+            return;
+        }
+
+        try (
+                InputStream inputStream = Files.newInputStream(file);
+                Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+                LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
+            for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
+                // Skip comments and blank lines.
+                if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
+                    continue;
+                }
+                matchCitation(file, lineNumberReader.getLineNumber(), line);
+                matchBibFile(file, line);
+                matchNestedFile(file, latexFiles, referencedFiles, line);
+            }
+        } catch (ClosedChannelException e) {
+            // User changed the underlying LaTeX file
+            // We ignore this error and just continue with parsing
+            LOGGER.info("Parsing has been interrupted");
+        } catch (IOException | UncheckedIOException e) {
+            // Some weired error during reading
+            // We ignore this error and just continue with parsing
+            LOGGER.info("Error while parsing file {}", file, e);
+        }
+    }
+
     /**
      * Find cites along a specific line and store them.
      */
@@ -0,0 +1,362 @@
+package org.jabref.logic.texparser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.util.OS;
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.hash.Hashing;
+import net.harawata.appdirs.AppDirsFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the citations in all LaTeX files below a directory.
+ * <p>
+ * The files are parsed in parallel when the index is built. The directory may be watched by a
+ * {@link FileUpdateMonitor}. After a change below it, the next query parses the changed files again. Only the changed
+ * paths reported by the monitor are looked at; a changed directory is searched for created and deleted files. An index
+ * which is not watched reflects the files at the time it was built. The index is kept in a file between sessions, so
+ * that only the files which changed in the meantime have to be parsed when the index is built again.
+ * <p>
+ * Files included by a LaTeX file are indexed on their own if they are below the directory, and not at all otherwise.
+ * The citations of a key are ordered by file and by their position in the file.
+ */
+public class LatexCitationIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatexCitationIndex.class);
+
+    private static final String TEX_EXT = ".tex";
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+    private final Path indexFile;
+    private final FileUpdateMonitor fileMonitor;
+
+    private final Map<Path, IndexedFile> files = new TreeMap<>();
+    private final Map<String, List<Citation>> citationsByKey = new HashMap<>();
+    // the absolute paths changed since the last query
+    private final Set<Path> changedPaths = ConcurrentHashMap.newKeySet();
+    private final FileUpdateListener listener = new FileUpdateListener() {
+        @Override
+        public void fileUpdated() {
+            // the changed paths are unknown
+            changedPaths.add(directory.toAbsolutePath());
+        }
+
+        @Override
+        public void filesUpdated(Set<Path> paths) {
+            changedPaths.addAll(paths);
+        }
+    };
+
+    private LatexCitationIndex(Path directory, Path indexFile, FileUpdateMonitor fileMonitor) {
+        this.directory = directory;
+        this.indexFile = indexFile;
+        this.fileMonitor = fileMonitor;
+    }
+
+    /**
+     * Builds the index of the given directory in the default location of persisted indexes, without watching the
+     * directory.
+     */
+    public static LatexCitationIndex build(Path directory) throws IOException {
+        return build(directory, new DummyFileUpdateMonitor());
+    }
+
+    /**
+     * Builds the index of the given directory in the default location of persisted indexes.
+     */
+    public static LatexCitationIndex build(Path directory, FileUpdateMonitor fileMonitor) throws IOException {
+        String indexName = Hashing.murmur3_128().hashString(directory.toAbsolutePath().toString(), StandardCharsets.UTF_8) + ".bin";
+        Path indexDirectory = Path.of(AppDirsFactory.getInstance().getUserCacheDir(OS.APP_DIR_APP_NAME, "latex-citations", OS.APP_DIR_APP_AUTHOR));
+        return build(directory, fileMonitor, indexDirectory.resolve(indexName));
+    }
+
+    /**
+     * Builds the index of the given directory, reusing the files indexed in the given index file which did not change
+     * since.
+     *
+     * @throws IOException if the directory does not exist
+     */
+    public static LatexCitationIndex build(Path directory, FileUpdateMonitor fileMonitor, Path indexFile) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException(String.format("Current search directory does not exist: %s", directory));
+        }
+
+        LatexCitationIndex index = new LatexCitationIndex(directory, indexFile, fileMonitor);
+        Map<Path, IndexedFile> storedFiles = index.read();
+        // Changes during the build are picked up by the first query
+        index.watch();
+        Map<Path, IndexedFile> indexedFiles = indexFiles(findTexFiles(directory.toAbsolutePath()), storedFiles);
+
+        synchronized (index) {
+            index.setFiles(indexedFiles);
+            if (!indexedFiles.equals(storedFiles)) {
+                index.write();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Indexes the given files in parallel, taking the files of the given index which did not change since.
+     */
+    private static Map<Path, IndexedFile> indexFiles(List<Path> texFiles, Map<Path, IndexedFile> knownFiles) {
+        Map<Path, IndexedFile> indexedFiles = new ConcurrentHashMap<>();
+        texFiles.parallelStream().forEach(file -> {
+            try {
+                IndexedFile knownFile = knownFiles.get(file);
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if ((knownFile != null) && knownFile.isUpToDate(attributes)) {
+                    indexedFiles.put(file, knownFile);
+                } else {
+                    indexedFiles.put(file, parse(file, attributes));
+                }
+            } catch (IOException e) {
+                LOGGER.info("Error while indexing file {}", file, e);
+            }
+        });
+        return new TreeMap<>(indexedFiles);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns all citations of the given key. Files which changed since the last query are parsed again before.
+     */
+    public synchronized Collection<Citation> getCitationsByKey(String key) {
+        update();
+        return Collections.unmodifiableCollection(new ArrayList<>(citationsByKey.getOrDefault(key, Collections.emptyList())));
+    }
+
+    /**
+     * Returns the content of the index as it would be returned by {@link DefaultLatexParser#parse(List)} for all
+     * indexed files.
+     */
+    public synchronized LatexParserResult getLatexParserResult() {
+        update();
+        LatexParserResult result = new LatexParserResult();
+        result.addFiles(new ArrayList<>(files.keySet()));
+        files.forEach((file, indexedFile) -> {
+            indexedFile.bibFiles().forEach(bibFile -> result.addBibFile(file, bibFile));
+            result.getCitations().putAll(indexedFile.citations());
+        });
+        return result;
+    }
+
+    /**
+     * Stops watching the directory.
+     */
+    public synchronized void unregister() {
+        fileMonitor.removeListener(directory.toAbsolutePath(), listener);
+    }
+
+    private void update() {
+        if (changedPaths.isEmpty()) {
+            return;
+        }
+        Set<Path> paths = new HashSet<>();
+        Iterator<Path> iterator = changedPaths.iterator();
+        while (iterator.hasNext()) {
+            paths.add(iterator.next());
+            iterator.remove();
+        }
+
+        // The files below a changed path are indexed anew, unchanged ones are taken from the index
+        Map<Path, IndexedFile> indexedFiles = new TreeMap<>(files);
+        Set<Path> filesToIndex = new LinkedHashSet<>();
+        for (Path path : paths) {
+            indexedFiles.keySet().removeIf(file -> file.startsWith(path));
+            if (Files.isDirectory(path)) {
+                try {
+                    filesToIndex.addAll(findTexFiles(path));
+                } catch (IOException e) {
+                    LOGGER.info("Could not update LaTeX citation index of {}", path, e);
+                }
+            } else if (path.toString().endsWith(TEX_EXT) && Files.isRegularFile(path)) {
+                filesToIndex.add(path);
+            }
+        }
+        indexedFiles.putAll(indexFiles(new ArrayList<>(filesToIndex), files));
+        if (!indexedFiles.equals(files)) {
+            setFiles(indexedFiles);
+            write();
+        }
+    }
+
+    private void setFiles(Map<Path, IndexedFile> indexedFiles) {
+        files.clear();
+        files.putAll(indexedFiles);
+        // the files are sorted, so are the citations of each key
+        citationsByKey.clear();
+        files.values().forEach(indexedFile -> indexedFile.citations().forEach((key, citation) ->
+                citationsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(citation)));
+    }
+
+    private void watch() {
+        try {
+            // The file monitor reports changes by absolute paths
+            fileMonitor.addListenerForDirectory(directory.toAbsolutePath(), listener);
+        } catch (IOException e) {
+            LOGGER.info("Cannot watch directory {} for changes", directory, e);
+        }
+    }
+
+    private static IndexedFile parse(Path file, BasicFileAttributes attributes) {
+        LatexParserResult result = new DefaultLatexParser().parseWithoutNestedFiles(file);
+        return new IndexedFile(
+                attributes.lastModifiedTime().toMillis(),
+                attributes.size(),
+                List.copyOf(result.getBibFiles().get(file)),
+                ImmutableListMultimap.copyOf(result.getCitations()));
+    }
+
+    private static List<Path> findTexFiles(Path directory) throws IOException {
+        List<Path> texFiles = new ArrayList<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile() && file.toString().endsWith(TEX_EXT)) {
+                    texFiles.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                LOGGER.error(String.format("%s while searching files: %s", e.getClass().getName(), e.getMessage()));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return texFiles;
+    }
+
+    private Map<Path, IndexedFile> read() {
+        Map<Path, IndexedFile> storedFiles = new HashMap<>();
+        if (!Files.exists(indexFile)) {
+            return storedFiles;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if ((input.readInt() != FORMAT_VERSION) || !directory.toAbsolutePath().toString().equals(input.readUTF())) {
+                return storedFiles;
+            }
+            int numberOfFiles = input.readInt();
+            for (int i = 0; i < numberOfFiles; i++) {
+                Path file = Path.of(input.readUTF());
+                long lastModified = input.readLong();
+                long size = input.readLong();
+                int numberOfBibFiles = input.readInt();
+                List<Path> bibFiles = new ArrayList<>(numberOfBibFiles);
+                for (int j = 0; j < numberOfBibFiles; j++) {
+                    bibFiles.add(Path.of(input.readUTF()));
+                }
+                int numberOfCitations = input.readInt();
+                ListMultimap<String, Citation> citations = ArrayListMultimap.create();
+                for (int j = 0; j < numberOfCitations; j++) {
+                    String key = readString(input);
+                    int line = input.readInt();
+                    int colStart = input.readInt();
+                    int colEnd = input.readInt();
+                    citations.put(key, new Citation(file, line, colStart, colEnd, readString(input)));
+                }
+                storedFiles.put(file, new IndexedFile(lastModified, size, bibFiles, ImmutableListMultimap.copyOf(citations)));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.info("Could not read LaTeX citation index from {}, starting from scratch", indexFile, e);
+            storedFiles.clear();
+        }
+        return storedFiles;
+    }
+
+    private void write() {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path temporaryFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(directory.toAbsolutePath().toString());
+                output.writeInt(files.size());
+                for (Map.Entry<Path, IndexedFile> entry : files.entrySet()) {
+                    IndexedFile indexedFile = entry.getValue();
+                    output.writeUTF(entry.getKey().toString());
+                    output.writeLong(indexedFile.lastModified());
+                    output.writeLong(indexedFile.size());
+                    output.writeInt(indexedFile.bibFiles().size());
+                    for (Path bibFile : indexedFile.bibFiles()) {
+                        output.writeUTF(bibFile.toString());
+                    }
+                    output.writeInt(indexedFile.citations().size());
+                    for (Map.Entry<String, Citation> citation : indexedFile.citations().entries()) {
+                        writeString(output, citation.getKey());
+                        output.writeInt(citation.getValue().getLine());
+                        output.writeInt(citation.getValue().getColStart());
+                        output.writeInt(citation.getValue().getColEnd());
+                        writeString(output, citation.getValue().getLineText());
+                    }
+                }
+            }
+            Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.info("Could not store LaTeX citation index in {}", indexFile, e);
+        }
+    }
+
+    // Lines of LaTeX files can exceed the 64 KB limit of DataOutput#writeUTF
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param lastModified modification time of the file in milliseconds
+     * @param size         size of the file in bytes
+     * @param bibFiles     the bibliography files referenced by the file
+     * @param citations    the citations in the file by their key
+     */
+    private record IndexedFile(long lastModified, long size, List<Path> bibFiles, ImmutableListMultimap<String, Citation> citations) {
+
+        boolean isUpToDate(BasicFileAttributes attributes) {
+            return (lastModified == attributes.lastModifiedTime().toMillis()) && (size == attributes.size());
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package org.jabref.logic.util;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
-import org.jabref.gui.JabRefExecutorService;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,13 +16,12 @@ import org.slf4j.LoggerFactory;
  *
  * @implNote Once {@link #schedule(Runnable)} is called, the task is delayed for a given time span.
  *         If during this time, {@link #schedule(Runnable)} is called again, then the original task is canceled and the new one scheduled.
+ *         The tasks are run by the {@link TaskScheduler} as interactive tasks.
  */
 public class DelayTaskThrottler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DelayTaskThrottler.class);
 
-    private final ScheduledThreadPoolExecutor executor;
-
     private int delay;
 
     private ScheduledFuture<?> scheduledTask;
@@ -34,9 +31,6 @@ public class DelayTaskThrottler {
      */
     public DelayTaskThrottler(int delay) {
         this.delay = delay;
-        this.executor = new ScheduledThreadPoolExecutor(1);
-        this.executor.setRemoveOnCancelPolicy(true);
-        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
     }
 
     public ScheduledFuture<?> schedule(Runnable command) {
@@ -44,7 +38,7 @@ public class DelayTaskThrottler {
             cancel();
         }
         try {
-            scheduledTask = executor.schedule(command, delay, TimeUnit.MILLISECONDS);
+            scheduledTask = TaskScheduler.INSTANCE.schedule(command, delay, TimeUnit.MILLISECONDS, TaskPriority.INTERACTIVE, this);
         } catch (RejectedExecutionException e) {
             LOGGER.debug("Rejecting while another process is already running.");
         }
@@ -56,7 +50,7 @@ public class DelayTaskThrottler {
             cancel();
         }
         try {
-            scheduledTask = executor.schedule(command, delay, TimeUnit.MILLISECONDS);
+            scheduledTask = TaskScheduler.INSTANCE.schedule(new FutureTask<>(command), delay, TimeUnit.MILLISECONDS, TaskPriority.INTERACTIVE, this);
         } catch (RejectedExecutionException e) {
             LOGGER.debug("Rejecting while another process is already running.");
         }
@@ -75,9 +69,12 @@ public class DelayTaskThrottler {
     }
 
     /**
-     * Shuts everything down. Upon termination, this method returns.
+     * Cancels the scheduled task. The {@link TaskScheduler} itself is shut down when JabRef is closed.
      */
     public void shutdown() {
-        JabRefExecutorService.gracefullyShutdown(executor);
+        if (scheduledTask != null) {
+            cancel();
+        }
+        TaskScheduler.INSTANCE.cancelAll(this);
     }
 }
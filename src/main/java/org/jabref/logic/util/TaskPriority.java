@@ -0,0 +1,21 @@
+package org.jabref.logic.util;
+
+/**
+ * The priority classes of the {@link TaskScheduler}, from the most to the least urgent one.
+ */
+public enum TaskPriority {
+    /**
+     * Work the user is waiting for, e.g., loading a preview or fetching an entry.
+     */
+    INTERACTIVE,
+
+    /**
+     * Work the user does not wait for, e.g., backups or updating the group counts.
+     */
+    BACKGROUND,
+
+    /**
+     * Long-running work on many items, e.g., fulltext indexing or searching for duplicates.
+     */
+    BULK
+}
@@ -0,0 +1,468 @@
+package org.jabref.logic.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jabref.logic.metrics.Histogram;
+import org.jabref.logic.metrics.MetricsRegistry;
+import org.jabref.logic.metrics.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the background work of JabRef on one bounded pool of worker threads.
+ * <p>
+ * Waiting tasks are ordered by their {@link TaskPriority}: a free worker always takes a task of the most urgent priority
+ * class. Tasks of the same priority class, but of different owners (usually libraries), take turns, so that a library
+ * with many waiting tasks does not hold back the others. Background and bulk tasks never occupy all workers, so one
+ * worker is always left for interactive tasks.
+ * <p>
+ * If the queue of a priority class is full, a new task is rejected with a {@link RejectedExecutionException} instead of
+ * letting the queue grow without bounds. The task is not run by the submitting thread, as this may be the JavaFX thread.
+ * <p>
+ * Tasks should not block for a long time, e.g., waiting for an external process or for another task which is still
+ * waiting in a queue, as they hold a worker meanwhile. Such tasks belong on a thread of their own.
+ */
+public class TaskScheduler {
+
+    public static final TaskScheduler INSTANCE = new TaskScheduler(Math.max(4, Runtime.getRuntime().availableProcessors()), 10_000);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskScheduler.class);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
+    private static final Object NO_OWNER = new Object();
+
+    private final int numberOfWorkers;
+    private final int maximumQueueLength;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition taskAvailable = lock.newCondition();
+    private final Map<TaskPriority, LinkedHashMap<Object, Deque<ScheduledTask<?>>>> queues = new EnumMap<>(TaskPriority.class);
+    private final Map<TaskPriority, Integer> queueLengths = new EnumMap<>(TaskPriority.class);
+    private final Map<TaskPriority, Integer> runningTasks = new EnumMap<>(TaskPriority.class);
+    private final Set<Thread> workers = new HashSet<>();
+    private final ScheduledThreadPoolExecutor timer;
+    private final Map<TaskPriority, Timer> waitTimers = new EnumMap<>(TaskPriority.class);
+    private final Timer runTimer;
+    private final Histogram queueLength;
+    private boolean isShutdown;
+
+    TaskScheduler(int numberOfWorkers, int maximumQueueLength) {
+        if (numberOfWorkers < 2) {
+            throw new IllegalArgumentException("At least two workers are required to keep one for interactive tasks");
+        }
+        this.numberOfWorkers = numberOfWorkers;
+        this.maximumQueueLength = maximumQueueLength;
+
+        MetricsRegistry metrics = MetricsRegistry.INSTANCE;
+        for (TaskPriority priority : TaskPriority.values()) {
+            queues.put(priority, new LinkedHashMap<>());
+            queueLengths.put(priority, 0);
+            runningTasks.put(priority, 0);
+            String name = priority.name().toLowerCase(Locale.ROOT);
+            waitTimers.put(priority, metrics.timer("tasks.wait." + name));
+            metrics.registerGauge("tasks.queued." + name, () -> getQueueLength(priority));
+        }
+        metrics.registerGauge("tasks.active", this::getNumberOfRunningTasks);
+        runTimer = metrics.timer("tasks.run");
+        queueLength = metrics.histogram("tasks.queueLength");
+
+        timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "JabRef task timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Runs the given task as soon as a worker is free.
+     *
+     * @param owner the owner of the task, e.g., a library. Tasks of different owners take turns. May be null.
+     * @return a future which can be used to cancel the task
+     */
+    public Future<?> execute(Runnable runnable, TaskPriority priority, Object owner) {
+        ScheduledTask<Object> task = new ScheduledTask<>(Executors.callable(runnable), priority, owner, true);
+        enqueue(task);
+        return task;
+    }
+
+    /**
+     * Computes the result of the given task as soon as a worker is free.
+     *
+     * @param owner the owner of the task, e.g., a library. Tasks of different owners take turns. May be null.
+     */
+    public <V> Future<V> submit(Callable<V> callable, TaskPriority priority, Object owner) {
+        ScheduledTask<V> task = new ScheduledTask<>(callable, priority, owner, false);
+        enqueue(task);
+        return task;
+    }
+
+    /**
+     * Runs all given tasks and waits until they are done.
+     * <p>
+     * If this is called by a worker, tasks which are still waiting are run directly by the calling worker. Thus, tasks
+     * can wait for other tasks without running out of workers.
+     */
+    public <V> List<Future<V>> invokeAll(Collection<? extends Callable<V>> callables, TaskPriority priority, Object owner) {
+        return invokeAll(callables, priority, owner, null);
+    }
+
+    /**
+     * Runs all given tasks and waits until they are done or the timeout is over. Tasks which are not done in time are
+     * canceled.
+     * <p>
+     * Waiting tasks are only run directly by a calling worker if there is no timeout, as a task run by the caller
+     * cannot be canceled when the timeout is over.
+     *
+     * @param timeout the maximum time to wait, or null to wait until all tasks are done
+     * @see #invokeAll(Collection, TaskPriority, Object)
+     */
+    public <V> List<Future<V>> invokeAll(Collection<? extends Callable<V>> callables, TaskPriority priority, Object owner, Duration timeout) {
+        List<ScheduledTask<V>> tasks = new ArrayList<>(callables.size());
+        try {
+            for (Callable<V> callable : callables) {
+                ScheduledTask<V> task = new ScheduledTask<>(callable, priority, owner, false);
+                enqueue(task);
+                tasks.add(task);
+            }
+        } catch (RejectedExecutionException e) {
+            tasks.forEach(task -> task.cancel(false));
+            throw e;
+        }
+
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+        for (ScheduledTask<V> task : tasks) {
+            if ((timeout == null) && isWorker(Thread.currentThread()) && remove(task)) {
+                runTask(task);
+                continue;
+            }
+            try {
+                if (timeout == null) {
+                    task.get();
+                } else {
+                    task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException e) {
+                task.cancel(true);
+            } catch (ExecutionException | CancellationException e) {
+                // The caller evaluates the futures
+            } catch (InterruptedException e) {
+                tasks.forEach(remainingTask -> remainingTask.cancel(true));
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return List.copyOf(tasks);
+    }
+
+    /**
+     * Runs the given task after the given delay. Canceling the returned future before the delay is over prevents the
+     * task from being run.
+     */
+    public ScheduledFuture<?> schedule(Runnable runnable, long delay, TimeUnit unit, TaskPriority priority, Object owner) {
+        return timer.schedule(() -> handOver(runnable, priority, owner), delay, unit);
+    }
+
+    /**
+     * Runs the given task periodically until the returned future is canceled. A run is skipped if the previous one has
+     * not finished yet.
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable runnable, long initialDelay, long period, TimeUnit unit, TaskPriority priority, Object owner) {
+        AtomicReference<Future<?>> lastRun = new AtomicReference<>();
+        return timer.scheduleAtFixedRate(() -> {
+            Future<?> previousRun = lastRun.get();
+            if ((previousRun == null) || previousRun.isDone()) {
+                lastRun.set(handOver(runnable, priority, owner));
+            }
+        }, initialDelay, period, unit);
+    }
+
+    /**
+     * Hands a task over from the timer to the queues. A rejected task is skipped, so that a full queue does not end a
+     * periodic task.
+     */
+    private Future<?> handOver(Runnable runnable, TaskPriority priority, Object owner) {
+        try {
+            return execute(runnable, priority, owner);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Could not run scheduled task", e);
+            return null;
+        }
+    }
+
+    /**
+     * Cancels all waiting tasks of the given owner, e.g., when a library is closed. Running tasks are not interrupted.
+     */
+    public void cancelAll(Object owner) {
+        List<ScheduledTask<?>> canceledTasks = new ArrayList<>();
+        lock.lock();
+        try {
+            for (TaskPriority priority : TaskPriority.values()) {
+                Deque<ScheduledTask<?>> ownerQueue = queues.get(priority).remove(owner);
+                if (ownerQueue != null) {
+                    queueLengths.merge(priority, -ownerQueue.size(), Integer::sum);
+                    canceledTasks.addAll(ownerQueue);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        canceledTasks.forEach(task -> task.cancel(false));
+    }
+
+    public int getQueueLength(TaskPriority priority) {
+        lock.lock();
+        try {
+            return queueLengths.get(priority);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getNumberOfRunningTasks() {
+        lock.lock();
+        try {
+            return runningTasks.values().stream().mapToInt(Integer::intValue).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting new tasks, cancels the waiting background and bulk tasks and waits until the waiting interactive
+     * tasks and the running tasks are done. Workers which are not done within one minute are interrupted.
+     * <p>
+     * A scheduler which has been shut down cannot be started again. In particular, {@link #INSTANCE} rejects all tasks
+     * once JabRef has shut it down.
+     */
+    public void shutdown() {
+        List<Thread> runningWorkers;
+        List<ScheduledTask<?>> canceledTasks = new ArrayList<>();
+        lock.lock();
+        try {
+            isShutdown = true;
+            for (TaskPriority priority : List.of(TaskPriority.BACKGROUND, TaskPriority.BULK)) {
+                queues.get(priority).values().forEach(canceledTasks::addAll);
+                queues.get(priority).clear();
+                queueLengths.put(priority, 0);
+            }
+            taskAvailable.signalAll();
+            runningWorkers = List.copyOf(workers);
+        } finally {
+            lock.unlock();
+        }
+        canceledTasks.forEach(task -> task.cancel(false));
+        timer.shutdownNow();
+
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        try {
+            for (Thread worker : runningWorkers) {
+                TimeUnit.NANOSECONDS.timedJoin(worker, Math.max(1, deadline - System.nanoTime()));
+                if (worker.isAlive()) {
+                    LOGGER.debug("{} did not finish in time, interrupting it", worker.getName());
+                    worker.interrupt();
+                }
+            }
+        } catch (InterruptedException e) {
+            runningWorkers.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(ScheduledTask<?> task) {
+        lock.lock();
+        try {
+            if (isShutdown) {
+                throw new RejectedExecutionException("Task scheduler has been shut down");
+            }
+            if (queueLengths.get(task.priority) >= maximumQueueLength) {
+                throw new RejectedExecutionException("Queue of " + task.priority + " tasks is full");
+            }
+            queues.get(task.priority).computeIfAbsent(task.owner, key -> new ArrayDeque<>()).add(task);
+            queueLengths.merge(task.priority, 1, Integer::sum);
+            queueLength.record(queueLengths.get(task.priority));
+            startWorkerIfNeeded();
+            taskAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void startWorkerIfNeeded() {
+        if (workers.size() < numberOfWorkers) {
+            Thread worker = new Thread(this::work, "JabRef worker " + (workers.size() + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    private boolean isWorker(Thread thread) {
+        lock.lock();
+        try {
+            return workers.contains(thread);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            ScheduledTask<?> task;
+            try {
+                task = take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == null) {
+                return;
+            }
+
+            try {
+                runTask(task);
+            } finally {
+                // A canceled task may leave the worker interrupted
+                Thread.interrupted();
+                finished(task);
+            }
+        }
+    }
+
+    /**
+     * Waits for the next task which may be started, or returns null if the scheduler has been shut down and all tasks
+     * are done.
+     */
+    private ScheduledTask<?> take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                for (TaskPriority priority : TaskPriority.values()) {
+                    if ((queueLengths.get(priority) > 0) && mayStart(priority)) {
+                        // The owners take turns: the next task is taken from the first owner, which is then moved to the end
+                        Iterator<Map.Entry<Object, Deque<ScheduledTask<?>>>> owners = queues.get(priority).entrySet().iterator();
+                        Map.Entry<Object, Deque<ScheduledTask<?>>> owner = owners.next();
+                        ScheduledTask<?> task = owner.getValue().poll();
+                        owners.remove();
+                        if (!owner.getValue().isEmpty()) {
+                            queues.get(priority).put(owner.getKey(), owner.getValue());
+                        }
+                        queueLengths.merge(priority, -1, Integer::sum);
+                        runningTasks.merge(priority, 1, Integer::sum);
+                        return task;
+                    }
+                }
+                if (isShutdown && (queueLengths.values().stream().allMatch(length -> length == 0))) {
+                    return null;
+                }
+                taskAvailable.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean mayStart(TaskPriority priority) {
+        int runningNonInteractiveTasks = runningTasks.get(TaskPriority.BACKGROUND) + runningTasks.get(TaskPriority.BULK);
+        return switch (priority) {
+            case INTERACTIVE -> true;
+            case BACKGROUND -> runningNonInteractiveTasks < (numberOfWorkers - 1);
+            case BULK -> (runningNonInteractiveTasks < (numberOfWorkers - 1))
+                    && (runningTasks.get(TaskPriority.BULK) < Math.max(1, numberOfWorkers / 2));
+        };
+    }
+
+    private void finished(ScheduledTask<?> task) {
+        lock.lock();
+        try {
+            runningTasks.merge(task.priority, -1, Integer::sum);
+            // A task of a lower priority class may start now
+            taskAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean remove(ScheduledTask<?> task) {
+        lock.lock();
+        try {
+            LinkedHashMap<Object, Deque<ScheduledTask<?>>> owners = queues.get(task.priority);
+            Deque<ScheduledTask<?>> ownerQueue = owners.get(task.owner);
+            if ((ownerQueue == null) || !ownerQueue.remove(task)) {
+                return false;
+            }
+            if (ownerQueue.isEmpty()) {
+                owners.remove(task.owner);
+            }
+            queueLengths.merge(task.priority, -1, Integer::sum);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runTask(ScheduledTask<?> task) {
+        task.waiting.close();
+        try (Timer.Stopwatch stopwatch = runTimer.start()) {
+            task.run();
+        }
+    }
+
+    private class ScheduledTask<V> extends FutureTask<V> {
+
+        private final TaskPriority priority;
+        private final Object owner;
+        private final boolean logFailure;
+        private final Timer.Stopwatch waiting;
+
+        ScheduledTask(Callable<V> callable, TaskPriority priority, Object owner, boolean logFailure) {
+            super(callable);
+            this.priority = priority;
+            this.owner = owner == null ? NO_OWNER : owner;
+            this.logFailure = logFailure;
+            this.waiting = waitTimers.get(priority).start();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean canceled = super.cancel(mayInterruptIfRunning);
+            if (canceled) {
+                // Free the place in the queue right away
+                remove(this);
+            }
+            return canceled;
+        }
+
+        @Override
+        protected void setException(Throwable throwable) {
+            super.setException(throwable);
+            if (logFailure) {
+                LOGGER.error("Problem running task", throwable);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Listing of all files and directories below a set of root directories, read from disk once. Finding the files of many
+ * entries with a {@link FileFinder} then does not walk the directories again for each entry.
+ * <p>
+ * The index is a snapshot: files created after building it are not contained.
+ */
+public class DirectoryIndex {
+
+    private final List<Path> directories;
+    // direct children (files and directories) of each indexed directory
+    private final Map<Path, List<Path>> childrenOfDirectory = new HashMap<>();
+    // all files which are not directories, by their file name
+    private final NavigableMap<String, Set<Path>> filesByName = new TreeMap<>();
+
+    private DirectoryIndex(List<Path> directories) {
+        this.directories = List.copyOf(directories);
+    }
+
+    /**
+     * Walks the given directories, following links. Directories which do not exist are skipped.
+     */
+    public static DirectoryIndex of(List<Path> directories) throws IOException {
+        DirectoryIndex index = new DirectoryIndex(directories);
+        for (Path directory : directories) {
+            if (Files.exists(directory) && !index.contains(directory)) {
+                index.addTree(directory);
+            }
+        }
+        return index;
+    }
+
+    private void addTree(Path root) throws IOException {
+        Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                addToParent(root, directory);
+                if (childrenOfDirectory.containsKey(directory)) {
+                    // already indexed as another root directory
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                childrenOfDirectory.put(directory, new ArrayList<>());
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                addToParent(root, file);
+                filesByName.computeIfAbsent(file.getFileName().toString(), name -> new LinkedHashSet<>()).add(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void addToParent(Path root, Path path) {
+        if (!path.equals(root)) {
+            childrenOfDirectory.get(path.getParent()).add(path);
+        }
+    }
+
+    public List<Path> getDirectories() {
+        return directories;
+    }
+
+    /**
+     * @return true if the directory is one of the root directories or below them
+     */
+    public boolean contains(Path directory) {
+        return childrenOfDirectory.containsKey(directory);
+    }
+
+    /**
+     * @return the files and directories directly contained in the directory, or an empty list if it is not indexed
+     */
+    public List<Path> getChildren(Path directory) {
+        return Collections.unmodifiableList(childrenOfDirectory.getOrDefault(directory, Collections.emptyList()));
+    }
+
+    /**
+     * @return all directories below the directory, excluding the directory itself
+     */
+    public List<Path> getSubdirectories(Path directory) {
+        List<Path> subdirectories = new ArrayList<>();
+        Deque<Path> toVisit = new ArrayDeque<>(List.of(directory));
+        while (!toVisit.isEmpty()) {
+            for (Path child : getChildren(toVisit.poll())) {
+                if (childrenOfDirectory.containsKey(child)) {
+                    subdirectories.add(child);
+                    toVisit.add(child);
+                }
+            }
+        }
+        return subdirectories;
+    }
+
+    /**
+     * @return the files (not directories) whose file name starts with the prefix
+     */
+    public List<Path> getFilesWithNamePrefix(String prefix) {
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, Set<Path>> filesWithName : filesByName.tailMap(prefix, true).entrySet()) {
+            if (!filesWithName.getKey().startsWith(prefix)) {
+                break;
+            }
+            files.addAll(filesWithName.getValue());
+        }
+        return files;
+    }
+}
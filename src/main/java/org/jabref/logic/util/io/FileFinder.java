@@ -16,4 +16,16 @@ public interface FileFinder {
      * @param extensions  The extensions that are acceptable.
      */
     List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException;
+
+    /**
+     * Finds all files in the directories of the index that are probably associated with the given entry and have one of
+     * the passed extensions. Use this when searching files for many entries, as the directories are not read again.
+     *
+     * @param entry      The entry to search files for.
+     * @param index      The listing of the root directories to search.
+     * @param extensions The extensions that are acceptable.
+     */
+    default List<Path> findAssociatedFiles(BibEntry entry, DirectoryIndex index, List<String> extensions) throws IOException {
+        return findAssociatedFiles(entry, index.getDirectories(), extensions);
+    }
 }
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -88,7 +89,17 @@ class RegExpBasedFileFinder implements FileFinder {
     @Override
     public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
-        return findFile(entry, directories, extensionRegExp);
+        return findFile(entry, directories, extensionRegExp, Optional.empty());
+    }
+
+    /**
+     * Like {@link #findAssociatedFiles(BibEntry, List, List)}, but the directories are listed from the index instead of
+     * the disk.
+     */
+    @Override
+    public List<Path> findAssociatedFiles(BibEntry entry, DirectoryIndex index, List<String> extensions) throws IOException {
+        String extensionRegExp = '(' + String.join("|", extensions) + ')';
+        return findFile(entry, index.getDirectories(), extensionRegExp, Optional.of(index));
     }
 
     /**
@@ -121,10 +132,10 @@ class RegExpBasedFileFinder implements FileFinder {
      * @return Will return the first file found to match the given criteria or
      * null if none was found.
      */
-    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
+    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp, Optional<DirectoryIndex> index) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, directory, regExp, extensionRegExp, index));
         }
         return res;
     }
@@ -132,8 +143,9 @@ class RegExpBasedFileFinder implements FileFinder {
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
+     * Directories contained in the index are not read from disk.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp, final Optional<DirectoryIndex> directoryIndex) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -174,12 +186,21 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                Optional<DirectoryIndex> indexOfDirectory = getIndexContaining(directoryIndex, actualDirectory);
+                if (indexOfDirectory.isPresent()) {
+                    for (Path child : indexOfDirectory.get().getChildren(actualDirectory)) {
+                        if (indexOfDirectory.get().contains(child)) {
+                            resultFiles.addAll(findFile(entry, child, restOfFileString, extensionRegExp, directoryIndex));
+                        }
+                    }
+                } else {
+                    File[] subDirs = actualDirectory.toFile().listFiles();
+                    if (subDirs != null) {
+                        for (File subDir : subDirs) {
+                            if (subDir.isDirectory()) {
+                                resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp, directoryIndex));
+                            }
                         }
                     }
                 }
@@ -189,19 +210,34 @@ class RegExpBasedFileFinder implements FileFinder {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
                 final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
+                Optional<DirectoryIndex> indexOfDirectory = getIndexContaining(directoryIndex, actualDirectory);
+                if (indexOfDirectory.isPresent()) {
+                    for (Path path : indexOfDirectory.get().getSubdirectories(actualDirectory)) {
+                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, directoryIndex));
+                    }
+                } else {
+                    try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
+                        // We only want to transverse directory (and not the current one; this is already done below)
+                        for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
+                            resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, directoryIndex));
+                        }
+                    } catch (UncheckedIOException ioe) {
+                        throw ioe.getCause();
                     }
-                } catch (UncheckedIOException ioe) {
-                    throw ioe.getCause();
                 }
             } // End process directory information
         }
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        Optional<DirectoryIndex> indexOfDirectory = getIndexContaining(directoryIndex, actualDirectory);
+        if (indexOfDirectory.isPresent()) {
+            // Files.find also checks the start directory itself
+            Stream.concat(Stream.of(actualDirectory), indexOfDirectory.get().getChildren(actualDirectory).stream())
+                  .filter(path -> (path.getFileName() != null) && toMatch.matcher(path.getFileName().toString()).matches())
+                  .forEach(resultFiles::add);
+            return resultFiles;
+        }
         BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
         try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.collect(Collectors.toList()));
@@ -212,6 +248,10 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
+    private static Optional<DirectoryIndex> getIndexContaining(Optional<DirectoryIndex> index, Path directory) {
+        return index.filter(directoryIndex -> directoryIndex.contains(directory));
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
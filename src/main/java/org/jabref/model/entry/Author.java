@@ -17,7 +17,8 @@ public class Author {
     private final String vonPart;
     private final String lastPart;
     private final String jrPart;
-    private Author latexFreeAuthor;
+    // Computed on first use; volatile, because parsed authors are shared between threads by the cache of AuthorList
+    private volatile Author latexFreeAuthor;
 
     /**
      * Creates the Author object. If any part of the name is absent, <CODE>null</CODE> must be passed; otherwise other methods may return erroneous results.
@@ -367,8 +368,10 @@ public class Author {
             String von = getVon().map(LatexToUnicodeAdapter::format).orElse(null);
             String last = getLast().map(LatexToUnicodeAdapter::format).orElse(null);
             String jr = getJr().map(LatexToUnicodeAdapter::format).orElse(null);
-            latexFreeAuthor = new Author(first, firstabbr, von, last, jr);
-            latexFreeAuthor.latexFreeAuthor = latexFreeAuthor;
+            Author author = new Author(first, firstabbr, von, last, jr);
+            author.latexFreeAuthor = author;
+            // published only after it is completely initialized
+            latexFreeAuthor = author;
         }
         return latexFreeAuthor;
     }
@@ -2,7 +2,7 @@ package org.jabref.model.entry;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -10,6 +10,12 @@ import java.util.stream.Collectors;
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE> or <CODE>editor</CODE> field in bibtex record.
  * <p>
@@ -115,9 +121,21 @@ import org.jabref.logic.importer.AuthorListParser;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    // Total length of the cached author strings; a few megabytes cover the names of large libraries
+    private static final long MAXIMUM_CACHED_CHARACTERS = 4_000_000;
+
+    // Strings longer than that, such as huge collaborations, are parsed each time instead of filling the cache
+    private static final int MAXIMUM_CACHED_LENGTH = 4_000;
+
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                           .maximumWeight(MAXIMUM_CACHED_CHARACTERS)
+                                                                           .weigher((String authors, AuthorList authorList) -> authors.length())
+                                                                           .recordStats()
+                                                                           .build();
+
     private final List<Author> authors;
-    private AuthorList latexFreeAuthors;
+    // Computed on first use; volatile, because parsed author lists are shared between threads by the cache
+    private volatile AuthorList latexFreeAuthors;
 
     /**
      * Creates a new list of authors.
@@ -162,7 +180,8 @@ public class AuthorList {
     /**
      * Retrieve an AuthorList for the given string of authors or editors.
      * <p>
-     * This function tries to cache the parsed AuthorLists by the string passed in.
+     * This function caches the parsed AuthorLists by the string passed in. The cache is shared by all threads and
+     * bounded by the total length of the cached strings.
      *
      * @param authors The string of authors or editors in bibtex format to parse.
      * @return An AuthorList object representing the given authors.
@@ -170,13 +189,23 @@ public class AuthorList {
     public static AuthorList parse(final String authors) {
         Objects.requireNonNull(authors);
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
+        if (authors.length() > MAXIMUM_CACHED_LENGTH) {
+            return new AuthorListParser().parse(authors);
+        }
+        try {
+            // Threads asking for the same string at the same time wait for one parse and share its result
+            return AUTHOR_CACHE.get(authors, () -> new AuthorListParser().parse(authors));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
         }
-        return authorList;
+    }
+
+    /**
+     * @return the hit rate and the eviction count of the cache used by {@link #parse(String)}
+     */
+    public static CacheStats getCacheStats() {
+        return AUTHOR_CACHE.stats();
     }
 
     /**
@@ -293,10 +322,12 @@ public class AuthorList {
      */
     public AuthorList latexFree() {
         if (latexFreeAuthors == null) {
-            latexFreeAuthors = new AuthorList(authors.stream()
-                                                     .map(Author::latexFree)
-                                                     .collect(Collectors.toUnmodifiableList()));
-            latexFreeAuthors.latexFreeAuthors = latexFreeAuthors;
+            AuthorList authorList = new AuthorList(authors.stream()
+                                                          .map(Author::latexFree)
+                                                          .collect(Collectors.toUnmodifiableList()));
+            authorList.latexFreeAuthors = authorList;
+            // published only after it is completely initialized
+            latexFreeAuthors = authorList;
         }
         return latexFreeAuthors;
     }
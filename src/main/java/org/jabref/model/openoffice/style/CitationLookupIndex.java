@@ -0,0 +1,53 @@
+package org.jabref.model.openoffice.style;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Index of the citation keys in a list of databases, built once per operation on a document. Looking up a key then
+ * does not scan each database.
+ * <p>
+ * The results are the same as those of {@link Citation#lookup(List, String)}: the first database containing the key
+ * wins, and within a database the first entry with the key.
+ */
+public class CitationLookupIndex {
+
+    private final Map<BibDatabase, Map<String, BibEntry>> entriesByKeyPerDatabase = new IdentityHashMap<>();
+    private final Map<String, CitationLookupResult> resultsByKey = new HashMap<>();
+
+    public CitationLookupIndex(List<BibDatabase> databases) {
+        for (BibDatabase database : databases) {
+            Map<String, BibEntry> entriesByKey = entriesByKeyPerDatabase.computeIfAbsent(database, this::indexDatabase);
+            entriesByKey.forEach((key, entry) -> resultsByKey.putIfAbsent(key, new CitationLookupResult(entry, database)));
+        }
+    }
+
+    private Map<String, BibEntry> indexDatabase(BibDatabase database) {
+        Map<String, BibEntry> entriesByKey = new HashMap<>();
+        for (BibEntry entry : database.getEntries()) {
+            entry.getCitationKey().ifPresent(key -> entriesByKey.putIfAbsent(key, entry));
+        }
+        return entriesByKey;
+    }
+
+    public Optional<CitationLookupResult> lookup(String key) {
+        return Optional.ofNullable(resultsByKey.get(key));
+    }
+
+    /**
+     * Looks up a key in one of the indexed databases, as {@link BibDatabase#getEntryByCitationKey(String)} does.
+     */
+    public Optional<BibEntry> getEntryByCitationKey(BibDatabase database, String key) {
+        Map<String, BibEntry> entriesByKey = entriesByKeyPerDatabase.get(database);
+        if (entriesByKey == null) {
+            return database.getEntryByCitationKey(key);
+        }
+        return Optional.ofNullable(entriesByKey.get(key));
+    }
+}
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.openoffice.ootext.OOText;
 
@@ -114,8 +113,8 @@ public class CitedKey implements
     /*
      * Lookup
      */
-    void lookupInDatabases(List<BibDatabase> databases) {
-        this.db = Citation.lookup(databases, this.citationKey);
+    void lookupInIndex(CitationLookupIndex index) {
+        this.db = index.lookup(this.citationKey);
     }
 
     void distributeLookupResult(CitationGroups citationGroups) {
@@ -58,8 +58,12 @@ public class CitedKeys {
     }
 
     public void lookupInDatabases(List<BibDatabase> databases) {
+        lookupInIndex(new CitationLookupIndex(databases));
+    }
+
+    public void lookupInIndex(CitationLookupIndex index) {
         for (CitedKey ck : this.data.values()) {
-            ck.lookupInDatabases(databases);
+            ck.lookupInIndex(index);
         }
     }
 
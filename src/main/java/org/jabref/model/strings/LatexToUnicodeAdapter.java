@@ -3,13 +3,22 @@ package org.jabref.model.strings;
 import java.text.Normalizer;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 import com.github.tomtung.latex2unicode.LaTeX2Unicode;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
 import fastparse.Parsed;
 
 /**
  * Adapter class for the latex2unicode lib. This is an alternative to our LatexToUnicode class
+ * <p>
+ * The same strings (e.g., journal names or publishers) are converted over and over again. Therefore, the results are
+ * kept in a bounded cache shared by all callers. Plain ASCII text which LaTeX does not change is returned without
+ * parsing it at all.
  */
 public class LatexToUnicodeAdapter {
 
@@ -19,6 +28,23 @@ public class LatexToUnicodeAdapter {
 
     private static final Pattern UNDERSCORE_PLACEHOLDER_MATCHER = Pattern.compile(REPLACEMENT_CHAR);
 
+    /**
+     * Punctuation which LaTeX leaves as it is, as long as <code>-</code> and <code>'</code> are not doubled
+     */
+    private static final String PLAIN_PUNCTUATION = ".,;:!?()/+*=@|-'";
+
+    private static final int MAXIMUM_CACHED_ENTRIES = 20_000;
+
+    // Long strings, such as abstracts, are rarely converted twice and would use up the cache
+    private static final int MAXIMUM_CACHED_LENGTH = 512;
+
+    private static final LoadingCache<String, Optional<String>> CACHE = CacheBuilder.newBuilder()
+                                                                                    .maximumSize(MAXIMUM_CACHED_ENTRIES)
+                                                                                    .recordStats()
+                                                                                    .build(CacheLoader.from(LatexToUnicodeAdapter::convert));
+
+    private static final LongAdder PLAIN_TEXT_COUNT = new LongAdder();
+
     /**
      * Attempts to resolve all LaTeX in the String.
      *
@@ -38,6 +64,31 @@ public class LatexToUnicodeAdapter {
      */
     public static Optional<String> parse(String inField) {
         Objects.requireNonNull(inField);
+        if (isPlainText(inField)) {
+            PLAIN_TEXT_COUNT.increment();
+            return Optional.of(inField);
+        }
+        if (inField.length() > MAXIMUM_CACHED_LENGTH) {
+            return convert(inField);
+        }
+        return CACHE.getUnchecked(inField);
+    }
+
+    /**
+     * @return the hit rate and the load penalty, which is the average conversion time of a miss, of the cache
+     */
+    public static CacheStats getCacheStats() {
+        return CACHE.stats();
+    }
+
+    /**
+     * @return how often plain text has been returned without looking into the cache
+     */
+    public static long getPlainTextCount() {
+        return PLAIN_TEXT_COUNT.sum();
+    }
+
+    private static Optional<String> convert(String inField) {
         String toFormat = UNDERSCORE_MATCHER.matcher(inField).replaceAll(REPLACEMENT_CHAR);
         var parsingResult = LaTeX2Unicode.parse(toFormat);
         if (parsingResult instanceof Parsed.Success) {
@@ -47,4 +98,35 @@ public class LatexToUnicodeAdapter {
         }
         return Optional.empty();
     }
+
+    /**
+     * Checks whether the text consists of ASCII letters, digits, single spaces and punctuation which LaTeX leaves
+     * as it is. In particular, the text contains none of <code>\{}$_~%</code>, no ligatures such as <code>--</code>
+     * or <code>''</code>, and no leading, trailing or repeated whitespace.
+     */
+    static boolean isPlainText(String text) {
+        if (text.isEmpty() || (text.charAt(0) == ' ') || (text.charAt(text.length() - 1) == ' ')) {
+            return false;
+        }
+        char previous = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            boolean isAsciiLetterOrDigit = ((current >= 'a') && (current <= 'z'))
+                    || ((current >= 'A') && (current <= 'Z'))
+                    || ((current >= '0') && (current <= '9'));
+            if (!isAsciiLetterOrDigit) {
+                if (current == ' ') {
+                    if (previous == ' ') {
+                        return false;
+                    }
+                } else if (PLAIN_PUNCTUATION.indexOf(current) < 0) {
+                    return false;
+                } else if (((current == '-') || (current == '\'')) && (previous == current)) {
+                    return false;
+                }
+            }
+            previous = current;
+        }
+        return true;
+    }
 }
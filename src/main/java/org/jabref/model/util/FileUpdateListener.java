@@ -1,9 +1,24 @@
 package org.jabref.model.util;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 public interface FileUpdateListener {
 
     /**
      * The file has been updated. A new call will not result until the file has been modified again.
      */
     void fileUpdated();
+
+    /**
+     * Files or directories below a directory watched by {@link FileUpdateMonitor#addListenerForDirectory} have been
+     * created, modified or deleted. If events were lost, the directory containing the lost changes is reported.
+     * <p>
+     * By default, the changed paths are ignored and {@link #fileUpdated()} is called.
+     *
+     * @param changedPaths the absolute paths of the changed files and directories
+     */
+    default void filesUpdated(Set<Path> changedPaths) {
+        fileUpdated();
+    }
 }
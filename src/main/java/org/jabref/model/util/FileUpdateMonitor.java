@@ -12,6 +12,16 @@ public interface FileUpdateMonitor {
      */
     void addListenerForFile(Path file, FileUpdateListener listener) throws IOException;
 
+    /**
+     * Add a directory to monitor, including all its subdirectories. The listener is notified by
+     * {@link FileUpdateListener#filesUpdated} when a file or directory below the directory is created, modified or
+     * deleted. Subdirectories which cannot be watched are skipped.
+     *
+     * @param directory The directory to monitor.
+     * @throws IOException if the directory does not exist or cannot be watched.
+     */
+    void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException;
+
     /**
      * Removes a listener from the monitor.
      *
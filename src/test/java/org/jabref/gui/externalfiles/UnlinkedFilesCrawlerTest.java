@@ -2,6 +2,10 @@ package org.jabref.gui.externalfiles;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.model.database.BibDatabaseContext;
@@ -17,6 +21,8 @@ import static org.mockito.Mockito.when;
 
 class UnlinkedFilesCrawlerTest {
 
+    @TempDir Path cacheDir;
+
     @Test
     public void minimalGitIgnore(@TempDir Path testRoot) throws Exception {
         Files.writeString(testRoot.resolve(".gitignore"), """
@@ -29,10 +35,64 @@ class UnlinkedFilesCrawlerTest {
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
         when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
 
-        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class));
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class), cacheDir.resolve("listings.bin"));
 
         FileNodeViewModel fileNodeViewModel = unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
 
         assertEquals(new FileNodeViewModel(testRoot), fileNodeViewModel);
     }
+
+    @Test
+    public void findsFilesInNestedDirectoriesAgainWithCachedListings(@TempDir Path testRoot) throws Exception {
+        Path subDir = testRoot.resolve("a").resolve("b");
+        Files.createDirectories(subDir);
+        Files.createFile(testRoot.resolve("top.pdf"));
+        Files.createFile(subDir.resolve("nested.pdf"));
+        // listings of directories modified just now are not cached
+        FileTime anHourAgo = FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS));
+        for (Path directory : List.of(testRoot, testRoot.resolve("a"), subDir)) {
+            Files.setLastModifiedTime(directory, anHourAgo);
+        }
+
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
+        when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
+
+        Path listingCacheFile = cacheDir.resolve("listings.bin");
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class), listingCacheFile);
+
+        FileNodeViewModel firstSearch = unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
+        FileNodeViewModel secondSearch = unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
+
+        assertEquals(2, firstSearch.getFileCount());
+        assertEquals(firstSearch, secondSearch);
+
+        // all three directories have been stored by the searches
+        DirectoryListingCache listingCache = DirectoryListingCache.load(listingCacheFile);
+        for (Path directory : List.of(testRoot, testRoot.resolve("a"), subDir)) {
+            listingCache.list(directory);
+        }
+        assertEquals(3, listingCache.getNumberOfHits());
+    }
+
+    @Test
+    public void listingsOfDeletedDirectoriesAreDropped(@TempDir Path testRoot) throws Exception {
+        Path subDir = testRoot.resolve("a");
+        FileTime anHourAgo = FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS));
+        Files.createDirectories(subDir);
+        Files.setLastModifiedTime(subDir, anHourAgo);
+        Path listingCacheFile = cacheDir.resolve("listings.bin");
+        DirectoryListingCache listingCache = DirectoryListingCache.load(listingCacheFile);
+        listingCache.list(subDir);
+        listingCache.save();
+
+        Files.delete(subDir);
+        DirectoryListingCache.load(listingCacheFile).save();
+
+        // a directory created at the same place with the same modification time is read again
+        Files.createDirectories(subDir);
+        Files.setLastModifiedTime(subDir, anHourAgo);
+        DirectoryListingCache reloadedCache = DirectoryListingCache.load(listingCacheFile);
+        reloadedCache.list(subDir);
+        assertEquals(0, reloadedCache.getNumberOfHits());
+    }
 }
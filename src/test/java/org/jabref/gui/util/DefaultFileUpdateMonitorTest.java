@@ -0,0 +1,132 @@
+package org.jabref.gui.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.util.FileUpdateListener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class DefaultFileUpdateMonitorTest {
+
+    private static final Duration COALESCING_WINDOW = Duration.ofMillis(300);
+
+    @TempDir Path directory;
+
+    private DefaultFileUpdateMonitor fileUpdateMonitor;
+    private Thread thread;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileUpdateMonitor = new DefaultFileUpdateMonitor(COALESCING_WINDOW);
+        thread = new Thread(fileUpdateMonitor);
+        thread.start();
+
+        assertTrue(fileUpdateMonitor.awaitStart(Duration.ofSeconds(5)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        fileUpdateMonitor.shutdown();
+        thread.join();
+    }
+
+    @Test
+    void severalWritesCauseOneNotification() throws Exception {
+        Path file = directory.resolve("library.bib");
+        Files.writeString(file, "");
+        AtomicInteger updates = new AtomicInteger();
+        CountDownLatch notified = new CountDownLatch(1);
+        fileUpdateMonitor.addListenerForFile(file, () -> {
+            updates.incrementAndGet();
+            notified.countDown();
+        });
+
+        Files.writeString(file, "@Misc{a}");
+        Files.writeString(file, "@Misc{a}\n@Misc{b}");
+        Files.writeString(file, "@Misc{a}\n@Misc{b}\n@Misc{c}");
+
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        assertFalse(fileUpdateMonitor.hasPendingNotifications());
+        assertEquals(1, updates.get());
+        assertEquals(1, fileUpdateMonitor.getStatistics().notifications());
+    }
+
+    @Test
+    void notifiesAboutChangeInNewSubdirectory() throws Exception {
+        Semaphore notifications = new Semaphore(0);
+        fileUpdateMonitor.addListenerForDirectory(directory, notifications::release);
+
+        Path subdirectory = Files.createDirectories(directory.resolve("chapters"));
+        assertTrue(notifications.tryAcquire(5, TimeUnit.SECONDS));
+        Files.writeString(subdirectory.resolve("intro.tex"), "\\cite{key}");
+
+        assertTrue(notifications.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void directoryListenerIsToldChangedFiles() throws Exception {
+        Path first = directory.toAbsolutePath().resolve("first.tex");
+        Path second = directory.toAbsolutePath().resolve("second.tex");
+        BlockingQueue<Set<Path>> changes = new LinkedBlockingQueue<>();
+        fileUpdateMonitor.addListenerForDirectory(directory, new FileUpdateListener() {
+            @Override
+            public void fileUpdated() {
+                fail("The changed files are known");
+            }
+
+            @Override
+            public void filesUpdated(Set<Path> changedPaths) {
+                changes.add(changedPaths);
+            }
+        });
+
+        Files.writeString(first, "\\cite{a}");
+        Files.writeString(second, "\\cite{b}");
+
+        assertEquals(Set.of(first, second), changes.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void removingLastListenerOfDirectoryStopsWatchingItsSubdirectories() throws Exception {
+        Files.createDirectories(directory.resolve("chapters").resolve("appendix"));
+        Path file = directory.resolve("library.bib");
+        Files.writeString(file, "");
+        fileUpdateMonitor.addListenerForFile(file, () -> { });
+        FileUpdateListener first = () -> { };
+        FileUpdateListener second = () -> { };
+        fileUpdateMonitor.addListenerForDirectory(directory, first);
+        fileUpdateMonitor.addListenerForDirectory(directory, second);
+        assertEquals(3, fileUpdateMonitor.getNumberOfWatchedDirectories());
+
+        fileUpdateMonitor.removeListener(directory, first);
+        assertEquals(3, fileUpdateMonitor.getNumberOfWatchedDirectories());
+        fileUpdateMonitor.removeListener(directory, second);
+
+        // the directory of the watched file is still watched
+        assertEquals(1, fileUpdateMonitor.getNumberOfWatchedDirectories());
+    }
+
+    @Test
+    void addingListenerForMissingDirectoryFails() {
+        assertThrows(IOException.class, () -> fileUpdateMonitor.addListenerForDirectory(directory.resolve("missing"), () -> { }));
+    }
+}
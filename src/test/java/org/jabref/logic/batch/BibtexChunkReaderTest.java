@@ -0,0 +1,59 @@
+package org.jabref.logic.batch;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexChunkReaderTest {
+
+    @Test
+    void splitsAfterGivenNumberOfItems() throws IOException {
+        String firstChunk = "@article{a, title = {One {Nested} Title}}\n% comment\n@book(b, title = {Two})";
+        String secondChunk = "\n@misc{c}\n";
+
+        List<String> chunks = readAll(firstChunk + secondChunk, 2);
+
+        assertEquals(List.of(firstChunk, secondChunk), chunks);
+    }
+
+    @Test
+    void keepsTextAfterLastItemInLastChunk() throws IOException {
+        List<String> chunks = readAll("@misc{a}\n@misc{b}\nsome epilog\n", 1);
+
+        assertEquals(List.of("@misc{a}", "\n@misc{b}", "\nsome epilog\n"), chunks);
+    }
+
+    @Test
+    void atSignInTextDoesNotStartItem() throws IOException {
+        List<String> chunks = readAll("mail me@example.org @@misc{a}\n@misc{b}", 1);
+
+        assertEquals(List.of("mail me@example.org @@misc{a}", "\n@misc{b}"), chunks);
+    }
+
+    @Test
+    void recordsStringDefinitions() throws IOException {
+        BibtexChunkReader reader = new BibtexChunkReader(new StringReader("@String{ieee = {IEEE}}\n@misc{a, publisher = ieee}"), 10);
+
+        BibtexChunkReader.Chunk chunk = reader.readChunk().orElseThrow();
+
+        assertEquals(List.of("@String{ieee = {IEEE}}"), chunk.stringDefinitions());
+        assertEquals(List.of("string", "misc"), chunk.itemTypes());
+        assertEquals(Optional.empty(), reader.readChunk());
+    }
+
+    private static List<String> readAll(String input, int itemsPerChunk) throws IOException {
+        BibtexChunkReader reader = new BibtexChunkReader(new StringReader(input), itemsPerChunk);
+        List<String> chunks = new ArrayList<>();
+        Optional<BibtexChunkReader.Chunk> chunk;
+        while ((chunk = reader.readChunk()).isPresent()) {
+            chunks.add(chunk.get().text());
+        }
+        return chunks;
+    }
+}
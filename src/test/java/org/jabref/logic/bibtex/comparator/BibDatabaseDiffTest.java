@@ -1,7 +1,9 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -126,4 +128,24 @@ class BibDatabaseDiffTest {
         assertEquals(entryThree, diff.getEntryDifferences().get(2).getNewEntry(), "there is another value as newEntry [2]");
         assertNull(diff.getEntryDifferences().get(2).getOriginalEntry(), "originalEntry is not null [2]");
     }
+
+    @Test
+    void compareOfManyEntriesReportsOnlyChangedEntry() throws Exception {
+        List<BibEntry> originalEntries = new ArrayList<>();
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            originalEntries.add(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "title " + i).withField(StandardField.YEAR, "2000"));
+            newEntries.add(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "title " + i).withField(StandardField.YEAR, "2000"));
+        }
+        newEntries.get(42).setField(StandardField.YEAR, "2001");
+        Collections.reverse(newEntries);
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(originalEntries));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(newEntries));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size(), "incorrect amount of different entries");
+        assertEquals(originalEntries.get(42), diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(newEntries.get(57), diff.getEntryDifferences().get(0).getNewEntry());
+    }
 }
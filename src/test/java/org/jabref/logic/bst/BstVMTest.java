@@ -13,6 +13,7 @@ import org.antlr.v4.runtime.RecognitionException;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BstVMTest {
@@ -124,6 +125,16 @@ public class BstVMTest {
         assertEquals(BstVM.TRUE, vm.latestContext.stack().pop());
     }
 
+    @Test
+    public void styleFileIsParsedOnceForRepeatedRendering() throws RecognitionException, IOException {
+        Path path = Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst");
+        BstVM vm = BstVM.ofStyleFile(path);
+        String first = vm.render(List.of(defaultTestEntry()));
+
+        assertSame(vm, BstVM.ofStyleFile(path));
+        assertEquals(first, BstVM.ofStyleFile(path).render(List.of(defaultTestEntry())));
+    }
+
     @Test
     public void testHypthenatedName() throws RecognitionException, IOException {
         BstVM vm = new BstVM(Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst"));
@@ -1,5 +1,6 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
@@ -403,6 +404,12 @@ class BracketedPatternTest {
         assertEquals(expandResult, bracketedPattern.expand(bibEntry));
     }
 
+    @Test
+    void expandFieldMarkersPassesFieldAndModifiers() {
+        assertEquals("[auth, lower, (x:y)]-\"quoted [text]\"[year]",
+                BracketedPattern.expandFieldMarkers("[auth:lower:(x\\:y)]-\"quoted [text]\"\\[year]", List::toString));
+    }
+
     private static Stream<Arguments> provideArgumentsForFallback() {
         return Stream.of(
                 Arguments.of("auth", "[title:(auth)]"),
@@ -1,6 +1,9 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -60,6 +63,43 @@ class MakeLabelWithDatabaseTest {
         assertEquals(Optional.of("Doe2016a"), entry2.getCitationKey());
     }
 
+    @Test
+    void generateDefaultKeyWithKeysCountedOutsideDatabase() {
+        Set<String> usedKeys = Set.of("Doe2016", "Doe2016a");
+        String key = new CitationKeyGenerator(bibtexKeyPattern, database, preferences)
+                .generateKey(entry, candidate -> usedKeys.contains(candidate) ? 1 : 0);
+        assertEquals("Doe2016b", key);
+    }
+
+    @Test
+    void generateKeysInBatchEqualsGeneratingKeysOneByOne() {
+        BibEntry second = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        BibEntry third = new BibEntry()
+                .withCitationKey("Doe2016")
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        database.insertEntries(List.of(second, third));
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry, second, third));
+
+        assertEquals(List.of(Optional.of("Doe2016a"), Optional.of("Doe2016b"), Optional.of("Doe2016")),
+                List.of(entry.getCitationKey(), second.getCitationKey(), third.getCitationKey()));
+    }
+
+    @Test
+    void generateKeysInBatchReportsProgressForEachEntry() {
+        BibEntry second = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        List<Integer> progress = new ArrayList<>();
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry, second), progress::add);
+
+        assertEquals(List.of(1, 2), progress);
+    }
+
     @Test
     void generateDefaultKeyAlwaysLetter() {
         preferences = new CitationKeyPatternPreferences(
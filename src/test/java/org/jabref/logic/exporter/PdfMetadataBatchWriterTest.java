@@ -0,0 +1,98 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.jabref.logic.importer.fileformat.PdfXmpImporter;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.preferences.FilePreferences;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PdfMetadataBatchWriterTest {
+
+    @TempDir Path tempDir;
+
+    private XmpPreferences xmpPreferences;
+    private BibDatabaseContext databaseContext;
+    private PdfMetadataBatchWriter batchWriter;
+    private BibEntry entry;
+    private Path pdfFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        xmpPreferences = new XmpPreferences(false, Collections.emptySet(), new SimpleObjectProperty<>(','));
+
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(filePreferences.getUser()).thenReturn(tempDir.toAbsolutePath().toString());
+        when(filePreferences.shouldStoreFilesRelativeToBibFile()).thenReturn(false);
+
+        pdfFile = tempDir.resolve("paper.pdf");
+        try (PDDocument pdf = new PDDocument()) {
+            pdf.addPage(new PDPage());
+            pdf.save(pdfFile.toAbsolutePath().toString());
+        }
+
+        entry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("Olly2018")
+                .withField(StandardField.AUTHOR, "Olly and Johannes")
+                .withField(StandardField.TITLE, "Stefan's palace");
+        entry.setFiles(List.of(new LinkedFile("A linked pdf", pdfFile, "PDF")));
+
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntry(entry);
+
+        batchWriter = new PdfMetadataBatchWriter(databaseContext, filePreferences, List.of(new XmpPdfExporter(xmpPreferences)), 2, tempDir.resolve("state.properties"));
+    }
+
+    @Test
+    void writesMetadataToLinkedPdf() throws Exception {
+        PdfMetadataBatchWriter.Result result = batchWriter.writeToFilesOfEntries(List.of(entry), (processed, total) -> { });
+
+        assertEquals(new PdfMetadataBatchWriter.Result(1, 0, 0), result);
+        List<BibEntry> written = new PdfXmpImporter(xmpPreferences).importDatabase(pdfFile).getDatabase().getEntries();
+        assertEquals(List.of("Stefan's palace"), written.stream().map(e -> e.getField(StandardField.TITLE).orElse("")).toList());
+    }
+
+    @Test
+    void skipsPdfWithCurrentMetadata() {
+        batchWriter.writeToFilesOfEntries(List.of(entry), (processed, total) -> { });
+
+        PdfMetadataBatchWriter.Result result = batchWriter.writeToFilesOfEntries(List.of(entry), (processed, total) -> { });
+
+        assertEquals(new PdfMetadataBatchWriter.Result(0, 1, 0), result);
+    }
+
+    @Test
+    void rewritesPdfAfterEntryChanged() {
+        batchWriter.writeToFilesOfEntries(List.of(entry), (processed, total) -> { });
+        entry.setField(StandardField.TITLE, "Another palace");
+
+        PdfMetadataBatchWriter.Result result = batchWriter.writeToFilesOfEntries(List.of(entry), (processed, total) -> { });
+
+        assertEquals(new PdfMetadataBatchWriter.Result(1, 0, 0), result);
+    }
+
+    @Test
+    void writesPdfGivenByPath() {
+        PdfMetadataBatchWriter.Result result = batchWriter.writeToFiles(List.of(pdfFile, tempDir.resolve("notlinked.pdf")), (processed, total) -> { });
+
+        assertEquals(new PdfMetadataBatchWriter.Result(1, 0, 1), result);
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -43,4 +44,13 @@ class AuthorListParserTest {
                 new Author("{\\OE}rjan", "{\\OE}.", null, "Umlauts", null)),
                 new AuthorListParser().parse("{\\OE}rjan Umlauts"));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Doe, John", "Doe, John Paul and Smith, J", "Doe, Jo and Smith, Jane and Miller, Paul", "IBM, John", "Doe, JOHN", "Doe, John and others", "Doe, Andy and And, John"})
+    void simpleLastFirstNamesParseLikeTokenizedNames(String authorsString) {
+        // " AND " is also a separator, but is not handled by the shortcut for simple names
+        AuthorList tokenized = new AuthorListParser().parse(authorsString.replace(" and ", " AND "));
+
+        assertEquals(tokenized, new AuthorListParser().parse(authorsString));
+    }
 }
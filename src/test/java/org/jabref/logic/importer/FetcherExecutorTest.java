@@ -0,0 +1,152 @@
+package org.jabref.logic.importer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.paging.Page;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FetcherExecutorTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private FetcherExecutor fetcherExecutor;
+    private PagedSearchBasedFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        fetcherExecutor = new FetcherExecutor(2, Duration.ZERO);
+        fetcher = mock(PagedSearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn("Test");
+        when(fetcher.getPageSize()).thenReturn(PAGE_SIZE);
+    }
+
+    @Test
+    void pagesAreAssembledInOrder() {
+        long deadline = FetcherExecutor.deadlineAfter(Duration.ofSeconds(10));
+        Future<List<BibEntry>> search = fetcherExecutor.submitPaged(fetcher, page -> {
+            // later pages finish first
+            sleep(10L * (3 - page));
+            return fullPage(page);
+        }, 6, deadline);
+
+        List<BibEntry> expected = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            expected.addAll(fullPage(page).getContent());
+        }
+        assertEquals(Optional.of(expected), fetcherExecutor.await(fetcher, search, deadline));
+    }
+
+    @Test
+    void fetchingStopsAtFirstIncompletePage() {
+        long deadline = FetcherExecutor.deadlineAfter(Duration.ofSeconds(10));
+        Future<List<BibEntry>> search = fetcherExecutor.submitPaged(fetcher,
+                page -> page == 0 ? fullPage(page) : new Page<>("query", page, List.of(entry(page, 0))),
+                100, deadline);
+
+        assertEquals(3, fetcherExecutor.await(fetcher, search, deadline).orElseThrow().size());
+    }
+
+    @Test
+    void pagesAreRequestedOnlyWithinProviderLimit() {
+        AtomicInteger requestedPages = new AtomicInteger();
+        long deadline = FetcherExecutor.deadlineAfter(Duration.ofSeconds(10));
+        Future<List<BibEntry>> search = fetcherExecutor.submitPaged(fetcher, page -> {
+            requestedPages.incrementAndGet();
+            return new Page<>("query", page, List.of(entry(page, 0)));
+        }, 100, deadline);
+
+        assertEquals(1, fetcherExecutor.await(fetcher, search, deadline).orElseThrow().size());
+        // the first page is incomplete, so at most the pages requested ahead of it are wasted
+        assertTrue(requestedPages.get() <= 2);
+    }
+
+    @Test
+    void failingFirstPageYieldsNoResult() {
+        long deadline = FetcherExecutor.deadlineAfter(Duration.ofSeconds(10));
+        Future<List<BibEntry>> search = fetcherExecutor.submitPaged(fetcher, page -> {
+            throw new FetcherException("Server unavailable");
+        }, 4, deadline);
+
+        assertEquals(Optional.empty(), fetcherExecutor.await(fetcher, search, deadline));
+    }
+
+    @Test
+    void firstPageMissingTheDeadlineFailsSearch() {
+        Future<List<BibEntry>> search = fetcherExecutor.submitPaged(fetcher, page -> {
+            sleep(5000);
+            return fullPage(page);
+        }, 4, FetcherExecutor.deadlineAfter(Duration.ofMillis(50)));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> search.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(FetcherException.class, exception.getCause());
+    }
+
+    @Test
+    void concurrentRequestsPerProviderAreLimited() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximum = new AtomicInteger();
+        long deadline = FetcherExecutor.deadlineAfter(Duration.ofSeconds(10));
+
+        List<Future<Integer>> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(fetcherExecutor.submit(fetcher, () -> {
+                maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return 1;
+            }));
+        }
+        for (Future<Integer> request : requests) {
+            assertEquals(Optional.of(1), fetcherExecutor.await(fetcher, request, deadline));
+        }
+        assertTrue(maximum.get() <= 2);
+    }
+
+    @Test
+    void requestMissingTheDeadlineYieldsNoResult() {
+        Future<Integer> request = fetcherExecutor.submit(fetcher, () -> {
+            sleep(5000);
+            return 1;
+        });
+
+        assertEquals(Optional.empty(), fetcherExecutor.await(fetcher, request, FetcherExecutor.deadlineAfter(Duration.ofMillis(50))));
+    }
+
+    private static Page<BibEntry> fullPage(int page) {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            entries.add(entry(page, i));
+        }
+        return new Page<>("query", page, entries);
+    }
+
+    private static BibEntry entry(int page, int number) {
+        return new BibEntry().withField(StandardField.TITLE, "Page " + page + " entry " + number);
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
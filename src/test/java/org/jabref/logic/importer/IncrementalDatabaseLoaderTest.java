@@ -0,0 +1,147 @@
+package org.jabref.logic.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IncrementalDatabaseLoaderTest {
+
+    private static final String FILE_CONTENT = """
+            @String{ieee = {IEEE}}
+
+            % a comment in front of the first entry
+            @Article{first,
+              title     = {First},
+              publisher = ieee,
+            }
+
+            @Book{second,
+              title = {Second},
+            }
+
+            @Misc{third,
+              title = {Third},
+            }
+
+            @Comment{jabref-meta: databaseType:bibtex;}
+            """;
+
+    @TempDir Path tempDir;
+
+    private ImportFormatPreferences importFormatPreferences;
+    private IncrementalDatabaseLoader loader;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        loader = new IncrementalDatabaseLoader(importFormatPreferences);
+        file = tempDir.resolve("library.bib");
+        Files.writeString(file, FILE_CONTENT);
+    }
+
+    @Test
+    void firstLoadEqualsCompleteLoad() throws Exception {
+        ParserResult result = loader.load(file);
+
+        assertEqualsCompleteLoad(result);
+    }
+
+    @Test
+    void loadAfterChangedEntryEqualsCompleteLoad() throws Exception {
+        loader.load(file);
+        Files.writeString(file, FILE_CONTENT.replace("{Second}", "{Changed second}"));
+
+        ParserResult result = loader.load(file);
+
+        assertEqualsCompleteLoad(result);
+        assertEquals(List.of("First", "Changed second", "Third"),
+                result.getDatabase().getEntries().stream().map(entry -> entry.getField(StandardField.TITLE).orElse("")).toList());
+    }
+
+    @Test
+    void loadAfterChangedStringAndRemovedEntryEqualsCompleteLoad() throws Exception {
+        loader.load(file);
+        Files.writeString(file, FILE_CONTENT.replace("{IEEE}", "{ACM}").replace("""
+                @Misc{third,
+                  title = {Third},
+                }
+                """, ""));
+
+        ParserResult result = loader.load(file);
+
+        assertEqualsCompleteLoad(result);
+    }
+
+    @Test
+    void unchangedEntriesAreNewObjects() throws Exception {
+        BibEntry firstLoaded = loader.load(file).getDatabase().getEntries().get(0);
+
+        BibEntry secondLoaded = loader.load(file).getDatabase().getEntries().get(0);
+
+        assertNotSame(firstLoaded, secondLoaded);
+        assertEquals(firstLoaded.getFields(), secondLoaded.getFields());
+        assertEquals(firstLoaded.getParsedSerialization(), secondLoaded.getParsedSerialization());
+        assertFalse(secondLoaded.hasChanged());
+    }
+
+    @Test
+    void fileIsReadWithEncodingOfItsHeader() throws Exception {
+        Files.writeString(file, """
+                % Encoding: ISO-8859-1
+
+                @Misc{first,
+                  author = {Müller},
+                }
+                """, StandardCharsets.ISO_8859_1);
+
+        ParserResult result = loader.load(file);
+
+        assertEquals(Optional.of(StandardCharsets.ISO_8859_1), result.getMetaData().getEncoding());
+        assertTrue(result.getMetaData().getEncodingExplicitlySupplied());
+        assertEquals(Optional.of("Müller"), result.getDatabase().getEntries().get(0).getField(StandardField.AUTHOR));
+        assertEqualsCompleteLoad(result);
+    }
+
+    @Test
+    void reloadOfFileWithEncodingHeaderEqualsCompleteLoad() throws Exception {
+        Files.writeString(file, "% Encoding: UTF-8\n\n" + FILE_CONTENT);
+        loader.load(file);
+        Files.writeString(file, "% Encoding: UTF-8\n\n" + FILE_CONTENT.replace("{Second}", "{Changed second}"));
+
+        ParserResult result = loader.load(file);
+
+        assertEqualsCompleteLoad(result);
+    }
+
+    private void assertEqualsCompleteLoad(ParserResult result) throws Exception {
+        ParserResult expected = OpenDatabase.loadDatabase(file, importFormatPreferences, new DummyFileUpdateMonitor());
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(expected.getDatabaseContext(), result.getDatabaseContext());
+
+        assertEquals(Collections.emptyList(), diff.getEntryDifferences());
+        assertEquals(Collections.emptyList(), diff.getBibStringDifferences());
+        assertEquals(Optional.empty(), diff.getMetaDataDifferences());
+        assertEquals(expected.getDatabase().getEntryCount(), result.getDatabase().getEntryCount());
+    }
+}
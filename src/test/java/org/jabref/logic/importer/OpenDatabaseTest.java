@@ -4,10 +4,14 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.jabref.logic.metrics.OpenLibraryEvent;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -15,8 +19,12 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.GeneralPreferences;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -119,4 +127,23 @@ class OpenDatabaseTest {
         BibEntry entry = entries.iterator().next();
         assertEquals(Optional.of("testArticle"), entry.getCitationKey());
     }
+
+    @Test
+    void loadingRecordsFlightRecorderEvent(@TempDir Path directory) throws IOException {
+        Path recordingFile = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(OpenLibraryEvent.class);
+            recording.start();
+            OpenDatabase.loadDatabase(bibEncodingWithoutNewline, importFormatPreferences, fileMonitor);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                                                  .filter(event -> bibEncodingWithoutNewline.toString().equals(event.getString("path")))
+                                                  .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals(Files.size(bibEncodingWithoutNewline), events.get(0).getLong("fileSize"));
+        assertEquals(1, events.get(0).getInt("entries"));
+    }
 }
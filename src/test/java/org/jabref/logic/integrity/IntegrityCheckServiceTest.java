@@ -0,0 +1,204 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.preferences.FilePreferences;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+class IntegrityCheckServiceTest {
+
+    private BibDatabase database;
+    private BibDatabaseContext context;
+    private BibEntry first;
+    private IntegrityCheck integrityCheck;
+    private IntegrityCheckService service;
+
+    @BeforeEach
+    void setUp() {
+        first = new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000");
+        database = new BibDatabase(List.of(first));
+        context = new BibDatabaseContext(database);
+        integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                new CitationKeyPatternPreferences(
+                        false,
+                        false,
+                        false,
+                        CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                        "",
+                        "",
+                        CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                        GlobalCitationKeyPattern.fromPattern("[auth][year]"),
+                        ','),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+        service = createService(() -> integrityCheck);
+    }
+
+    @Test
+    void addedEntryWithSameKeyMarksBothEntries() {
+        BibEntry second = new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000");
+
+        database.insertEntry(second);
+
+        assertEquals(List.of(duplicateKeyMessage(first)), duplicateKeyMessages(first));
+        assertEquals(List.of(duplicateKeyMessage(second)), duplicateKeyMessages(second));
+    }
+
+    @Test
+    void changedKeyRechecksEntriesWithPreviousKey() {
+        BibEntry second = new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000");
+        database.insertEntry(second);
+
+        second.setCitationKey("Jones2001");
+
+        assertEquals(List.of(), duplicateKeyMessages(first));
+        assertEquals(List.of(), duplicateKeyMessages(second));
+    }
+
+    @Test
+    void removedEntryHasNoMessages() {
+        BibEntry second = new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000");
+        database.insertEntry(second);
+
+        database.removeEntry(second);
+
+        assertEquals(List.of(), duplicateKeyMessages(first));
+        assertEquals(List.of(), service.getMessages(second));
+    }
+
+    @Test
+    void isUpToDateAfterChangesHaveBeenChecked() {
+        database.insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000"));
+
+        assertTrue(service.isUpToDate());
+    }
+
+    @Test
+    void changesAfterShutdownAreNotChecked() {
+        service.shutdown();
+
+        database.insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000"));
+
+        assertEquals(List.of(), duplicateKeyMessages(first));
+        assertFalse(service.isUpToDate());
+    }
+
+    @Test
+    void allMessagesAreInLibraryOrder() {
+        for (int i = 0; i < 20; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000"));
+        }
+
+        List<BibEntry> entriesOfMessages = service.getAllMessages().stream()
+                                                  .filter(message -> message.getField() == StandardField.KEY)
+                                                  .map(IntegrityMessage::getEntry)
+                                                  .toList();
+
+        assertEquals(database.getEntries(), entriesOfMessages);
+    }
+
+    @Test
+    void failedCheckIsRepeatedWithNextChange() {
+        service.shutdown();
+        IntegrityCheck failingOnce = spy(integrityCheck);
+        doThrow(new ConcurrentModificationException()).doCallRealMethod().when(failingOnce).checkEntries(any());
+        service = createService(() -> failingOnce);
+        List<BibEntry> checkedEntries = new ArrayList<>();
+        service.registerListener(new Object() {
+            @Subscribe
+            public void listen(IntegrityMessagesChangedEvent event) {
+                checkedEntries.addAll(event.getCheckedEntries());
+            }
+        });
+
+        assertFalse(service.isUpToDate());
+
+        BibEntry second = new BibEntry(StandardEntryType.Misc).withCitationKey("Jones2001");
+        database.insertEntry(second);
+
+        assertTrue(service.isUpToDate());
+        assertEquals(Set.of(first, second), new HashSet<>(checkedEntries));
+    }
+
+    @Test
+    void rejectedCheckIsRunWithNextChange() {
+        service.shutdown();
+        AtomicBoolean isRejecting = new AtomicBoolean(true);
+        service = new IntegrityCheckService(context, () -> integrityCheck, runnable -> {
+            if (isRejecting.get()) {
+                throw new RejectedExecutionException();
+            }
+            runnable.run();
+        });
+
+        assertFalse(service.isUpToDate());
+
+        isRejecting.set(false);
+        BibEntry second = new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000");
+        database.insertEntry(second);
+
+        assertTrue(service.isUpToDate());
+        assertEquals(List.of(duplicateKeyMessage(first)), duplicateKeyMessages(first));
+    }
+
+    @Test
+    void changedModeRecreatesCheck() {
+        service.shutdown();
+        AtomicInteger createdChecks = new AtomicInteger();
+        service = createService(() -> {
+            createdChecks.incrementAndGet();
+            return integrityCheck;
+        });
+
+        context.setMode(BibDatabaseMode.BIBTEX);
+
+        assertEquals(2, createdChecks.get());
+        assertTrue(service.isUpToDate());
+    }
+
+    private IntegrityCheckService createService(Supplier<IntegrityCheck> integrityCheckFactory) {
+        // checks synchronously
+        return new IntegrityCheckService(context, integrityCheckFactory, Runnable::run);
+    }
+
+    private List<IntegrityMessage> duplicateKeyMessages(BibEntry entry) {
+        return service.getMessages(entry).stream()
+                      .filter(message -> message.getField() == StandardField.KEY)
+                      .toList();
+    }
+
+    private static IntegrityMessage duplicateKeyMessage(BibEntry entry) {
+        return new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY);
+    }
+}
@@ -3,9 +3,11 @@ package org.jabref.logic.integrity;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -13,6 +15,7 @@ import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -34,6 +37,7 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -145,6 +149,59 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkReportsMessagesOfEachEntryWhileChecking() {
+        BibEntry first = new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000");
+        BibEntry second = new BibEntry(StandardEntryType.Misc).withCitationKey("Smith2000");
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        List<IntegrityMessage> reported = Collections.synchronizedList(new ArrayList<>());
+
+        List<IntegrityMessage> messages = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false)
+                .check(reported::addAll, () -> false);
+
+        assertTrue(messages.contains(new IntegrityMessage(Localization.lang("Duplicate citation key"), second, StandardField.KEY)));
+        assertEquals(Set.copyOf(messages), Set.copyOf(reported));
+    }
+
+    @Test
+    void parallelCheckOfSharedAuthorsEqualsSequentialCheck() {
+        // Many entries share the same author strings, so the parsed author lists are shared between the checking threads
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, (i % 2 == 0) ? "M{\\\"u}ller, Hans and Smith, John" : "Jones, Anna and"));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(entries));
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false);
+
+        List<IntegrityMessage> expected = new ArrayList<>();
+        entries.forEach(entry -> expected.addAll(integrityCheck.checkEntry(entry)));
+        expected.addAll(integrityCheck.checkDatabase(context.getDatabase()));
+
+        assertEquals(expected, integrityCheck.check());
+    }
+
+    @Test
+    void cancelledCheckSkipsRemainingEntries() {
+        BibDatabaseContext context = createContext(StandardField.TITLE, "Not {capitalized");
+
+        List<IntegrityMessage> messages = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false)
+                .check(reported -> {
+                }, () -> true);
+
+        assertEquals(Collections.emptyList(), messages);
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry();
         entry.setField(field, value);
@@ -1,5 +1,8 @@
 package org.jabref.logic.journals;
 
+import java.util.List;
+import java.util.Locale;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -134,4 +137,25 @@ class JournalAbbreviationRepositoryTest {
     void getFromAbbreviatedName() {
         assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("Am. J. Public Health").get());
     }
+
+    @Test
+    void customAbbreviationIsFoundIgnoringCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals("L. N.", repository.getDefaultAbbreviation("long NAME").orElse("WRONG"));
+        assertTrue(repository.isKnownName("ln"));
+        assertTrue(repository.isAbbreviatedName("l. n."));
+        assertFalse(repository.isAbbreviatedName("long name"));
+    }
+
+    @Test
+    void fullNamesContainingTextIncludeBuiltInAndCustomJournals() {
+        repository.addCustomAbbreviation(new Abbreviation("Journal of Public Healthcare Foo", "J. Public Healthc. Foo"));
+
+        List<String> names = repository.getFullNamesContaining("public HEALTH").toList();
+
+        assertTrue(names.contains("American Journal of Public Health"));
+        assertTrue(names.contains("Journal of Public Healthcare Foo"));
+        assertTrue(names.stream().allMatch(name -> name.toLowerCase(Locale.ROOT).contains("public health")));
+    }
 }
@@ -0,0 +1,79 @@
+package org.jabref.logic.metrics;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MetricsRegistryTest {
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    void returnsSameMetricForSameName() {
+        assertSame(registry.timer("importer.parse"), registry.timer("importer.parse"));
+    }
+
+    @Test
+    void histogramReportsPercentilesWithinFactorOfTwo() {
+        Histogram histogram = registry.histogram("sizes");
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean());
+        assertEquals(63, histogram.getPercentile(0.5));
+        assertEquals(100, histogram.getPercentile(0.95));
+        assertEquals(100, histogram.getMax());
+    }
+
+    @Test
+    void timerConvertsDurationsToMillisecondsInSnapshot() {
+        registry.timer("exporter.save").record(Duration.ofMillis(3));
+
+        MetricSnapshot snapshot = registry.getSnapshots().get(0);
+
+        assertEquals(MetricSnapshot.Kind.TIMER, snapshot.kind());
+        assertEquals(1, snapshot.count());
+        assertEquals(3.0, snapshot.mean());
+    }
+
+    @Test
+    void resetKeepsGauges() {
+        registry.counter("indexing.files").add(5);
+        registry.registerGauge("tasks.queued", () -> 2);
+
+        registry.reset();
+
+        assertEquals(List.of(
+                        new MetricSnapshot("indexing.files", MetricSnapshot.Kind.COUNTER, 0, 0, 0, 0, 0),
+                        new MetricSnapshot("tasks.queued", MetricSnapshot.Kind.GAUGE, 2, 0, 0, 0, 0)),
+                registry.getSnapshots());
+    }
+
+    @Test
+    void exportWritesOneLinePerMetric(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("metrics.txt");
+        registry.counter("importer.parsedEntries").add(42);
+
+        registry.exportTo(file);
+
+        assertEquals(List.of(
+                        "name\tkind\tcount\tmean\tmedian\tp95\tmax",
+                        "importer.parsedEntries\tCOUNTER\t42\t0.000\t0.000\t0.000\t0.000"),
+                Files.readAllLines(file));
+    }
+}
@@ -0,0 +1,148 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private HttpServer server;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private URL url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/entry", exchange -> {
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                fullResponses.incrementAndGet();
+                byte[] body = "@article{key, title = {Cached}}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        url = new URL("http://localhost:" + server.getAddress().getPort() + "/entry");
+    }
+
+    @AfterEach
+    void tearDown() {
+        URLDownload.setResponseCache(null);
+        server.stop(0);
+    }
+
+    @Test
+    void freshResponseIsServedFromCache(@TempDir Path directory) throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(directory, Duration.ofHours(1), 1024 * 1024));
+
+        String first = read(new URLDownload(url));
+        String second = read(new URLDownload(url));
+
+        assertEquals(first, second);
+        assertEquals(1, fullResponses.get());
+        assertEquals(0, notModifiedResponses.get());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedWithETag(@TempDir Path directory) throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(directory, Duration.ZERO, 1024 * 1024));
+
+        String first = read(new URLDownload(url));
+        String second = read(new URLDownload(url));
+
+        assertEquals(first, second);
+        assertEquals(1, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void differentHeadersAreCachedSeparately(@TempDir Path directory) throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(directory, Duration.ofHours(1), 1024 * 1024));
+
+        read(new URLDownload(url));
+        URLDownload download = new URLDownload(url);
+        download.addHeader("Accept", "application/x-bibtex");
+        read(download);
+
+        assertEquals(2, fullResponses.get());
+    }
+
+    @Test
+    void uncachedMethodsBypassCache(@TempDir Path directory) throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(directory, Duration.ofHours(1), 1024 * 1024));
+
+        new URLDownload(url).asString();
+        new URLDownload(url).asString();
+        try (InputStream input = new URLDownload(url).asInputStream()) {
+            input.readAllBytes();
+        }
+
+        assertEquals(3, fullResponses.get());
+        assertEquals(0, new HttpResponseCache(directory, Duration.ofHours(1), 1024 * 1024).getSize());
+    }
+
+    @Test
+    void leastRecentlyUsedResponsesAreEvicted(@TempDir Path directory) {
+        Clock clock = Clock.fixed(Instant.parse("2022-10-01T00:00:00Z"), ZoneOffset.UTC);
+        new HttpResponseCache(directory, Duration.ofHours(1), 10, clock)
+                .put("first", new byte[6], Optional.empty(), Optional.empty());
+        HttpResponseCache cache = new HttpResponseCache(directory, Duration.ofHours(1), 10, Clock.offset(clock, Duration.ofMinutes(1)));
+        cache.put("second", new byte[6], Optional.empty(), Optional.empty());
+
+        assertEquals(6, cache.getSize());
+        assertTrue(cache.get("second").isPresent());
+    }
+
+    @Test
+    void requestIsNotWrittenToDisk(@TempDir Path directory) throws IOException {
+        HttpResponseCache cache = new HttpResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+
+        cache.put("https://example.org/search?apikey=secret", new byte[1], Optional.of(ETAG), Optional.empty());
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                assertFalse(file.getFileName().toString().contains("secret"));
+                assertFalse(Files.readString(file, StandardCharsets.ISO_8859_1).contains("secret"));
+            }
+        }
+        assertTrue(cache.get("https://example.org/search?apikey=secret").isPresent());
+    }
+
+    private static String read(URLDownload download) throws IOException {
+        try (InputStream input = download.asCachedInputStream()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
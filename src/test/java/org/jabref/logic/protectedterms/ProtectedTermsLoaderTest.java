@@ -17,6 +17,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProtectedTermsLoaderTest {
@@ -44,6 +45,29 @@ class ProtectedTermsLoaderTest {
         assertEquals(Arrays.asList("Einstein"), loader.getProtectedTerms());
     }
 
+    @Test
+    void matcherIsRebuiltWhenListIsDisabled() {
+        ProtectedTermsMatcher matcher = loader.getProtectedTermsMatcher();
+        assertSame(matcher, loader.getProtectedTermsMatcher());
+
+        loader.getProtectedTermsLists().forEach(list -> list.setEnabled(false));
+
+        assertEquals("VLSI", loader.getProtectedTermsMatcher().protect("VLSI"));
+    }
+
+    @Test
+    void matcherIsRebuiltWhenTermIsReplaced() {
+        ProtectedTermsList list = new ProtectedTermsList("Test", new ArrayList<>(List.of("Xyzzy")), "test.terms");
+        list.setEnabled(true);
+        loader.getProtectedTermsLists().add(list);
+        assertEquals("{Xyzzy}", loader.getProtectedTermsMatcher().protect("Xyzzy"));
+
+        list.getTermList().set(0, "Plugh");
+
+        assertEquals("Xyzzy", loader.getProtectedTermsMatcher().protect("Xyzzy"));
+        assertEquals("{Plugh}", loader.getProtectedTermsMatcher().protect("Plugh"));
+    }
+
     @Test
     void testAddProtectedTermsListFromFile() throws URISyntaxException {
         String filename = Path.of(
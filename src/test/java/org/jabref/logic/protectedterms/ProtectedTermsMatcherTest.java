@@ -0,0 +1,42 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProtectedTermsMatcherTest {
+
+    private final ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(List.of("VLSI", "3GPP", "3G", "H.264", "she", "hers"));
+
+    @Test
+    void protectsAdjacentOccurrences() {
+        assertEquals("{VLSI} {VLSI}", matcher.protect("VLSI VLSI"));
+    }
+
+    @Test
+    void prefersLongestTerm() {
+        assertEquals("{3GPP} {3G}", matcher.protect("3GPP 3G"));
+    }
+
+    @Test
+    void matchesTermsLiterally() {
+        assertEquals("H1264 and {H.264}", matcher.protect("H1264 and H.264"));
+    }
+
+    @Test
+    void doesNotProtectPartsOfWords() {
+        assertEquals("ushers VLSIs", matcher.protect("ushers VLSIs"));
+    }
+
+    @Test
+    void protectsTermsSeparatedByHyphen() {
+        assertEquals("{she}-{hers}", matcher.protect("she-hers"));
+    }
+
+    @Test
+    void protectsTermFollowedByDigit() {
+        assertEquals("{VLSI}2", matcher.protect("VLSI2"));
+    }
+}
@@ -0,0 +1,153 @@
+package org.jabref.logic.texparser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LatexCitationIndexTest {
+
+    @TempDir Path directory;
+    @TempDir Path cacheDirectory;
+
+    private FileUpdateMonitor fileMonitor;
+    private Path mainFile;
+    private Path chapterFile;
+    private Path indexFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileMonitor = mock(FileUpdateMonitor.class);
+        mainFile = directory.toAbsolutePath().resolve("main.tex");
+        chapterFile = directory.toAbsolutePath().resolve("chapters").resolve("intro.tex");
+        indexFile = cacheDirectory.resolve("index.bin");
+        Files.createDirectories(chapterFile.getParent());
+        Files.writeString(mainFile, "See \\cite{Einstein1905}.\n\\input{chapters/intro}\n");
+        Files.writeString(chapterFile, "% \\cite{Commented}\nAs shown by \\citet{Einstein1905, Bohr1913}.\n");
+    }
+
+    @Test
+    void findsCitationsInAllFiles() throws Exception {
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        assertEquals(2, index.getCitationsByKey("Einstein1905").size());
+        assertEquals(List.of(new Citation(chapterFile, 2, 12, 42, "As shown by \\citet{Einstein1905, Bohr1913}.")),
+                List.copyOf(index.getCitationsByKey("Bohr1913")));
+        assertEquals(List.of(), List.copyOf(index.getCitationsByKey("Commented")));
+    }
+
+    @Test
+    void citationsAreOrderedByFileAndLine() throws Exception {
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        assertEquals(List.of(chapterFile, mainFile),
+                index.getCitationsByKey("Einstein1905").stream().map(Citation::getPath).toList());
+    }
+
+    @Test
+    void updatesChangedFile() throws Exception {
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        Files.writeString(chapterFile, "Now citing \\cite{Planck1900} only.\n");
+        captureDirectoryListener().fileUpdated();
+
+        assertEquals(1, index.getCitationsByKey("Planck1900").size());
+        assertEquals(List.of(), List.copyOf(index.getCitationsByKey("Bohr1913")));
+        assertEquals(1, index.getCitationsByKey("Einstein1905").size());
+    }
+
+    @Test
+    void findsCreatedAndForgetsDeletedFiles() throws Exception {
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        Files.writeString(directory.resolve("chapters").resolve("outlook.tex"), "\\cite{Planck1900}\n");
+        Files.delete(chapterFile);
+        captureDirectoryListener().fileUpdated();
+
+        assertEquals(1, index.getCitationsByKey("Planck1900").size());
+        assertEquals(List.of(), List.copyOf(index.getCitationsByKey("Bohr1913")));
+    }
+
+    @Test
+    void parsesOnlyReportedFilesAgain() throws Exception {
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        Files.writeString(mainFile, "See \\cite{Curie1898}.\n");
+        Files.writeString(chapterFile, "Now citing \\cite{Planck1900} only.\n");
+        captureDirectoryListener().filesUpdated(Set.of(mainFile));
+
+        assertEquals(1, index.getCitationsByKey("Curie1898").size());
+        assertEquals(List.of(), List.copyOf(index.getCitationsByKey("Planck1900")));
+        assertEquals(1, index.getCitationsByKey("Bohr1913").size());
+    }
+
+    @Test
+    void searchesReportedDirectoryForCreatedAndDeletedFiles() throws Exception {
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        Files.writeString(chapterFile.resolveSibling("outlook.tex"), "\\cite{Planck1900}\n");
+        Files.delete(chapterFile);
+        captureDirectoryListener().filesUpdated(Set.of(chapterFile.getParent()));
+
+        assertEquals(1, index.getCitationsByKey("Planck1900").size());
+        assertEquals(List.of(), List.copyOf(index.getCitationsByKey("Bohr1913")));
+        assertEquals(1, index.getCitationsByKey("Einstein1905").size());
+    }
+
+    @Test
+    void unregisterRemovesDirectoryListener() throws Exception {
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+        FileUpdateListener listener = captureDirectoryListener();
+
+        index.unregister();
+
+        verify(fileMonitor).removeListener(directory.toAbsolutePath(), listener);
+    }
+
+    @Test
+    void reusesStoredIndexForUnchangedFiles() throws Exception {
+        LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        // same size and modification time, so the stored content is taken
+        FileTime lastModified = Files.getLastModifiedTime(mainFile);
+        Files.writeString(mainFile, "See \\cite{Einstein1906}.\n\\input{chapters/intro}\n");
+        Files.setLastModifiedTime(mainFile, lastModified);
+
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        assertEquals(2, index.getCitationsByKey("Einstein1905").size());
+        assertEquals(List.of(), List.copyOf(index.getCitationsByKey("Einstein1906")));
+    }
+
+    @Test
+    void parsesFilesChangedSinceStoredIndex() throws Exception {
+        LatexCitationIndex.build(directory, fileMonitor, indexFile);
+        Files.writeString(mainFile, "See \\cite{Curie1898}.\n");
+
+        LatexCitationIndex index = LatexCitationIndex.build(directory, fileMonitor, indexFile);
+
+        assertEquals(1, index.getCitationsByKey("Curie1898").size());
+        assertEquals(1, index.getCitationsByKey("Einstein1905").size());
+    }
+
+    private FileUpdateListener captureDirectoryListener() throws Exception {
+        ArgumentCaptor<FileUpdateListener> listener = ArgumentCaptor.forClass(FileUpdateListener.class);
+        verify(fileMonitor).addListenerForDirectory(eq(directory.toAbsolutePath()), listener.capture());
+        return listener.getValue();
+    }
+}
@@ -0,0 +1,156 @@
+package org.jabref.logic.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSchedulerTest {
+
+    private static final long TIMEOUT_IN_SECONDS = 5;
+
+    private TaskScheduler scheduler;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        // Two workers: one for interactive tasks, one for background and bulk tasks
+        scheduler = new TaskScheduler(2, 1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void submitReturnsResult() throws Exception {
+        Future<String> result = scheduler.submit(() -> "done", TaskPriority.BACKGROUND, null);
+
+        assertEquals("done", result.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void interactiveTaskRunsWhileBulkTasksWait() throws Exception {
+        Future<?> blocker = blockNonInteractiveWorker(TaskPriority.BULK);
+        Future<?> waitingBulkTask = scheduler.execute(() -> { }, TaskPriority.BULK, null);
+
+        Future<?> interactiveTask = scheduler.execute(() -> { }, TaskPriority.INTERACTIVE, null);
+        interactiveTask.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse(waitingBulkTask.isDone());
+        assertEquals(1, scheduler.getQueueLength(TaskPriority.BULK));
+
+        release.countDown();
+        blocker.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        waitingBulkTask.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void ownersTakeTurns() throws Exception {
+        scheduler = new TaskScheduler(2, 10);
+        Future<?> blocker = blockNonInteractiveWorker(TaskPriority.BACKGROUND);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        scheduler.execute(() -> order.add("a1"), TaskPriority.BACKGROUND, "a");
+        scheduler.execute(() -> order.add("a2"), TaskPriority.BACKGROUND, "a");
+        Future<?> last = scheduler.execute(() -> order.add("b1"), TaskPriority.BACKGROUND, "b");
+
+        release.countDown();
+        blocker.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        last.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        scheduler.shutdown();
+
+        assertEquals(List.of("a1", "b1", "a2"), order);
+    }
+
+    @Test
+    void rejectsTaskIfQueueIsFull() throws Exception {
+        blockNonInteractiveWorker(TaskPriority.BACKGROUND);
+        scheduler.execute(() -> { }, TaskPriority.BACKGROUND, null);
+        List<Thread> threads = new ArrayList<>();
+
+        assertThrows(RejectedExecutionException.class,
+                () -> scheduler.execute(() -> threads.add(Thread.currentThread()), TaskPriority.BACKGROUND, null));
+        assertEquals(List.of(), threads);
+    }
+
+    @Test
+    void shutdownCancelsWaitingBackgroundTasks() throws Exception {
+        Future<?> blocker = blockNonInteractiveWorker(TaskPriority.BACKGROUND);
+        Future<?> waitingTask = scheduler.execute(() -> { }, TaskPriority.BACKGROUND, null);
+
+        Thread shutdown = new Thread(scheduler::shutdown);
+        shutdown.start();
+
+        // The waiting task cannot start while the worker is blocked, so it only completes by being canceled
+        assertThrows(CancellationException.class, () -> waitingTask.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        release.countDown();
+        shutdown.join();
+        assertTrue(blocker.isDone());
+        assertThrows(RejectedExecutionException.class, () -> scheduler.execute(() -> { }, TaskPriority.INTERACTIVE, null));
+    }
+
+    @Test
+    void canceledTaskLeavesQueue() throws Exception {
+        blockNonInteractiveWorker(TaskPriority.BACKGROUND);
+        Future<?> waitingTask = scheduler.execute(() -> { }, TaskPriority.BACKGROUND, null);
+
+        waitingTask.cancel(false);
+
+        assertEquals(0, scheduler.getQueueLength(TaskPriority.BACKGROUND));
+    }
+
+    @Test
+    void invokeAllFromWorkerDoesNotExhaustWorkers() throws Exception {
+        scheduler = new TaskScheduler(2, 10);
+        List<Callable<Integer>> tasks = List.of(() -> 1, () -> 2, () -> 3);
+
+        // Both workers wait for the results of further tasks
+        Future<Integer> first = scheduler.submit(() -> sum(scheduler.invokeAll(tasks, TaskPriority.INTERACTIVE, null)), TaskPriority.INTERACTIVE, null);
+        Future<Integer> second = scheduler.submit(() -> sum(scheduler.invokeAll(tasks, TaskPriority.INTERACTIVE, null)), TaskPriority.INTERACTIVE, null);
+
+        assertEquals(6, first.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertEquals(6, second.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Occupies the only worker which may run background and bulk tasks until {@link #release} is counted down.
+     */
+    private Future<?> blockNonInteractiveWorker(TaskPriority priority) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> blocker = scheduler.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, priority, null);
+        assertTrue(started.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        return blocker;
+    }
+
+    private static int sum(List<Future<Integer>> results) throws Exception {
+        int sum = 0;
+        for (Future<Integer> result : results) {
+            sum += result.get();
+        }
+        return sum;
+    }
+}
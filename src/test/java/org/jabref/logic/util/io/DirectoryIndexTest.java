@@ -0,0 +1,63 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryIndexTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private Path pdfInRoot;
+    private Path pdfInSubDir;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws Exception {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectories(rootDir.resolve("papers/2003"));
+        pdfInRoot = Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        pdfInSubDir = Files.createFile(subDir.resolve("HipKro03 - Hello.pdf"));
+        Files.createFile(subDir.resolve("Other.pdf"));
+    }
+
+    @Test
+    void findsFilesByNamePrefixInAllDirectories() throws Exception {
+        DirectoryIndex index = DirectoryIndex.of(List.of(rootDir));
+
+        assertEquals(Set.of(pdfInRoot, pdfInSubDir), Set.copyOf(index.getFilesWithNamePrefix("HipKro03")));
+        assertEquals(List.of(), index.getFilesWithNamePrefix("HipKro04"));
+    }
+
+    @Test
+    void listsSubdirectoriesRecursively() throws Exception {
+        DirectoryIndex index = DirectoryIndex.of(List.of(rootDir));
+
+        assertEquals(List.of(rootDir.resolve("papers"), subDir), index.getSubdirectories(rootDir));
+        assertTrue(index.contains(subDir));
+        assertFalse(index.contains(pdfInRoot));
+    }
+
+    @Test
+    void nestedRootDirectoryIsIndexedOnce() throws Exception {
+        DirectoryIndex index = DirectoryIndex.of(List.of(subDir, rootDir));
+
+        assertEquals(List.of(pdfInSubDir), index.getFilesWithNamePrefix("HipKro03 "));
+        assertEquals(List.of(rootDir.resolve("papers")), index.getChildren(rootDir).stream().filter(index::contains).toList());
+    }
+
+    @Test
+    void missingDirectoryIsSkipped() throws Exception {
+        DirectoryIndex index = DirectoryIndex.of(List.of(rootDir.resolve("missing")));
+
+        assertEquals(List.of(), index.getFilesWithNamePrefix(""));
+    }
+}
@@ -70,6 +70,16 @@ class RegExpBasedFileFinderTests {
         assertEquals(expected, result);
     }
 
+    @Test
+    void findFilesInIndexEqualsFindFilesOnDisk() throws Exception {
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[year]_[auth]_[firstpage].*\\\\.[extension]", ',');
+
+        List<Path> result = fileFinder.findAssociatedFiles(entry, DirectoryIndex.of(List.of(directory)), PDF_EXTENSION);
+
+        assertEquals(fileFinder.findAssociatedFiles(entry, List.of(directory), PDF_EXTENSION), result);
+        assertEquals(List.of(directory.resolve("directory/subdirectory/2003_Hippel_209.pdf")), result);
+    }
+
     @Test
     void testYearAuthFirstPageFindFiles() throws Exception {
         // given
@@ -2,7 +2,12 @@ package org.jabref.model.entry;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
@@ -1213,4 +1218,31 @@ public class AuthorListTest {
         AuthorList secondAuthorList = AuthorList.of(new Author("B", null, null, null, null));
         assertNotEquals(firstAuthorList.hashCode(), secondAuthorList.hashCode());
     }
+
+    @Test
+    public void parseReturnsCachedAuthorList() {
+        String authors = "Doe, John and Smith, Jane " + System.nanoTime();
+        AuthorList parsed = AuthorList.parse(authors);
+        long hits = AuthorList.getCacheStats().hitCount();
+
+        assertSame(parsed, AuthorList.parse(authors));
+        assertTrue(AuthorList.getCacheStats().hitCount() > hits);
+    }
+
+    @Test
+    public void parseFromSeveralThreadsReturnsOneAuthorList() throws Exception {
+        String authors = "Doe, John and Smith, Jane " + System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<AuthorList>> parses = Collections.nCopies(8, () -> AuthorList.parse(authors));
+            List<Future<AuthorList>> results = executor.invokeAll(parses);
+
+            AuthorList first = results.get(0).get();
+            for (Future<AuthorList> result : results) {
+                assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package org.jabref.model.openoffice.style;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CitationLookupIndexTest {
+
+    private final BibEntry firstSmith = new BibEntry().withCitationKey("Smith2020");
+    private final BibEntry secondSmith = new BibEntry().withCitationKey("Smith2020");
+    private final BibEntry doe = new BibEntry().withCitationKey("Doe2021");
+    private final BibDatabase firstDatabase = new BibDatabase(List.of(firstSmith));
+    private final BibDatabase secondDatabase = new BibDatabase(List.of(secondSmith, doe));
+
+    @Test
+    void lookupGivesSameResultAsScanningDatabases() {
+        CitationLookupIndex index = new CitationLookupIndex(List.of(firstDatabase, secondDatabase));
+
+        for (String key : List.of("Smith2020", "Doe2021", "Unknown")) {
+            assertEquals(Citation.lookup(List.of(firstDatabase, secondDatabase), key), index.lookup(key));
+        }
+    }
+
+    @Test
+    void firstDatabaseContainingKeyWins() {
+        CitationLookupIndex index = new CitationLookupIndex(List.of(firstDatabase, secondDatabase));
+
+        CitationLookupResult result = index.lookup("Smith2020").orElseThrow();
+
+        assertSame(firstSmith, result.entry);
+        assertSame(firstDatabase, result.database);
+    }
+
+    @Test
+    void getEntryByCitationKeyLooksOnlyInGivenDatabase() {
+        CitationLookupIndex index = new CitationLookupIndex(List.of(firstDatabase, secondDatabase));
+
+        assertEquals(Optional.empty(), index.getEntryByCitationKey(firstDatabase, "Doe2021"));
+        assertSame(secondSmith, index.getEntryByCitationKey(secondDatabase, "Smith2020").orElseThrow());
+    }
+}
@@ -0,0 +1,35 @@
+package org.jabref.model.strings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatexToUnicodeAdapterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Journal of Foo", "O'Connor, Jean-Paul", "Proc. IEEE (2nd ed.): 12/3"})
+    void plainTextIsReturnedUnchanged(String text) {
+        assertTrue(LatexToUnicodeAdapter.isPlainText(text));
+        assertEquals(text, LatexToUnicodeAdapter.format(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"M\\\"{o}nch", "{IEEE}", "$x$", "a_b", "a~b", "1--2", "''quoted''", "two  spaces", " leading", "Müller", ""})
+    void textWithLatexIsNotPlainText(String text) {
+        assertFalse(LatexToUnicodeAdapter.isPlainText(text));
+    }
+
+    @Test
+    void repeatedConversionIsTakenFromCache() {
+        String text = "Caf\\'{e} " + System.nanoTime();
+        String converted = LatexToUnicodeAdapter.format(text);
+        long hits = LatexToUnicodeAdapter.getCacheStats().hitCount();
+
+        assertEquals(converted, LatexToUnicodeAdapter.format(text));
+        assertTrue(LatexToUnicodeAdapter.getCacheStats().hitCount() > hits);
+    }
+}